@@ -0,0 +1,102 @@
+package com.accenture.taskmanager.benchmark;
+
+import com.accenture.taskmanager.api.model.TaskPageResponse;
+import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmarks for JSON serialization of task pages.
+ *
+ * Uses the ObjectMapper Spring Boot builds with the prod profile settings
+ * (no indentation, ISO dates, non-null inclusion), so changes to the
+ * Jackson configuration show up here. Only Jackson auto-configuration is
+ * started; no database is needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+
+    /**
+     * Number of tasks in the page (50 is the default page size, 500 the maximum).
+     */
+    @Param({"1", "50", "500"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private TaskPageResponse page;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .profiles("prod")
+                .run();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        OffsetDateTime timestamp = OffsetDateTime.of(2026, 10, 17, 12, 0, 0, 0, ZoneOffset.UTC);
+        List<TaskResponse> items = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            items.add(new TaskResponse()
+                    .id(id)
+                    .title("Task " + id)
+                    .description("Description of task " + id)
+                    .status(TaskStatus.values()[(int) (id % 3)])
+                    .dueDate(LocalDate.of(2026, 12, 31).minusDays(id % 90))
+                    .createdAt(timestamp)
+                    .updatedAt(timestamp));
+        }
+        page = new TaskPageResponse().items(items).nextCursor("MTI");
+        json = objectMapper.writeValueAsBytes(page);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] writeTaskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public TaskPageResponse readTaskPage() throws IOException {
+        return objectMapper.readValue(json, TaskPageResponse.class);
+    }
+
+}
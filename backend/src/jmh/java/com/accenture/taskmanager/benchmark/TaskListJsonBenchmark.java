@@ -0,0 +1,139 @@
+package com.accenture.taskmanager.benchmark;
+
+import com.accenture.taskmanager.api.model.TaskPageResponse;
+import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatus;
+import com.accenture.taskmanager.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Micro-benchmarks for serializing large task lists.
+ *
+ * Covers the cost of list endpoints and /tasks/export with 10,000 and
+ * 100,000 tasks, with and without the Blackbird module (JacksonConfig), and
+ * with the gzip compression Tomcat applies for clients that accept it
+ * (server.compression). The payload is written to a null stream, so only
+ * serialization and compression are measured. Raw and gzipped sizes are
+ * printed once per trial.
+ *
+ * Uses the ObjectMapper Spring Boot builds with the prod profile settings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaskListJsonBenchmark {
+
+    /**
+     * Number of tasks in the list.
+     */
+    @Param({"10000", "100000"})
+    public int size;
+
+    /**
+     * Whether the Blackbird module is registered (jackson.blackbird.enabled).
+     */
+    @Param({"true", "false"})
+    public boolean blackbird;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ObjectWriter exportWriter;
+    private TaskPageResponse page;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class, JacksonConfig.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .profiles("prod")
+                .run("--jackson.blackbird.enabled=" + blackbird);
+        objectMapper = context.getBean(ObjectMapper.class);
+        exportWriter = objectMapper.writerFor(TaskResponse.class).without(SerializationFeature.INDENT_OUTPUT);
+
+        OffsetDateTime timestamp = OffsetDateTime.of(2026, 10, 17, 12, 0, 0, 0, ZoneOffset.UTC);
+        List<TaskResponse> items = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            items.add(new TaskResponse()
+                    .id(id)
+                    .title("Task " + id)
+                    .description("Description of task " + id)
+                    .status(TaskStatus.values()[(int) (id % 3)])
+                    .dueDate(LocalDate.of(2026, 12, 31).minusDays(id % 90))
+                    .createdAt(timestamp)
+                    .updatedAt(timestamp));
+        }
+        page = new TaskPageResponse().items(items).nextCursor("MTI");
+
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(json);
+        }
+        System.out.printf("%n%d tasks: %,d bytes as JSON, %,d bytes gzipped%n", size, json.length, gzipped.size());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void writeTaskList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void writeTaskListGzipped() throws IOException {
+        try (GZIPOutputStream gzip = new GZIPOutputStream(OutputStream.nullOutputStream(), 8192)) {
+            objectMapper.writeValue(gzip, page);
+        }
+    }
+
+    /**
+     * One JSON object per task, the way TaskController.exportTasks writes
+     * NDJSON.
+     */
+    @Benchmark
+    public void exportTasks() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        for (TaskResponse task : page.getItems()) {
+            out.write(exportWriter.writeValueAsBytes(task));
+            out.write('\n');
+        }
+    }
+
+}
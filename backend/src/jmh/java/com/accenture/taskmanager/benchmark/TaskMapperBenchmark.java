@@ -0,0 +1,89 @@
+package com.accenture.taskmanager.benchmark;
+
+import com.accenture.taskmanager.api.model.TaskRequest;
+import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.mapper.TaskMapper;
+import com.accenture.taskmanager.mapper.TaskMapperImpl;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmarks for TaskMapper.
+ *
+ * Measures the MapStruct-generated mappings used on every request:
+ * - toEntity: request body to entity (create and update)
+ * - toResponse: entity to response, including the Instant conversion
+ * - instantToOffsetDateTime and the enum valueOf round trip on their own
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    private TaskMapper taskMapper;
+    private TaskRequest request;
+    private Task task;
+    private Instant instant;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapperImpl();
+        request = TaskRequest.builder()
+                .title("Prepare quarterly report")
+                .description("Collect numbers from every team and draft the summary")
+                .status(com.accenture.taskmanager.api.model.TaskStatus.IN_PROGRESS)
+                .dueDate(LocalDate.of(2026, 12, 31))
+                .build();
+        instant = Instant.parse("2026-10-17T12:00:00Z");
+        task = Task.builder()
+                .id(42L)
+                .title("Prepare quarterly report")
+                .description("Collect numbers from every team and draft the summary")
+                .status(TaskStatus.IN_PROGRESS)
+                .dueDate(LocalDate.of(2026, 12, 31))
+                .createdAt(instant)
+                .updatedAt(instant)
+                .version(3L)
+                .build();
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public OffsetDateTime instantToOffsetDateTime() {
+        return taskMapper.instantToOffsetDateTime(instant);
+    }
+
+    @Benchmark
+    public TaskStatus statusRoundTrip() {
+        return taskMapper.mapApiStatusToEntityStatus(
+                taskMapper.mapEntityStatusToApiStatus(task.getStatus()));
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.accenture.taskmanager.benchmark;
+
+import com.accenture.taskmanager.TaskManagerApplication;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskSort;
+import com.accenture.taskmanager.service.TaskPage;
+import com.accenture.taskmanager.service.TaskService;
+import com.accenture.taskmanager.service.TaskStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for TaskService against an in-memory H2 database.
+ *
+ * Starts the application context without the web layer on the test
+ * profile and seeds it with tasks once per run. Measures the service
+ * including transactions, Hibernate and the cache:
+ * - getTaskByIdCached: cache hit, no database access
+ * - getTasksPage / getTasksByStatusAndDueDate: keyset page queries
+ * - updateTask: single-statement UPDATE ... RETURNING
+ * - getStats: both aggregate queries (stats cache disabled)
+ *
+ * H2 numbers show the cost of the Java side; database costs on PostgreSQL
+ * differ and are covered by the load test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private static final int TASK_COUNT = 5_000;
+
+    private static final TaskFilter OPEN_TASKS = new TaskFilter(TaskStatus.TODO, null, null);
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private long[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .profiles("test")
+                // Passed as arguments to take precedence over application.yml;
+                // statement logging of the default profile would dominate the timings
+                .run("--spring.devtools.restart.enabled=false",
+                        "--task-stats.cache-ttl=0s",
+                        "--logging.level.com.accenture.taskmanager=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        taskService = context.getBean(TaskService.class);
+
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(newTask("Task " + i, TaskStatus.values()[i % 3], LocalDate.of(2026, 1, 1).plusDays(i % 365)));
+        }
+        ids = new long[TASK_COUNT];
+        int i = 0;
+        for (int from = 0; from < TASK_COUNT; from += 1000) {
+            for (Task created : taskService.createTasks(tasks.subList(from, from + 1000))) {
+                ids[i++] = created.getId();
+            }
+        }
+        // Every id is cached before measuring getTaskByIdCached
+        for (long id : ids) {
+            taskService.getTaskById(id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task getTaskByIdCached() {
+        return taskService.getTaskById(nextId());
+    }
+
+    @Benchmark
+    public TaskPage getTasksPage() {
+        return taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 50);
+    }
+
+    @Benchmark
+    public TaskPage getTasksByStatusAndDueDate() {
+        return taskService.getTasks(OPEN_TASKS, TaskSort.DUE_DATE, null, 50);
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(nextId(), newTask("Updated", TaskStatus.IN_PROGRESS, LocalDate.of(2026, 6, 1)), null);
+    }
+
+    @Benchmark
+    public TaskStats getStats() {
+        return taskService.getStats();
+    }
+
+    private long nextId() {
+        long id = ids[next];
+        next = (next + 1) % ids.length;
+        return id;
+    }
+
+    private static Task newTask(String title, TaskStatus status, LocalDate dueDate) {
+        return Task.builder()
+                .title(title)
+                .description("Benchmark task")
+                .status(status)
+                .dueDate(dueDate)
+                .build();
+    }
+
+}
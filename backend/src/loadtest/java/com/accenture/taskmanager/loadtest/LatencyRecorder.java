@@ -0,0 +1,71 @@
+package com.accenture.taskmanager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and error count of one operation, recorded by one client.
+ *
+ * Not thread-safe: each client thread owns its recorders, and they are
+ * merged once the run is over. Samples are kept in full so the
+ * percentiles are exact rather than bucketed.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean error) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samples[i], false);
+        }
+        errors += other.errors;
+    }
+
+    /**
+     * Summarize the samples.
+     *
+     * @param seconds measured run time, for the throughput
+     * @return count, errors, throughput and latency percentiles in ms
+     */
+    Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1] / 1e6);
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds.
+     */
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    /**
+     * Result for one operation; latencies in milliseconds.
+     */
+    record Summary(long requests, long errors, double requestsPerSecond,
+                   double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+}
@@ -0,0 +1,282 @@
+package com.accenture.taskmanager.loadtest;
+
+import com.accenture.taskmanager.TaskManagerApplication;
+import com.accenture.taskmanager.config.PermitLimitedDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Load test of the task API on the prod profile against PostgreSQL.
+ *
+ * Starts a PostgreSQL container (or uses the server given by PGHOST etc.
+ * with --external-db), starts the application in this JVM with the prod
+ * profile on a random port, seeds tasks, and runs closed-loop clients:
+ * each client sends its next request as soon as the previous one is
+ * answered, choosing the operation by the configured mix.
+ *
+ * Reports per operation: requests, errors, throughput and p50/p99/p99.9/max
+ * latency, plus Hikari pool acquisition and Tomcat thread usage, so the
+ * effect of server.tomcat.threads.max and the pool size can be observed.
+ * In virtual-thread mode it also reports the database limiter queue.
+ * The report is printed and written as JSON (target/loadtest-result.json).
+ *
+ * Run with: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--concurrency=50"
+ */
+public final class LoadTest {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // DevTools is on the test classpath and would restart this main method
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (PostgreSQLContainer<?> postgres = options.externalDb() ? null
+                : new PostgreSQLContainer<>("postgres:16-alpine")) {
+            List<String> appArgs = new ArrayList<>();
+            appArgs.add("--server.port=0");
+            // Publishes tomcat.threads.busy for the report
+            appArgs.add("--server.tomcat.mbeanregistry.enabled=true");
+            if (postgres != null) {
+                postgres.start();
+                appArgs.add("--PGHOST=" + postgres.getHost());
+                appArgs.add("--PGPORT=" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT));
+                appArgs.add("--PGDATABASE=" + postgres.getDatabaseName());
+                appArgs.add("--PGUSER=" + postgres.getUsername());
+                appArgs.add("--PGPASSWORD=" + postgres.getPassword());
+            }
+            if (options.appArgs().stream().noneMatch(arg -> arg.startsWith("--rate-limit.enabled="))) {
+                // Every client shares one address; measure the server, not the rate limiter
+                appArgs.add("--rate-limit.enabled=false");
+            }
+            appArgs.addAll(options.appArgs());
+
+            try (ConfigurableApplicationContext app = new SpringApplicationBuilder(TaskManagerApplication.class)
+                    .profiles("prod")
+                    .run(appArgs.toArray(String[]::new))) {
+                run(options, app);
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, ConfigurableApplicationContext app) throws Exception {
+        int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+        ObjectMapper objectMapper = app.getBean(ObjectMapper.class);
+        MeterRegistry meterRegistry = app.getBean(MeterRegistry.class);
+        TaskApiClient client = new TaskApiClient("http://localhost:" + port + "/api", objectMapper);
+
+        TaskIdPool ids = client.seed(options.seedTasks());
+        System.out.printf("Seeded %d tasks; warming up for %s%n", ids.size(), options.warmup());
+        runClients(options, client, ids, options.warmup().toNanos(), null);
+
+        System.out.printf("Measuring %d clients for %s%n", options.concurrency(), options.duration());
+        ServerSampler sampler = new ServerSampler(meterRegistry, app.getBean(DataSource.class),
+                app.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        Map<Operation, LatencyRecorder> results = runClients(options, client, ids,
+                options.duration().toNanos(), sampler);
+
+        double seconds = options.duration().toNanos() / 1e9;
+        Map<String, LatencyRecorder.Summary> endpoints = new LinkedHashMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        results.forEach((operation, recorder) -> {
+            endpoints.put(operation.endpoint(), recorder.summarize(seconds));
+            total.merge(recorder);
+        });
+        endpoints.put("TOTAL", total.summarize(seconds));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", options.concurrency());
+        report.put("durationSeconds", seconds);
+        report.put("mix", options.mix());
+        report.put("appArgs", options.appArgs());
+        report.put("endpoints", endpoints);
+        report.put("server", sampler.summary());
+
+        print(endpoints, sampler.summary());
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), report);
+        System.out.printf("Report written to %s%n", options.output().toAbsolutePath());
+    }
+
+    /**
+     * Run the clients for the given time and merge their recorders.
+     */
+    private static Map<Operation, LatencyRecorder> runClients(LoadTestOptions options, TaskApiClient client,
+                                                              TaskIdPool ids, long nanos, ServerSampler sampler)
+            throws InterruptedException {
+        Operation[] schedule = schedule(options.mix());
+        long end = System.nanoTime() + nanos;
+        List<Map<Operation, LatencyRecorder>> perClient = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int c = 0; c < options.concurrency(); c++) {
+            Map<Operation, LatencyRecorder> recorders = newRecorders();
+            perClient.add(recorders);
+            Random random = new Random(c);
+            threads.add(Thread.ofPlatform().name("load-client-" + c).start(() -> {
+                while (System.nanoTime() < end) {
+                    Operation operation = schedule[random.nextInt(schedule.length)];
+                    long start = System.nanoTime();
+                    boolean error = client.execute(operation, ids, random);
+                    recorders.get(operation).record(System.nanoTime() - start, error);
+                }
+            }));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread samplerThread = sampler == null ? null : Thread.ofPlatform().daemon().start(() -> {
+            while (running.get()) {
+                sampler.sample();
+                try {
+                    Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        });
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        running.set(false);
+        if (samplerThread != null) {
+            samplerThread.join();
+            sampler.finish();
+        }
+
+        Map<Operation, LatencyRecorder> merged = newRecorders();
+        perClient.forEach(recorders -> recorders.forEach((operation, recorder) -> merged.get(operation).merge(recorder)));
+        merged.values().removeIf(recorder -> recorder.count() == 0);
+        return merged;
+    }
+
+    /**
+     * Expand the weights into a table drawn from uniformly.
+     */
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("--mix must give at least one operation a positive weight");
+        }
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private static Map<Operation, LatencyRecorder> newRecorders() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    private static void print(Map<String, LatencyRecorder.Summary> endpoints, Map<String, Object> server) {
+        System.out.println();
+        System.out.printf("%-26s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        endpoints.forEach((endpoint, s) -> System.out.printf("%-26s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, s.requests(), s.errors(), s.requestsPerSecond(), s.p50Millis(), s.p99Millis(), s.p999Millis(),
+                s.maxMillis()));
+        System.out.println();
+        server.forEach((name, value) -> System.out.printf("%-34s %s%n", name, value));
+        System.out.println();
+    }
+
+    /**
+     * Samples pool and thread gauges during the measured phase and takes
+     * the difference of the pool timers and counters over it.
+     */
+    private static final class ServerSampler {
+
+        private final MeterRegistry registry;
+        private final PermitLimitedDataSource limiter;
+        private final boolean virtualThreads;
+        private final long acquireCountBefore;
+        private final double acquireMillisBefore;
+        private final double timeoutsBefore;
+        private double maxPending;
+        private double maxActive;
+        private double maxBusyThreads;
+        private int maxLimiterWaiting;
+        private final Map<String, Object> summary = new LinkedHashMap<>();
+
+        ServerSampler(MeterRegistry registry, DataSource dataSource, boolean virtualThreads) {
+            this.registry = registry;
+            this.limiter = dataSource instanceof PermitLimitedDataSource limited ? limited : null;
+            this.virtualThreads = virtualThreads;
+            Timer acquire = registry.find("hikaricp.connections.acquire").timer();
+            this.acquireCountBefore = acquire == null ? 0 : acquire.count();
+            this.acquireMillisBefore = acquire == null ? 0 : acquire.totalTime(TimeUnit.MILLISECONDS);
+            this.timeoutsBefore = counter("hikaricp.connections.timeout");
+        }
+
+        void sample() {
+            maxPending = Math.max(maxPending, gauge("hikaricp.connections.pending"));
+            maxActive = Math.max(maxActive, gauge("hikaricp.connections.active"));
+            maxBusyThreads = Math.max(maxBusyThreads, gauge("tomcat.threads.busy"));
+            if (limiter != null) {
+                maxLimiterWaiting = Math.max(maxLimiterWaiting, limiter.getWaitingThreads());
+            }
+        }
+
+        void finish() {
+            Timer acquire = registry.find("hikaricp.connections.acquire").timer();
+            long acquisitions = acquire == null ? 0 : acquire.count() - acquireCountBefore;
+            double acquireMillis = acquire == null ? 0 : acquire.totalTime(TimeUnit.MILLISECONDS) - acquireMillisBefore;
+            summary.put("threads.virtual", virtualThreads);
+            summary.put("pool.maxSize", gauge("hikaricp.connections.max"));
+            summary.put("pool.maxActive", maxActive);
+            summary.put("pool.maxPending", maxPending);
+            summary.put("pool.acquisitions", acquisitions);
+            summary.put("pool.acquireMeanMillis", acquisitions == 0 ? 0 : acquireMillis / acquisitions);
+            summary.put("pool.acquireMaxMillis", acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS));
+            summary.put("pool.timeouts", counter("hikaricp.connections.timeout") - timeoutsBefore);
+            summary.put("tomcat.maxThreads", gauge("tomcat.threads.config.max"));
+            summary.put("tomcat.maxBusyThreads", maxBusyThreads);
+            if (limiter != null) {
+                summary.put("limiter.maxWaiting", maxLimiterWaiting);
+            }
+        }
+
+        Map<String, Object> summary() {
+            return summary;
+        }
+
+        private double gauge(String name) {
+            Gauge gauge = registry.find(name).gauge();
+            return gauge == null ? Double.NaN : gauge.value();
+        }
+
+        private double counter(String name) {
+            Counter counter = registry.find(name).counter();
+            return counter == null ? 0 : counter.count();
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.accenture.taskmanager.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command-line options of the load test.
+ *
+ * Options are given as --name=value. Anything the load test does not know
+ * is passed on to the application, so prod settings can be varied per run
+ * (e.g. --server.tomcat.threads.max=50 or
+ * --spring.datasource.hikari.maximum-pool-size=10).
+ *
+ * @param concurrency number of concurrent clients, each sending one request
+ *                    at a time
+ * @param duration    measured run time
+ * @param warmup      run time before measuring (results discarded)
+ * @param seedTasks   number of tasks created before the run
+ * @param mix         relative weight of each operation
+ * @param externalDb  use the PostgreSQL server given by the PG* settings
+ *                    instead of starting a container
+ * @param output      file the JSON report is written to
+ * @param appArgs     arguments passed on to the application
+ */
+record LoadTestOptions(
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        int seedTasks,
+        Map<Operation, Integer> mix,
+        boolean externalDb,
+        Path output,
+        List<String> appArgs) {
+
+    static LoadTestOptions parse(String... args) {
+        int concurrency = 20;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        int seedTasks = 1000;
+        Map<Operation, Integer> mix = Operation.defaultMix();
+        boolean externalDb = false;
+        Path output = Path.of("target", "loadtest-result.json");
+        List<String> appArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg : arg.substring(0, separator);
+            String value = separator < 0 ? "" : arg.substring(separator + 1);
+            switch (name) {
+                case "--concurrency" -> concurrency = Integer.parseInt(value);
+                case "--duration" -> duration = parseDuration(value);
+                case "--warmup" -> warmup = parseDuration(value);
+                case "--seed-tasks" -> seedTasks = Integer.parseInt(value);
+                case "--mix" -> mix = parseMix(value);
+                case "--external-db" -> externalDb = true;
+                case "--output" -> output = Path.of(value);
+                default -> appArgs.add(arg);
+            }
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("--concurrency must be at least 1");
+        }
+        return new LoadTestOptions(concurrency, duration, warmup, seedTasks, mix, externalDb, output,
+                List.copyOf(appArgs));
+    }
+
+    /**
+     * Parse 30s, 2m or an ISO-8601 duration (PT30S).
+     */
+    private static Duration parseDuration(String value) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (lower.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(lower.substring(0, lower.length() - 2)));
+        }
+        if (lower.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(lower.substring(0, lower.length() - 1)));
+        }
+        if (lower.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(lower.substring(0, lower.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    /**
+     * Parse get:40,list:20,... into weights; operations not listed get 0.
+     */
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            mix.put(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.accenture.taskmanager.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Requests the load test sends, with their default share of the traffic.
+ *
+ * The default mix is read-heavy, like the dashboard and list views that
+ * produce most of the production traffic.
+ */
+enum Operation {
+
+    GET("GET /api/tasks/{id}", 40),
+    LIST("GET /api/tasks", 20),
+    CREATE("POST /api/tasks", 10),
+    UPDATE("PUT /api/tasks/{id}", 15),
+    DELETE("DELETE /api/tasks/{id}", 5),
+    STATS("GET /api/tasks/stats", 5),
+    SEARCH("GET /api/tasks/search", 5);
+
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Operation(String endpoint, int defaultWeight) {
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Map<Operation, Integer> defaultMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : values()) {
+            mix.put(operation, operation.defaultWeight);
+        }
+        return mix;
+    }
+
+    static Operation fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+}
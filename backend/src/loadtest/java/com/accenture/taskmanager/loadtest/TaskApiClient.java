@@ -0,0 +1,144 @@
+package com.accenture.taskmanager.loadtest;
+
+import com.accenture.taskmanager.api.model.TaskBatchCreateRequest;
+import com.accenture.taskmanager.api.model.TaskBatchResponse;
+import com.accenture.taskmanager.api.model.TaskRequest;
+import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Minimal HTTP client for the task API, used by the load test clients.
+ *
+ * Sends one request per operation and reports whether it failed. A 404 on
+ * an id-based request is not an error: another client may have deleted the
+ * task in the meantime.
+ */
+final class TaskApiClient {
+
+    private static final String[] WORDS = {
+            "budget", "release", "onboarding", "invoice", "migration", "roadmap", "security", "hiring"
+    };
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+
+    TaskApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Create tasks through the batch endpoint before the run.
+     *
+     * @param count number of tasks to create
+     * @return pool holding the ids of the created tasks
+     */
+    TaskIdPool seed(int count) throws IOException, InterruptedException {
+        TaskIdPool ids = new TaskIdPool();
+        Random random = new Random(42);
+        for (int created = 0; created < count; created += SEED_BATCH_SIZE) {
+            List<TaskRequest> items = new ArrayList<>();
+            for (int i = created; i < Math.min(count, created + SEED_BATCH_SIZE); i++) {
+                items.add(newTask(random));
+            }
+            HttpResponse<byte[]> response = send(json("POST", "/tasks/batch", new TaskBatchCreateRequest().items(items)));
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+            objectMapper.readValue(response.body(), TaskBatchResponse.class)
+                    .getItems()
+                    .forEach(task -> ids.add(task.getId()));
+        }
+        return ids;
+    }
+
+    /**
+     * Send one request for the operation.
+     *
+     * @return true if the request failed (transport error, 5xx or an
+     *         unexpected 4xx)
+     */
+    boolean execute(Operation operation, TaskIdPool ids, Random random) {
+        try {
+            return switch (operation) {
+                case GET -> isError(send(get("/tasks/" + ids.pick(random))), 200);
+                case LIST -> isError(send(get("/tasks?limit=50")), 200);
+                case STATS -> isError(send(get("/tasks/stats")), 200);
+                case SEARCH -> isError(send(get("/tasks/search?q=" + WORDS[random.nextInt(WORDS.length)])), 200);
+                case CREATE -> {
+                    HttpResponse<byte[]> response = send(json("POST", "/tasks", newTask(random)));
+                    if (response.statusCode() == 201) {
+                        ids.add(objectMapper.readValue(response.body(), TaskResponse.class).getId());
+                    }
+                    yield isError(response, 201);
+                }
+                case UPDATE -> isError(send(json("PUT", "/tasks/" + ids.pick(random), newTask(random))), 200);
+                case DELETE -> {
+                    Long id = ids.remove(random);
+                    yield isError(send(HttpRequest.newBuilder(uri("/tasks/" + id)).DELETE().build()), 204);
+                }
+            };
+        } catch (IOException ex) {
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    private static boolean isError(HttpResponse<?> response, int expectedStatus) {
+        return response.statusCode() != expectedStatus && response.statusCode() != 404;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest json(String method, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static TaskRequest newTask(Random random) {
+        String word = WORDS[random.nextInt(WORDS.length)];
+        return new TaskRequest()
+                .title("Prepare " + word + " report")
+                .description("Collect the " + word + " numbers and share them with the team")
+                .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                .dueDate(LocalDate.now().plusDays(random.nextInt(120) - 30));
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.accenture.taskmanager.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Ids of the tasks that exist, shared by all load test clients.
+ *
+ * Creates add ids, deletes take them out; the other operations pick a
+ * random one. Synchronized: the lock is held for nanoseconds, far below
+ * the latency of the requests it feeds.
+ */
+final class TaskIdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+
+    synchronized void add(Long id) {
+        ids.add(id);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+
+    /**
+     * Pick a random id, or 0 (never assigned) when the pool is empty.
+     */
+    synchronized Long pick(Random random) {
+        return ids.isEmpty() ? 0L : ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * Remove and return a random id, or 0 when the pool is empty.
+     */
+    synchronized Long remove(Random random) {
+        if (ids.isEmpty()) {
+            return 0L;
+        }
+        int index = random.nextInt(ids.size());
+        Long id = ids.get(index);
+        // Swap with the last element so removal does not shift the list
+        ids.set(index, ids.get(ids.size() - 1));
+        ids.remove(ids.size() - 1);
+        return id;
+    }
+
+}
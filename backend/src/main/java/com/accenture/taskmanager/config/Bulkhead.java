@@ -0,0 +1,75 @@
+package com.accenture.taskmanager.config;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests of one kind that run at the same time.
+ *
+ * A fair semaphore with a fixed number of slots. A request that finds no
+ * free slot waits up to maxWait in FIFO order, then is turned away. Used by
+ * RateLimitInterceptor to keep reads and writes in separate compartments,
+ * so a flood of one kind cannot take every worker thread and pooled
+ * connection from the other.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final Semaphore permits;
+    private final Duration maxWait;
+
+    /**
+     * @param name          name used in errors and metrics
+     * @param maxConcurrent requests that may run at once
+     * @param maxWait       how long a request waits for a free slot
+     */
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Take a slot, waiting up to maxWait.
+     *
+     * @return true if a slot was taken and must be given back with release
+     */
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Give back a slot taken with tryAcquire.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Name of this bulkhead.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of free slots.
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Number of requests waiting for a slot (an estimate).
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.accenture.taskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache configuration.
+ *
+ * Enables Spring's cache abstraction backed by Caffeine. The cache itself
+ * (names, size and time-based eviction, statistics) is configured in
+ * application.yml under spring.cache so it can be tuned per environment.
+ *
+ * Architecture choice:
+ * - In-process, bounded cache of Task entities keyed by id
+ * - Cache advice runs outside the transaction advice: a cache hit returns
+ * without opening a transaction or borrowing a pooled connection, and
+ * annotation-driven puts and evictions happen only after the transaction
+ * has committed (a rolled-back write never touches the cache)
+ * - recordStats in the spec lets Actuator publish cache.gets (hit/miss),
+ * cache.puts and cache.evictions metrics
+ * - Task statistics live in a separate cache with a short TTL of their own
+ * (task-stats.cache-ttl) instead of the spring.cache spec
+ * - With virtual threads (spring.threads.virtual.enabled=true) the caches
+ * switch to Caffeine's async mode, see virtualThreadCacheCustomizer
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Cache of tasks by id, used by TaskService.getTaskById.
+     */
+    public static final String TASKS_CACHE = "tasks";
+
+    /**
+     * Cache of the aggregate counts, used by TaskService.getStats.
+     */
+    public static final String TASK_STATS_CACHE = "taskStats";
+
+    /**
+     * Register the statistics cache with its own expiry.
+     *
+     * Counts change with every write, so they are never evicted explicitly;
+     * they simply expire after the TTL. A dashboard polled by many clients
+     * then costs one pair of aggregate queries per TTL.
+     *
+     * @param ttl how long computed statistics are served from memory
+     * @param environment used to detect virtual-thread mode
+     * @return customizer adding the taskStats cache
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> taskStatsCacheCustomizer(
+            @Value("${task-stats.cache-ttl:10s}") Duration ttl, Environment environment) {
+        boolean asyncLoads = Threading.VIRTUAL.isActive(environment);
+        return cacheManager -> {
+            Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                    .expireAfterWrite(ttl)
+                    .maximumSize(1)
+                    .recordStats();
+            if (asyncLoads) {
+                cacheManager.registerCustomCache(TASK_STATS_CACHE, caffeine.executor(loadExecutor()).buildAsync());
+            } else {
+                cacheManager.registerCustomCache(TASK_STATS_CACHE, caffeine.build());
+            }
+        };
+    }
+
+    /**
+     * Run cache loads outside Caffeine's map lock when on virtual threads.
+     *
+     * A synchronous Caffeine cache computes a missing value inside
+     * ConcurrentHashMap.compute, i.e. while holding a monitor. On Java 21 a
+     * virtual thread that blocks inside a monitor pins its carrier thread, so
+     * every @Cacheable(sync = true) miss would occupy one of the few carriers
+     * for the whole database round trip, including the wait for a connection
+     * permit (see DatabaseLimiterConfig). With enough concurrent misses all
+     * carriers end up pinned waiting for permits held by virtual threads
+     * that cannot be scheduled.
+     *
+     * In async mode the map only stores a future; the load runs on its own
+     * virtual thread and callers wait on the future without holding a lock.
+     * Per-key load coalescing is unchanged.
+     *
+     * @param cacheProperties spring.cache settings, re-applied to the async caches
+     * @return customizer switching the cache manager to async mode
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public CacheManagerCustomizer<CaffeineCacheManager> virtualThreadCacheCustomizer(CacheProperties cacheProperties) {
+        return cacheManager -> {
+            cacheManager.setCaffeine(Caffeine.from(cacheProperties.getCaffeine().getSpec()).executor(loadExecutor()));
+            cacheManager.setAsyncCacheMode(true);
+        };
+    }
+
+    private static Executor loadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cache-load-", 0).factory());
+    }
+
+}
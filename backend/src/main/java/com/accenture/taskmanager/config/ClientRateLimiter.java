@@ -0,0 +1,88 @@
+package com.accenture.taskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per client.
+ *
+ * Every client IP address (see RateLimitInterceptor) has a bucket holding
+ * up to capacity tokens, refilled continuously at refillPerSecond. A request takes one token; an empty bucket rejects the
+ * request and reports when the next token arrives.
+ *
+ * Buckets live in a bounded Caffeine cache. A bucket that has not been used
+ * for as long as it takes to refill completely is dropped, since a new one
+ * is identical; at most maxClients buckets are kept.
+ */
+public class ClientRateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param capacity        burst size: requests a client may send at once
+     * @param refillPerSecond sustained requests per second per client
+     * @param maxClients      most clients tracked at once
+     */
+    public ClientRateLimiter(int capacity, double refillPerSecond, long maxClients) {
+        this(capacity, refillPerSecond, maxClients, System::nanoTime);
+    }
+
+    ClientRateLimiter(int capacity, double refillPerSecond, long maxClients, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        Duration refillTime = Duration.ofNanos((long) Math.ceil(capacity / tokensPerNano));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(refillTime.compareTo(Duration.ofSeconds(1)) > 0 ? refillTime : Duration.ofSeconds(1))
+                .build();
+    }
+
+    /**
+     * Take a token from the client's bucket.
+     *
+     * @param client the client key
+     * @return zero if the request may proceed, otherwise the time until the
+     *         client's next token
+     */
+    public Duration tryAcquire(String client) {
+        long now = nanoClock.getAsLong();
+        return buckets.get(client, key -> new Bucket(capacity, now)).tryAcquire(now);
+    }
+
+    /**
+     * Number of clients currently tracked (an estimate).
+     */
+    public long getTrackedClients() {
+        return buckets.estimatedSize();
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized Duration tryAcquire(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+    }
+
+}
@@ -1,10 +1,12 @@
 package com.accenture.taskmanager.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.filter.CorsFilter;
 
 import java.util.Arrays;
@@ -21,6 +23,10 @@ import java.util.List;
  * - Configurable via environment variable CORS_ALLOWED_ORIGINS
  * - Supports multiple environments (dev, test, UAT, prod)
  * - Credentials only allowed with exact origins (not wildcards, per CORS spec)
+ * - W3C trace context headers (traceparent, tracestate) are accepted and
+ * exposed to browser clients, see TracingConfig
+ * - Servlet stack uses CorsFilter, the reactive stack (task-api.stack=reactive)
+ * the equivalent CorsWebFilter with the same settings
  *
  * Configuration:
  * - Set CORS_ALLOWED_ORIGINS env var with comma-separated origins
@@ -47,7 +53,29 @@ public class CorsConfig {
      * @return configured CorsFilter bean
      */
     @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     public CorsFilter corsFilter() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", corsConfiguration());
+        return new CorsFilter(source);
+    }
+
+    /**
+     * Creates the WebFlux CORS filter, with the same configuration as
+     * corsFilter, when running on the reactive stack.
+     *
+     * @return configured CorsWebFilter bean
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public CorsWebFilter corsWebFilter() {
+        org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource source =
+                new org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", corsConfiguration());
+        return new CorsWebFilter(source);
+    }
+
+    private CorsConfiguration corsConfiguration() {
         CorsConfiguration config = new CorsConfiguration();
 
         // Parse and add allowed origins from configuration
@@ -75,18 +103,26 @@ public class CorsConfig {
         // Allow all headers (Content-Type, Authorization, etc.)
         config.addAllowedHeader("*");
 
+        // Let browser clients read the ETag for If-None-Match / If-Match
+        config.addExposedHeader("ETag");
+
+        // Let browser clients honour Retry-After on 429 / 503 responses
+        config.addExposedHeader("Retry-After");
+
+        // W3C trace context: requests may carry traceparent/tracestate (allowed
+        // by the * above); exposing them lets the browser join its spans to ours
+        config.addExposedHeader(TracingConfig.TRACEPARENT);
+        config.addExposedHeader(TracingConfig.TRACESTATE);
+
         // Allow standard HTTP methods for REST API
         config.addAllowedMethod("GET");
         config.addAllowedMethod("POST");
         config.addAllowedMethod("PUT");
+        config.addAllowedMethod("PATCH");
         config.addAllowedMethod("DELETE");
         config.addAllowedMethod("OPTIONS");
 
-        // Apply configuration to all endpoints
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/**", config);
-
-        return new CorsFilter(source);
+        return config;
     }
 
 }
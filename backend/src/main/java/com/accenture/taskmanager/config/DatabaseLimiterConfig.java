@@ -0,0 +1,90 @@
+package com.accenture.taskmanager.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Database concurrency limit for virtual-thread mode.
+ *
+ * With spring.threads.virtual.enabled=true Tomcat no longer caps request
+ * handling at server.tomcat.threads.max: every request gets its own virtual
+ * thread, and a burst of requests turns into a burst of connection requests
+ * against a pool of a handful of connections. Hikari would queue them for up
+ * to its 30s connection-timeout and then fail them all at once.
+ *
+ * This configuration puts a PermitLimitedDataSource in front of the Hikari
+ * pool instead:
+ * - One permit per pooled connection, read from the pool's own
+ * maximum-pool-size, so the two cannot drift apart
+ * - Waiters are served in arrival order and give up after
+ * database-limiter.acquire-timeout, which the API reports as 503
+ * - Requests that never touch the database (cache hits) are not limited
+ *
+ * Active only in virtual-thread mode; database-limiter.enabled=false turns it
+ * off there (e.g. to compare against the bare pool).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "database-limiter.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DatabaseLimiterConfig {
+
+    /**
+     * Wrap the Hikari data source once it is configured.
+     *
+     * The limiter goes outermost, so a caller waits for a permit before any
+     * other wrapper sees the connection request: it has the lowest
+     * precedence of the data source post-processors and runs last.
+     *
+     * Static so the post-processor is registered before the data source is
+     * created. Declared with its concrete type so Spring sees it is Ordered
+     * before creating it.
+     *
+     * @param acquireTimeout how long a request waits for a connection permit
+     * @return post-processor wrapping HikariDataSource beans
+     */
+    @Bean
+    static DatabaseLimiterPostProcessor databaseLimiterPostProcessor(
+            @Value("${database-limiter.acquire-timeout:2s}") Duration acquireTimeout) {
+        return new DatabaseLimiterPostProcessor(acquireTimeout);
+    }
+
+    record DatabaseLimiterPostProcessor(Duration acquireTimeout) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            // The pool may already be wrapped (StatementCountingDataSource)
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class,
+                    HikariDataSource.class);
+            if (hikari == null) {
+                return bean;
+            }
+            log.info("Limiting {} to {} concurrent connections (acquire timeout {})",
+                    beanName, hikari.getMaximumPoolSize(), acquireTimeout);
+            return new PermitLimitedDataSource(dataSource, hikari.getMaximumPoolSize(), acquireTimeout);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.accenture.taskmanager.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson serialization settings.
+ *
+ * Task lists and the /tasks/export stream serialize thousands of
+ * TaskResponse objects per request, so Jackson's per-property cost matters.
+ *
+ * Architecture choice:
+ * - Registers the Blackbird module: getters and setters of the generated
+ * models are called through LambdaMetafactory-generated functions instead
+ * of reflection (see TaskListJsonBenchmark for the difference)
+ * - Spring Boot adds every Module bean to the auto-configured ObjectMapper,
+ * so MVC, WebFlux and the export stream all use it
+ * - jackson.blackbird.enabled=false falls back to plain reflection, e.g.
+ * to compare or to rule it out when debugging
+ * - Registers JsonNullableModule, so the JsonNullable properties of
+ * TaskPatchRequest tell an absent property from an explicit null
+ *
+ * Response compression is configured in application.yml under
+ * server.compression.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfig {
+
+    /**
+     * Blackbird accessor optimization for the application ObjectMapper.
+     *
+     * @return the module
+     */
+    @Bean
+    @ConditionalOnProperty(name = "jackson.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * JsonNullable support for the merge patch model.
+     *
+     * @return the module
+     */
+    @Bean
+    public Module jsonNullableModule() {
+        return new JsonNullableModule();
+    }
+
+}
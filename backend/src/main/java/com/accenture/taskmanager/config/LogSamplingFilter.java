@@ -0,0 +1,148 @@
+package com.accenture.taskmanager.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate-limits hot-path log statements per call site.
+ *
+ * A Logback turbo filter, registered in logback-spring.xml. It runs before
+ * the level check and before the message is formatted, so a dropped event
+ * costs one map lookup and no allocation: its arguments are never turned
+ * into strings and it never reaches the (async) appender.
+ *
+ * Applies to events from loggers under loggerPrefix at maxLevel or below
+ * (INFO by default); WARN and ERROR always pass. Each distinct message format
+ * (one per log statement) may log permitsPerSecond events per second; the
+ * rest of that second is dropped. The next event from the same site reports
+ * how many were dropped, logged at INFO by this class's logger (which itself
+ * is never sampled).
+ *
+ * Sites are tracked for the first maxSites formats only; further formats
+ * (e.g. messages built by concatenation) pass unsampled.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private static final String SUMMARY_LOGGER = LogSamplingFilter.class.getName();
+
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+
+    private String loggerPrefix = "com.accenture.taskmanager";
+    private Level maxLevel = Level.INFO;
+    private int permitsPerSecond = 10;
+    private int maxSites = 1000;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        return decide(logger, level, format, System.currentTimeMillis() / 1000);
+    }
+
+    FilterReply decide(Logger logger, Level level, String format, long second) {
+        if (!isStarted() || logger == null || level == null || format == null
+                || !maxLevel.isGreaterOrEqual(level)
+                || !logger.getName().startsWith(loggerPrefix)
+                || logger.getName().equals(SUMMARY_LOGGER)) {
+            return FilterReply.NEUTRAL;
+        }
+        // Leave disabled levels to Logback; they must not use up permits
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Site site = sites.get(format);
+        if (site == null) {
+            if (sites.size() >= maxSites) {
+                return FilterReply.NEUTRAL;
+            }
+            site = sites.computeIfAbsent(format, key -> new Site());
+        }
+        int dropped = site.roll(second);
+        if (dropped > 0) {
+            logger.getLoggerContext().getLogger(SUMMARY_LOGGER)
+                    .info("Dropped {} log events like \"{}\" since the last report", dropped, format);
+        }
+        return site.tryAcquire(permitsPerSecond) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * @param loggerPrefix only loggers whose name starts with this are sampled
+     */
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    /**
+     * @param maxLevel most severe level that is sampled (INFO by default)
+     */
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    /**
+     * @param permitsPerSecond events per call site and second; 0 or less
+     *                         disables sampling
+     */
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * @param maxSites most call sites tracked
+     */
+    public void setMaxSites(int maxSites) {
+        this.maxSites = maxSites;
+    }
+
+    @Override
+    public void start() {
+        if (permitsPerSecond > 0) {
+            super.start();
+        }
+    }
+
+    /**
+     * Fixed one-second window for one call site.
+     */
+    private static final class Site {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+        private volatile long second;
+
+        /**
+         * Start a new window if the second changed.
+         *
+         * @return events dropped in the previous window, reported once
+         */
+        int roll(long now) {
+            if (second == now) {
+                return 0;
+            }
+            synchronized (this) {
+                if (second == now) {
+                    return 0;
+                }
+                second = now;
+                count.set(0);
+                return dropped.getAndSet(0);
+            }
+        }
+
+        boolean tryAcquire(int permits) {
+            if (count.incrementAndGet() <= permits) {
+                return true;
+            }
+            dropped.incrementAndGet();
+            return false;
+        }
+
+    }
+
+}
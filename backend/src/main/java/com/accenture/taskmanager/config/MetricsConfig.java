@@ -0,0 +1,100 @@
+package com.accenture.taskmanager.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Application metrics, scraped from /actuator/prometheus.
+ *
+ * Latency is recorded at three layers so a slow request can be traced to
+ * the layer that spent the time:
+ * - tasks.api: every TaskController method (@Observed, tags class, method
+ * and error); the same observation produces a span (see TracingConfig)
+ * - tasks.service: every public TaskService method (@Observed); cache hits
+ * return before the timer, so they only show up in tasks.api and cache.gets
+ * - spring.data.repository.invocations: every TaskRepository method,
+ * recorded by Spring Data (tags repository, method, state)
+ *
+ * SLO buckets and the exposure of the Prometheus endpoint are configured in
+ * application.yml under management. Errors are counted as tasks.errors by
+ * GlobalExceptionHandler, one series per error code.
+ *
+ * Hikari publishes its own hikaricp.connections.* gauges; this configuration
+ * adds the ratios needed to spot pool saturation at a glance.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    /**
+     * Timer of TaskController methods.
+     */
+    public static final String API_TIMER = "tasks.api";
+
+    /**
+     * Timer of TaskService methods.
+     */
+    public static final String SERVICE_TIMER = "tasks.service";
+
+    /**
+     * Counter of error responses, tagged with the ErrorResponse code.
+     */
+    public static final String ERRORS_COUNTER = "tasks.errors";
+
+    /**
+     * Pool saturation gauges for every Hikari pool (and the virtual-thread
+     * database limiter, if active).
+     *
+     * @param dataSources the application's data sources (none on the
+     *                    reactive stack)
+     * @return binder registering the gauges
+     */
+    @Bean
+    public MeterBinder dataSourceSaturationMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> bind(dataSource, registry));
+    }
+
+    static void bind(DataSource dataSource, MeterRegistry registry) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class,
+                HikariDataSource.class);
+        if (hikari != null) {
+            Gauge.builder("db.pool.saturation", hikari, MetricsConfig::saturation)
+                    .description("Busy plus waiting connections per pooled connection; above 1 means "
+                            + "requests queue for a connection")
+                    .tag("pool", Objects.requireNonNullElse(hikari.getPoolName(), "default"))
+                    .register(registry);
+        }
+        if (dataSource instanceof PermitLimitedDataSource limiter) {
+            Gauge.builder("db.limiter.waiting", limiter, PermitLimitedDataSource::getWaitingThreads)
+                    .description("Requests waiting for a database permit (virtual-thread mode)")
+                    .register(registry);
+            Gauge.builder("db.limiter.permits.available", limiter, PermitLimitedDataSource::getAvailablePermits)
+                    .description("Database permits that can be taken without waiting")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * (active + waiting) / maximum-pool-size, or 0 before the pool has
+     * started.
+     */
+    static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / hikari.getMaximumPoolSize();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Per-client rate limiting and read/write bulkheads for the Tasks API.
+ *
+ * Registers RateLimitInterceptor on /api/tasks/**. The production pool has
+ * five connections and Tomcat ten worker threads, so without admission
+ * control a single client can hold all of them:
+ * - rate-limit.capacity / rate-limit.refill-per-second: token bucket per
+ * client IP; over the limit is 429
+ * - rate-limit.bulkhead.read-permits / write-permits: requests of each kind
+ * that run at once; a full bulkhead is 503 after
+ * rate-limit.bulkhead.max-wait
+ *
+ * Bulkhead usage is published as tasks.bulkhead.available and
+ * tasks.bulkhead.waiting (tag bulkhead); rejections are counted in
+ * tasks.errors by GlobalExceptionHandler.
+ *
+ * Servlet stack only. rate-limit.enabled=false removes the interceptor.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RateLimitConfig {
+
+    /**
+     * Rate limiter and bulkheads for the Tasks API.
+     *
+     * @param capacity        requests a client may send in a burst
+     * @param refillPerSecond sustained requests per second per client
+     * @param maxClients      most clients tracked at once
+     * @param readPermits     GET/HEAD requests that may run at once
+     * @param writePermits    other requests that may run at once
+     * @param maxWait         how long a request waits for a bulkhead slot
+     * @return the interceptor
+     */
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(
+            @Value("${rate-limit.capacity:100}") int capacity,
+            @Value("${rate-limit.refill-per-second:50}") double refillPerSecond,
+            @Value("${rate-limit.max-clients:100000}") long maxClients,
+            @Value("${rate-limit.bulkhead.read-permits:20}") int readPermits,
+            @Value("${rate-limit.bulkhead.write-permits:10}") int writePermits,
+            @Value("${rate-limit.bulkhead.max-wait:100ms}") Duration maxWait) {
+        log.info("Rate limiting clients to {} requests/s (burst {}); bulkheads: {} reads, {} writes",
+                refillPerSecond, capacity, readPermits, writePermits);
+        return new RateLimitInterceptor(new ClientRateLimiter(capacity, refillPerSecond, maxClients),
+                new Bulkhead("read", readPermits, maxWait),
+                new Bulkhead("write", writePermits, maxWait));
+    }
+
+    /**
+     * Put the interceptor in front of the Tasks API.
+     *
+     * @param rateLimitInterceptor the interceptor
+     * @return MVC configuration registering it on /api/tasks/**
+     */
+    @Bean
+    public WebMvcConfigurer rateLimitWebMvcConfigurer(RateLimitInterceptor rateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/tasks", "/api/tasks/**");
+            }
+        };
+    }
+
+    /**
+     * Bulkhead gauges.
+     *
+     * @param rateLimitInterceptor the interceptor owning the bulkheads
+     * @return binder registering tasks.bulkhead.* per bulkhead
+     */
+    @Bean
+    public MeterBinder bulkheadMetrics(RateLimitInterceptor rateLimitInterceptor) {
+        return registry -> {
+            for (Bulkhead bulkhead : rateLimitInterceptor.getBulkheads()) {
+                Gauge.builder("tasks.bulkhead.available", bulkhead, Bulkhead::getAvailablePermits)
+                        .description("Free request slots in the bulkhead")
+                        .tag("bulkhead", bulkhead.getName())
+                        .register(registry);
+                Gauge.builder("tasks.bulkhead.waiting", bulkhead, Bulkhead::getWaitingThreads)
+                        .description("Requests waiting for a bulkhead slot")
+                        .tag("bulkhead", bulkhead.getName())
+                        .register(registry);
+            }
+        };
+    }
+
+}
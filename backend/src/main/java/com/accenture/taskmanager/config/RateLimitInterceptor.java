@@ -0,0 +1,106 @@
+package com.accenture.taskmanager.config;
+
+import com.accenture.taskmanager.exception.BulkheadFullException;
+import com.accenture.taskmanager.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Admission control in front of TaskController.
+ *
+ * Every request first takes a token from its client's bucket
+ * (ClientRateLimiter), then a slot in the read bulkhead (GET, HEAD) or the
+ * write bulkhead (everything else). Rejections are thrown as exceptions, so
+ * GlobalExceptionHandler turns them into 429 / 503 responses with
+ * Retry-After like any other API error.
+ *
+ * Clients are identified by their IP address (behind a proxy,
+ * server.forward-headers-strategy makes that the original client's address).
+ * Nothing client-chosen, such as an unauthenticated API key header, goes
+ * into the key: a client could send a fresh value per request to escape its
+ * bucket and fill the limiter's client map.
+ *
+ * The slot is held until the request completes. Asynchronous requests such
+ * as the /tasks/export stream keep it until their async dispatch finishes.
+ * The /tasks/stream change feed is the exception: it is rate limited but
+ * takes no slot, since subscribers stay connected indefinitely and hold no
+ * thread or connection while idle.
+ */
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    /**
+     * Change feed path, admitted without a bulkhead slot.
+     */
+    static final String STREAM_PATH = "/api/tasks/stream";
+
+    private static final String BULKHEAD_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".bulkhead";
+
+    private final ClientRateLimiter rateLimiter;
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+
+    /**
+     * @param rateLimiter   per-client token buckets
+     * @param readBulkhead  slots for GET and HEAD requests
+     * @param writeBulkhead slots for all other requests
+     */
+    public RateLimitInterceptor(ClientRateLimiter rateLimiter, Bulkhead readBulkhead, Bulkhead writeBulkhead) {
+        this.rateLimiter = rateLimiter;
+        this.readBulkhead = readBulkhead;
+        this.writeBulkhead = writeBulkhead;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(BULKHEAD_ATTRIBUTE) != null) {
+            // Async dispatch of a request that was admitted already
+            return true;
+        }
+        Duration retryAfter = rateLimiter.tryAcquire(clientKey(request));
+        if (!retryAfter.isZero()) {
+            throw new RateLimitExceededException(retryAfter);
+        }
+        if (STREAM_PATH.equals(request.getRequestURI())) {
+            // Marks the request as admitted; afterCompletion releases Bulkheads only
+            request.setAttribute(BULKHEAD_ATTRIBUTE, Boolean.TRUE);
+            return true;
+        }
+        Bulkhead bulkhead = isRead(request) ? readBulkhead : writeBulkhead;
+        if (!bulkhead.tryAcquire()) {
+            throw new BulkheadFullException(bulkhead.getName());
+        }
+        request.setAttribute(BULKHEAD_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(BULKHEAD_ATTRIBUTE) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(BULKHEAD_ATTRIBUTE);
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * The read and write bulkheads, for metrics.
+     */
+    public List<Bulkhead> getBulkheads() {
+        return List.of(readBulkhead, writeBulkhead);
+    }
+
+    static String clientKey(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+}
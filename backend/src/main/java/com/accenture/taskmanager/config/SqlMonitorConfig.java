@@ -0,0 +1,100 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Per-request SQL statement counting and slow-query detection.
+ *
+ * Wraps the application's data source in a StatementCountingDataSource and
+ * registers SqlMonitorFilter, which reports requests that exceed
+ * sql-monitor.statement-budget statements or spend longer than
+ * sql-monitor.request-time-threshold in the database. Single statements
+ * slower than sql-monitor.slow-statement-threshold are logged on their own.
+ * The wrapper also reports connection acquisition and statements to the
+ * ObservationRegistry, which turns them into JDBC spans (see TracingConfig).
+ *
+ * Tests use SqlStatistics directly to pin the statement count of an
+ * endpoint. sql-monitor.enabled=false removes the wrapper and the filter.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "sql-monitor.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlMonitorConfig {
+
+    /**
+     * Wrap every data source once it is configured.
+     *
+     * Static so the post-processor is registered before the data source is
+     * created. Ordered ahead of the DatabaseLimiterConfig post-processor, so
+     * the limiter ends up outermost and statement times exclude the wait for
+     * a connection permit. The declared return type must be the concrete
+     * class: Spring sorts post-processors by the factory method's type
+     * before creating them, and a plain BeanPostProcessor counts as
+     * unordered.
+     *
+     * @param slowStatementThreshold statements running longer are logged
+     * @param observationRegistry    registry for JDBC observations; no-op
+     *                               when observability is not configured
+     * @return post-processor wrapping DataSource beans
+     */
+    @Bean
+    static StatementCountingPostProcessor statementCountingPostProcessor(
+            @Value("${sql-monitor.slow-statement-threshold:200ms}") Duration slowStatementThreshold,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new StatementCountingPostProcessor(slowStatementThreshold, observationRegistry);
+    }
+
+    /**
+     * Per-request statement and database time reporting.
+     *
+     * @param meterRegistry   registry for the per-request metrics
+     * @param statementBudget statements a request may run before it is
+     *                        reported
+     * @param timeThreshold   database time a request may spend before it is
+     *                        reported
+     * @return the servlet filter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public SqlMonitorFilter sqlMonitorFilter(MeterRegistry meterRegistry,
+                                             @Value("${sql-monitor.statement-budget:10}") int statementBudget,
+                                             @Value("${sql-monitor.request-time-threshold:500ms}") Duration timeThreshold) {
+        return new SqlMonitorFilter(meterRegistry, statementBudget, timeThreshold);
+    }
+
+    record StatementCountingPostProcessor(Duration slowStatementThreshold,
+                                                  ObjectProvider<ObservationRegistry> observationRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                log.info("Counting SQL statements on {} (slow statement threshold {})",
+                        beanName, slowStatementThreshold);
+                return new StatementCountingDataSource(dataSource, slowStatementThreshold,
+                        () -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+
+    }
+
+}
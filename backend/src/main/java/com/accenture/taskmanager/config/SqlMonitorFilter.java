@@ -0,0 +1,111 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Counts the SQL statements and database time of every HTTP request.
+ *
+ * Opens a SqlStatistics scope around the request and, once it completes,
+ * publishes per-endpoint metrics:
+ * - tasks.db.statements: statements per request (tags method, uri)
+ * - tasks.db.time: database time per request (tags method, uri)
+ * - tasks.db.budget.exceeded: requests over the statement budget or the
+ * database time threshold (tags method, uri, reason)
+ *
+ * A request over budget is also logged at WARN with its statements, which
+ * catches N+1 queries and redundant read-before-write round trips.
+ */
+@Slf4j
+public class SqlMonitorFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_STATEMENTS = 20;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final Duration timeThreshold;
+
+    /**
+     * @param meterRegistry   registry for the per-request metrics
+     * @param statementBudget requests running more statements are reported
+     * @param timeThreshold   requests spending longer in the database are
+     *                        reported
+     */
+    public SqlMonitorFilter(MeterRegistry meterRegistry, int statementBudget, Duration timeThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.timeThreshold = timeThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                report(request, sql);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics sql) {
+        if (sql.getStatementCount() == 0) {
+            return;
+        }
+        // Pattern such as /api/tasks/{id}, set once a handler has been matched
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("tasks.db.statements")
+                .description("SQL statements per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sql.getStatementCount());
+        Timer.builder("tasks.db.time")
+                .description("Database time per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sql.getDuration());
+
+        if (sql.getStatementCount() > statementBudget) {
+            exceeded(tags, "statements");
+            log.warn("{} {} ran {} SQL statements (budget {}): {}", request.getMethod(), uri,
+                    sql.getStatementCount(), statementBudget, summary(sql));
+        }
+        if (sql.getDuration().compareTo(timeThreshold) > 0) {
+            exceeded(tags, "time");
+            log.warn("{} {} spent {} ms in the database (threshold {} ms) over {} statements",
+                    request.getMethod(), uri, sql.getDuration().toMillis(), timeThreshold.toMillis(),
+                    sql.getStatementCount());
+        }
+    }
+
+    private void exceeded(Tags tags, String reason) {
+        meterRegistry.counter("tasks.db.budget.exceeded", tags.and("reason", reason)).increment();
+    }
+
+    private static String summary(SqlStatistics sql) {
+        List<String> statements = sql.getStatements();
+        if (statements.size() <= MAX_LOGGED_STATEMENTS) {
+            return statements.toString();
+        }
+        return statements.subList(0, MAX_LOGGED_STATEMENTS) + " and "
+                + (statements.size() - MAX_LOGGED_STATEMENTS) + " more";
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.accenture.taskmanager.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL statements executed on the current thread while a scope is open.
+ *
+ * StatementCountingDataSource records every executed statement (one per
+ * database round trip; a JDBC batch counts once) into all scopes open on the
+ * calling thread. SqlMonitorFilter opens one scope per HTTP request; tests
+ * open their own around a call to pin its statement count:
+ *
+ * <pre>
+ * try (SqlStatistics sql = SqlStatistics.open()) {
+ *     mockMvc.perform(get("/api/tasks/1"));
+ *     assertThat(sql.getStatementCount()).isEqualTo(1);
+ * }
+ * </pre>
+ *
+ * Scopes nest: an inner scope (the request) also counts towards the outer
+ * one (the test). Work handed to other threads, such as the asynchronous
+ * /tasks/export stream, is not counted.
+ */
+public final class SqlStatistics implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics parent;
+    private final List<String> statements = new ArrayList<>();
+    private long nanos;
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Start counting statements on the current thread.
+     *
+     * @return the scope; close it on the same thread
+     */
+    public static SqlStatistics open() {
+        SqlStatistics scope = new SqlStatistics(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Add an executed statement to every scope open on the current thread.
+     *
+     * @param sql   the statement text
+     * @param nanos time spent executing it
+     */
+    static void record(String sql, long nanos) {
+        for (SqlStatistics scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements.add(sql);
+            scope.nanos += nanos;
+        }
+    }
+
+    /**
+     * Number of statements executed so far.
+     */
+    public int getStatementCount() {
+        return statements.size();
+    }
+
+    /**
+     * The statements executed so far, in execution order.
+     */
+    public List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * Total time spent executing statements so far.
+     */
+    public Duration getDuration() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Stop counting; the enclosing scope, if any, becomes current again.
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+}
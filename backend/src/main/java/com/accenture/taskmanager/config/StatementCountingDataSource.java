@@ -0,0 +1,174 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * DataSource that times every executed SQL statement.
+ *
+ * Connections and the statements they create are wrapped in proxies; each
+ * execute call is timed and recorded in the SqlStatistics scopes open on the
+ * calling thread. A statement slower than the slow-statement threshold is
+ * logged at WARN with its SQL text.
+ *
+ * With an ObservationRegistry, getConnection is observed as jdbc.connection
+ * (the wait for a pooled connection) and every execute call as
+ * jdbc.statement, carrying its SQL as the db.statement span attribute. With
+ * tracing on, these become child spans of the service method that issued
+ * them, so a slow request splits into pool wait and database time.
+ *
+ * Used by SqlMonitorConfig in front of the application's data source. All
+ * other JDBC calls, including unwrap, reach the target unchanged.
+ */
+@Slf4j
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    /**
+     * Connection methods that create statements.
+     */
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    /**
+     * Statement methods that run a round trip to the database.
+     */
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 500;
+
+    private final long slowStatementNanos;
+    private final Supplier<ObservationRegistry> observationRegistrySupplier;
+    private volatile ObservationRegistry observationRegistry;
+
+    /**
+     * Statement counting only, without observations.
+     *
+     * @param target                 the data source to instrument
+     * @param slowStatementThreshold statements running longer are logged
+     */
+    public StatementCountingDataSource(DataSource target, Duration slowStatementThreshold) {
+        this(target, slowStatementThreshold, () -> ObservationRegistry.NOOP);
+    }
+
+    /**
+     * @param target                 the data source to instrument
+     * @param slowStatementThreshold statements running longer are logged
+     * @param observationRegistry    resolved on first use, so the registry
+     *                               and its handlers (which may need the
+     *                               data source themselves) are not created
+     *                               while the data source is
+     */
+    public StatementCountingDataSource(DataSource target, Duration slowStatementThreshold,
+                                       Supplier<ObservationRegistry> observationRegistry) {
+        super(target);
+        this.slowStatementNanos = slowStatementThreshold.toNanos();
+        this.observationRegistrySupplier = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(connectionObservation().observeChecked(() -> obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(connectionObservation()
+                .observeChecked(() -> obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private Observation connectionObservation() {
+        return Observation.createNotStarted("jdbc.connection", observationRegistry())
+                .contextualName("jdbc connection");
+    }
+
+    private ObservationRegistry observationRegistry() {
+        ObservationRegistry registry = observationRegistry;
+        if (registry == null) {
+            registry = observationRegistrySupplier.get();
+            observationRegistry = registry;
+        }
+        return registry;
+    }
+
+    private Connection counting(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                        // prepareStatement/prepareCall carry their SQL; plain statements get it per execute
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return counting(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement counting(Statement target, Class<?> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (!EXECUTE_METHODS.contains(method.getName())) {
+                        return invoke(target, method, args);
+                    }
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                    String statement = sql != null ? sql : "<batch>";
+                    Observation observation = Observation.createNotStarted("jdbc.statement", observationRegistry())
+                            .contextualName("jdbc statement")
+                            .highCardinalityKeyValue("db.statement", abbreviate(statement));
+                    long start = System.nanoTime();
+                    try {
+                        return observation.observeChecked(() -> invoke(target, method, args));
+                    } finally {
+                        executed(statement, System.nanoTime() - start);
+                    }
+                });
+    }
+
+    private void executed(String sql, long nanos) {
+        SqlStatistics.record(sql, nanos);
+        if (nanos > slowStatementNanos) {
+            log.warn("Slow SQL statement ({} ms): {}", nanos / 1_000_000, abbreviate(sql));
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.accenture.taskmanager.config;
+
+import com.accenture.taskmanager.service.TaskEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Downstream of the task_events outbox (see TaskOutbox and TaskOutboxRelay).
+ *
+ * No message broker is wired into this service, so the default handler only
+ * logs what it relays, and the relay is off by default so that it does not
+ * delete events nobody received. Declaring another TaskEventHandler bean
+ * (e.g. one sending to Kafka or SNS) replaces it; with
+ * task-outbox.relay.enabled=true the outbox guarantees it sees every
+ * committed write at least once.
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j
+public class TaskOutboxConfig {
+
+    /**
+     * Logging handler, used unless the application provides its own.
+     *
+     * @return handler writing one debug line per batch
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TaskEventHandler loggingTaskEventHandler() {
+        return events -> log.debug("Relayed {} task events, ids {} to {}", events.size(),
+                events.getFirst().getId(), events.getLast().getId());
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Adds a W3C traceparent header for the server span to every response.
+ *
+ * Runs after Spring's ServerHttpObservationFilter, which has already started
+ * the server span (continuing an incoming traceparent if there was one). The
+ * header is set before the request is handled, as the response may be
+ * committed by the time the handler returns.
+ */
+public class TraceparentResponseFilter extends OncePerRequestFilter {
+
+    private final ObjectProvider<Tracer> tracer;
+
+    /**
+     * @param tracer the tracer; no header is added when it is absent
+     */
+    public TraceparentResponseFilter(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Tracer current = tracer.getIfAvailable();
+        Span span = current != null ? current.currentSpan() : null;
+        if (span != null && !span.isNoop()) {
+            response.setHeader(TracingConfig.TRACEPARENT, traceparent(span.context()));
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Format a span context as a version 00 traceparent value.
+     *
+     * @param context the span context
+     * @return 00-{trace id}-{span id}-{flags}
+     */
+    static String traceparent(TraceContext context) {
+        String flags = Boolean.TRUE.equals(context.sampled()) ? "01" : "00";
+        return "00-" + context.traceId() + "-" + context.spanId() + "-" + flags;
+    }
+
+}
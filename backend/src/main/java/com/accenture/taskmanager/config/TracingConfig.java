@@ -0,0 +1,58 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Distributed tracing with Micrometer Tracing over OpenTelemetry.
+ *
+ * Spring Boot creates the tracer and the W3C trace context propagator
+ * (management.tracing.propagation.type=w3c); this configuration only adds
+ * what is specific to this API. A traced request produces one span per
+ * layer, so its latency can be split between them:
+ * - http server request: the whole request inside Tomcat, continuing the
+ * caller's trace when a traceparent header is sent
+ * - tasks.api: the TaskController method (@Observed)
+ * - tasks.service: the TaskService method (@Observed)
+ * - jdbc connection: the wait for a Hikari connection
+ * - jdbc statement: one per SQL round trip, with db.statement
+ * (both from StatementCountingDataSource, see SqlMonitorConfig)
+ *
+ * Time spent queueing for a Tomcat worker thread happens before the server
+ * span starts; it shows up as tomcat.threads.busy reaching
+ * tomcat.threads.config.max rather than in the trace.
+ *
+ * Spans are exported over OTLP to management.otlp.tracing.endpoint (a local
+ * collector by default) when OTLP_TRACING_ENABLED=true. Tests register an
+ * in-memory exporter instead.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TracingConfig {
+
+    /**
+     * W3C trace context header carrying trace id, parent span id and flags.
+     */
+    public static final String TRACEPARENT = "traceparent";
+
+    /**
+     * W3C trace context header carrying vendor-specific trace state.
+     */
+    public static final String TRACESTATE = "tracestate";
+
+    /**
+     * Returns the request's traceparent to the client, so a response can be
+     * looked up in the tracing backend.
+     *
+     * @param tracer the tracer; absent when tracing is disabled
+     * @return the servlet filter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public TraceparentResponseFilter traceparentResponseFilter(ObjectProvider<Tracer> tracer) {
+        return new TraceparentResponseFilter(tracer);
+    }
+
+}
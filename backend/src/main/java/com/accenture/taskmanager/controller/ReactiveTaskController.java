@@ -0,0 +1,366 @@
+package com.accenture.taskmanager.controller;
+
+import com.accenture.taskmanager.api.model.TaskBatchCreateRequest;
+import com.accenture.taskmanager.api.model.TaskBatchDeleteRequest;
+import com.accenture.taskmanager.api.model.TaskBatchResponse;
+import com.accenture.taskmanager.api.model.TaskBatchUpdateItem;
+import com.accenture.taskmanager.api.model.TaskBatchUpdateRequest;
+import com.accenture.taskmanager.api.model.TaskChangesResponse;
+import com.accenture.taskmanager.api.model.TaskPageResponse;
+import com.accenture.taskmanager.api.model.TaskPatchRequest;
+import com.accenture.taskmanager.api.model.TaskRequest;
+import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatsResponse;
+import com.accenture.taskmanager.api.model.TaskStatus;
+import com.accenture.taskmanager.api.model.TaskStatusUpdateRequest;
+import com.accenture.taskmanager.api.reactive.TasksApi;
+import com.accenture.taskmanager.mapper.TaskMapper;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskSort;
+import com.accenture.taskmanager.service.ReactiveTaskService;
+import com.accenture.taskmanager.service.TaskChangeEvent;
+import com.accenture.taskmanager.service.TaskChangeFeed;
+import com.accenture.taskmanager.service.TaskChanges;
+import com.accenture.taskmanager.service.TaskPage;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking REST controller for Task operations on Spring WebFlux.
+ *
+ * Implements the reactive variant of the generated TasksApi interface (same
+ * OpenAPI contract, Mono signatures) and delegates to ReactiveTaskService.
+ * Alternative to TaskController, selected with task-api.stack=reactive
+ * (the reactive profile).
+ *
+ * Architecture:
+ * - Same paths, status codes, ETags and error responses as TaskController
+ * - Request bodies arrive as Mono and are validated by WebFlux; errors flow
+ * through the returned Mono to GlobalExceptionHandler
+ * - Maps between API models and the Task entity with the shared TaskMapper
+ *
+ * Base path: /api/tasks (from OpenAPI spec)
+ */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTaskController implements TasksApi {
+
+    private final ReactiveTaskService taskService;
+    private final TaskMapper taskMapper;
+    private final TaskChangeFeed changeFeed;
+
+    /**
+     * GET /api/tasks - Retrieve one page of tasks.
+     *
+     * @return 200 OK with the page of tasks, or 400 BAD_REQUEST for an invalid
+     *         cursor, filter or sort
+     */
+    @Override
+    public Mono<ResponseEntity<TaskPageResponse>> getAllTasks(Integer limit, String cursor, TaskStatus status,
+                                                              LocalDate dueBefore, LocalDate dueAfter, String sort,
+                                                              ServerWebExchange exchange) {
+        log.debug("REST request to get tasks page: limit={}, cursor={}, status={}, dueBefore={}, dueAfter={}, sort={}",
+                limit, cursor, status, dueBefore, dueAfter, sort);
+
+        TaskFilter filter = new TaskFilter(taskMapper.mapApiStatusToEntityStatus(status), dueBefore, dueAfter);
+        return taskService.getTasks(filter, TaskSort.fromValue(sort), cursor, limit)
+                .map(page -> ResponseEntity.ok(toPageResponse(page)));
+    }
+
+    /**
+     * GET /api/tasks/search - Full-text search over titles and descriptions.
+     *
+     * @return 200 OK with the page of matching tasks, best matches first, or
+     *         400 BAD_REQUEST for a missing query or invalid cursor
+     */
+    @Override
+    public Mono<ResponseEntity<TaskPageResponse>> searchTasks(String q, Integer limit, String cursor,
+                                                              ServerWebExchange exchange) {
+        log.debug("REST request to search tasks: q={}, limit={}, cursor={}", q, limit, cursor);
+
+        return taskService.searchTasks(q, cursor, limit)
+                .map(page -> ResponseEntity.ok(toPageResponse(page)));
+    }
+
+    /**
+     * GET /api/tasks/changes - Tasks changed and deleted since a sync token.
+     *
+     * @return 200 OK with the changes and the next token, or 400 BAD_REQUEST
+     *         for an invalid token
+     */
+    @Override
+    public Mono<ResponseEntity<TaskChangesResponse>> getTaskChanges(String since, Integer limit,
+                                                                    ServerWebExchange exchange) {
+        log.debug("REST request to get task changes: since={}, limit={}", since, limit);
+
+        return taskService.getChanges(since, limit)
+                .map(changes -> ResponseEntity.ok(toChangesResponse(changes)));
+    }
+
+    /**
+     * GET /api/tasks/stats - Task counts per status and overdue count.
+     *
+     * @return 200 OK with the counts
+     */
+    @Override
+    public Mono<ResponseEntity<TaskStatsResponse>> getTaskStats(ServerWebExchange exchange) {
+        log.debug("REST request to get task statistics");
+
+        return taskService.getStats()
+                .map(stats -> ResponseEntity.ok(taskMapper.toStatsResponse(stats)));
+    }
+
+    /**
+     * GET /api/tasks/export - Export every task as newline-delimited JSON.
+     *
+     * Not part of the generated TasksApi. WebFlux encodes each element of the
+     * Flux as one JSON line as it is emitted, so memory stays constant
+     * regardless of table size.
+     *
+     * @return 200 OK with an application/x-ndjson body
+     */
+    @GetMapping(value = "/tasks/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> exportTasks() {
+        log.debug("REST request to export all tasks");
+
+        return taskService.exportTasks().map(taskMapper::toResponse);
+    }
+
+    /**
+     * GET /api/tasks/stream - Server-sent events for committed task changes.
+     *
+     * Not part of the generated TasksApi. Netty writes each event when the
+     * connection can take it; until then events wait in the subscriber's
+     * buffer in TaskChangeFeed.
+     *
+     * @return 200 OK with a text/event-stream body that stays open
+     */
+    @GetMapping(value = "/tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TaskChangeEvent>> streamTaskChanges() {
+        log.debug("REST request to stream task changes");
+
+        return changeFeed.subscribe();
+    }
+
+    /**
+     * POST /api/tasks - Create a new task.
+     *
+     * @return 201 CREATED with the created task and its ETag
+     */
+    @Override
+    public Mono<ResponseEntity<TaskResponse>> createTask(@Valid Mono<TaskRequest> taskRequest,
+                                                         ServerWebExchange exchange) {
+        log.debug("REST request to create task");
+
+        return taskRequest.map(taskMapper::toEntity)
+                .flatMap(taskService::createTask)
+                .map(createdTask -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(TaskETags.of(createdTask))
+                        .body(taskMapper.toResponse(createdTask)));
+    }
+
+    /**
+     * POST /api/tasks/batch - Create several tasks in one transaction.
+     *
+     * @return 201 CREATED with the created tasks in request order
+     */
+    @Override
+    public Mono<ResponseEntity<TaskBatchResponse>> createTasksBatch(
+            @Valid Mono<TaskBatchCreateRequest> taskBatchCreateRequest, ServerWebExchange exchange) {
+        return taskBatchCreateRequest.flatMap(request -> {
+            log.debug("REST request to create batch of {} tasks", request.getItems().size());
+
+            List<Task> tasks = request.getItems().stream()
+                    .map(taskMapper::toEntity)
+                    .toList();
+            return taskService.createTasks(tasks);
+        }).map(createdTasks -> ResponseEntity.status(HttpStatus.CREATED).body(toBatchResponse(createdTasks)));
+    }
+
+    /**
+     * PATCH /api/tasks/batch - Update several tasks in one transaction.
+     *
+     * @return 200 OK with the updated tasks in request order, or 404 NOT_FOUND
+     *         if any task does not exist
+     */
+    @Override
+    public Mono<ResponseEntity<TaskBatchResponse>> updateTasksBatch(
+            @Valid Mono<TaskBatchUpdateRequest> taskBatchUpdateRequest, ServerWebExchange exchange) {
+        return taskBatchUpdateRequest.flatMap(request -> {
+            log.debug("REST request to update batch of {} tasks", request.getItems().size());
+
+            // LinkedHashMap keeps request order for the response
+            Map<Long, Task> updates = new LinkedHashMap<>();
+            for (TaskBatchUpdateItem item : request.getItems()) {
+                updates.put(item.getId(), taskMapper.toEntity(item.getTask()));
+            }
+            return taskService.updateTasks(updates);
+        }).map(updatedTasks -> ResponseEntity.ok(toBatchResponse(updatedTasks)));
+    }
+
+    /**
+     * DELETE /api/tasks/batch - Delete several tasks in one transaction.
+     *
+     * @return 204 NO_CONTENT on success, or 404 NOT_FOUND if any task does not
+     *         exist
+     */
+    @Override
+    public Mono<ResponseEntity<Void>> deleteTasksBatch(@Valid Mono<TaskBatchDeleteRequest> taskBatchDeleteRequest,
+                                                       ServerWebExchange exchange) {
+        return taskBatchDeleteRequest.flatMap(request -> {
+            log.debug("REST request to delete batch of {} tasks", request.getIds().size());
+
+            return taskService.deleteTasks(request.getIds());
+        }).then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    /**
+     * GET /api/tasks/{id} - Retrieve a task by ID.
+     *
+     * @return 200 OK with the task and its ETag, 304 NOT_MODIFIED if the
+     *         client's copy is current, or 404 NOT_FOUND if not exists
+     */
+    @Override
+    public Mono<ResponseEntity<TaskResponse>> getTaskById(Long id, String ifNoneMatch, ServerWebExchange exchange) {
+        log.debug("REST request to get task: {}", id);
+
+        return taskService.getTaskById(id).map(task -> {
+            String eTag = TaskETags.of(task);
+            if (TaskETags.matchesNoneMatch(ifNoneMatch, task)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<TaskResponse>build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(taskMapper.toResponse(task));
+        });
+    }
+
+    /**
+     * PUT /api/tasks/{id} - Update an existing task.
+     *
+     * @return 200 OK with the updated task and its new ETag, 404 NOT_FOUND if
+     *         not exists, or 412 PRECONDITION_FAILED if the ETag is stale
+     */
+    @Override
+    public Mono<ResponseEntity<TaskResponse>> updateTask(Long id, @Valid Mono<TaskRequest> taskRequest,
+                                                         String ifMatch, ServerWebExchange exchange) {
+        log.debug("REST request to update task: {}", id);
+
+        return Mono.defer(() -> {
+                    Long expectedVersion = TaskETags.expectedVersion(ifMatch, id);
+                    return taskRequest.map(taskMapper::toEntity)
+                            .flatMap(task -> taskService.updateTask(id, task, expectedVersion));
+                })
+                .map(updatedTask -> ResponseEntity.ok()
+                        .eTag(TaskETags.of(updatedTask))
+                        .body(taskMapper.toResponse(updatedTask)));
+    }
+
+    /**
+     * PATCH /api/tasks/{id} - Partially update a task (JSON Merge Patch).
+     *
+     * @return 200 OK with the updated task and its new ETag, 400 BAD_REQUEST
+     *         if title or status is null, 404 NOT_FOUND if not exists, or 412
+     *         PRECONDITION_FAILED if the ETag is stale
+     */
+    @Override
+    public Mono<ResponseEntity<TaskResponse>> patchTask(Long id, @Valid Mono<TaskPatchRequest> taskPatchRequest,
+                                                        String ifMatch, ServerWebExchange exchange) {
+        log.debug("REST request to patch task: {}", id);
+
+        return Mono.defer(() -> {
+                    Long expectedVersion = TaskETags.expectedVersion(ifMatch, id);
+                    return taskPatchRequest.map(taskMapper::toPatch)
+                            .flatMap(patch -> taskService.patchTask(id, patch, expectedVersion));
+                })
+                .map(patchedTask -> ResponseEntity.ok()
+                        .eTag(TaskETags.of(patchedTask))
+                        .body(taskMapper.toResponse(patchedTask)));
+    }
+
+    /**
+     * PUT /api/tasks/{id}/status - Change a task's status.
+     *
+     * Written right away with a single UPDATE: a waiting request holds no
+     * thread here, so the write-behind queue of the servlet stack is not
+     * needed. Unknown ids are ignored, as there.
+     *
+     * @return 202 ACCEPTED
+     */
+    @Override
+    public Mono<ResponseEntity<Void>> updateTaskStatus(Long id,
+                                                       @Valid Mono<TaskStatusUpdateRequest> taskStatusUpdateRequest,
+                                                       ServerWebExchange exchange) {
+        log.debug("REST request to change status of task: {}", id);
+
+        return taskStatusUpdateRequest
+                .flatMap(request -> taskService.updateStatus(id,
+                        taskMapper.mapApiStatusToEntityStatus(request.getStatus())))
+                .then(Mono.fromSupplier(() -> ResponseEntity.accepted().<Void>build()));
+    }
+
+    /**
+     * DELETE /api/tasks/{id} - Delete a task.
+     *
+     * @return 204 NO_CONTENT on success, 404 NOT_FOUND if not exists, or 412
+     *         PRECONDITION_FAILED if the ETag is stale
+     */
+    @Override
+    public Mono<ResponseEntity<Void>> deleteTask(Long id, String ifMatch, ServerWebExchange exchange) {
+        log.debug("REST request to delete task: {}", id);
+
+        return Mono.defer(() -> taskService.deleteTask(id, TaskETags.expectedVersion(ifMatch, id)))
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    private TaskBatchResponse toBatchResponse(List<Task> tasks) {
+        List<TaskResponse> items = tasks.stream()
+                .map(taskMapper::toResponse)
+                .toList();
+        return TaskBatchResponse.builder()
+                .items(items)
+                .build();
+    }
+
+    private TaskChangesResponse toChangesResponse(TaskChanges changes) {
+        List<TaskResponse> items = changes.tasks().stream()
+                .map(taskMapper::toResponse)
+                .toList();
+        return TaskChangesResponse.builder()
+                .items(items)
+                .deletedIds(changes.deletedIds())
+                .nextToken(changes.nextToken())
+                .hasMore(changes.hasMore())
+                .build();
+    }
+
+    private TaskPageResponse toPageResponse(TaskPage page) {
+        List<TaskResponse> items = page.tasks().stream()
+                .map(taskMapper::toResponse)
+                .toList();
+        return TaskPageResponse.builder()
+                .items(items)
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+
+}
@@ -1,20 +1,59 @@
 package com.accenture.taskmanager.controller;
 
 import com.accenture.taskmanager.api.TasksApi;
+import com.accenture.taskmanager.api.model.TaskBatchCreateRequest;
+import com.accenture.taskmanager.api.model.TaskBatchDeleteRequest;
+import com.accenture.taskmanager.api.model.TaskBatchResponse;
+import com.accenture.taskmanager.api.model.TaskBatchUpdateItem;
+import com.accenture.taskmanager.api.model.TaskBatchUpdateRequest;
+import com.accenture.taskmanager.api.model.TaskChangesResponse;
+import com.accenture.taskmanager.api.model.TaskPageResponse;
+import com.accenture.taskmanager.api.model.TaskPatchRequest;
 import com.accenture.taskmanager.api.model.TaskRequest;
 import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatsResponse;
+import com.accenture.taskmanager.api.model.TaskStatus;
+import com.accenture.taskmanager.api.model.TaskStatusUpdateRequest;
+import com.accenture.taskmanager.config.MetricsConfig;
 import com.accenture.taskmanager.mapper.TaskMapper;
 import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.repository.TaskSort;
+import com.accenture.taskmanager.service.TaskChangeEvent;
+import com.accenture.taskmanager.service.TaskChangeFeed;
+import com.accenture.taskmanager.service.TaskChanges;
+import com.accenture.taskmanager.service.TaskPage;
 import com.accenture.taskmanager.service.TaskService;
+import com.accenture.taskmanager.service.TaskStatusWriteBehind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -30,66 +69,265 @@ import java.util.stream.Collectors;
  * - Thin controller - business logic in service layer
  * - Returns appropriate HTTP status codes
  * - Exception handling delegated to GlobalExceptionHandler
+ * - Every endpoint method is observed as tasks.api: a timer (see
+ * MetricsConfig) and a span (see TracingConfig)
+ * - Default stack (Spring MVC + JPA); ReactiveTaskController replaces it with
+ * task-api.stack=reactive
  *
  * Base path: /api/tasks (from OpenAPI spec)
  */
 @RestController
 @RequestMapping("/api")
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "servlet", matchIfMissing = true)
+@Observed(name = MetricsConfig.API_TIMER)
 @RequiredArgsConstructor
 @Slf4j
 public class TaskController implements TasksApi {
 
+    /**
+     * Media type for newline-delimited JSON exports.
+     */
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Async timeout of change streams: none, they end when the client leaves
+     * or falls behind.
+     */
+    private static final long NO_TIMEOUT = 0L;
+
+    /**
+     * Writes change stream events. Servlet writes block while the client's
+     * socket buffer is full; on a virtual thread that parks the thread
+     * instead of pinning a Tomcat or MVC async worker.
+     */
+    private static final Scheduler STREAM_WRITER = Schedulers.fromExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-stream-", 0).factory()),
+            "task-stream");
+
     private final TaskService taskService;
     private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final TaskChangeFeed changeFeed;
+    private final TaskStatusWriteBehind statusWriteBehind;
 
     /**
-     * GET /api/tasks - Retrieve all tasks.
+     * GET /api/tasks - Retrieve one page of tasks.
      *
-     * @return 200 OK with list of tasks
+     * @param limit     maximum number of tasks in the page (1-500, default 50)
+     * @param cursor    cursor from the previous page, or null for the first page
+     * @param status    only tasks with this status, or null
+     * @param dueBefore only tasks due before this date, or null
+     * @param dueAfter  only tasks due after this date, or null
+     * @param sort      sort order (id, -id, dueDate, -dueDate; validated by the
+     *                  generated interface)
+     * @return 200 OK with the page of tasks, or 400 BAD_REQUEST for an invalid
+     *         cursor, filter or sort
      */
     @Override
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        log.debug("REST request to get all tasks");
+    public ResponseEntity<TaskPageResponse> getAllTasks(Integer limit, String cursor, TaskStatus status,
+                                                        LocalDate dueBefore, LocalDate dueAfter, String sort) {
+        log.debug("REST request to get tasks page: limit={}, cursor={}, status={}, dueBefore={}, dueAfter={}, sort={}",
+                limit, cursor, status, dueBefore, dueAfter, sort);
 
-        List<Task> tasks = taskService.getAllTasks();
-        List<TaskResponse> responses = tasks.stream()
-                .map(taskMapper::toResponse)
-                .collect(Collectors.toList());
+        TaskFilter filter = new TaskFilter(taskMapper.mapApiStatusToEntityStatus(status), dueBefore, dueAfter);
+        TaskPage page = taskService.getTasks(filter, TaskSort.fromValue(sort), cursor, limit);
+        return ResponseEntity.ok(toPageResponse(page));
+    }
 
-        return ResponseEntity.ok(responses);
+    /**
+     * GET /api/tasks/search - Full-text search over titles and descriptions.
+     *
+     * @param q      search text (1-200 characters)
+     * @param limit  maximum number of tasks in the page (1-500, default 50)
+     * @param cursor cursor from the previous page, or null for the first page
+     * @return 200 OK with the page of matching tasks, best matches first, or
+     *         400 BAD_REQUEST for a missing query or invalid cursor
+     */
+    @Override
+    public ResponseEntity<TaskPageResponse> searchTasks(String q, Integer limit, String cursor) {
+        log.debug("REST request to search tasks: q={}, limit={}, cursor={}", q, limit, cursor);
+
+        TaskPage page = taskService.searchTasks(q, cursor, limit);
+        return ResponseEntity.ok(toPageResponse(page));
+    }
+
+    /**
+     * GET /api/tasks/changes - Tasks changed and deleted since a sync token.
+     *
+     * @param since token from the previous sync, or null for an initial sync
+     * @param limit maximum number of changes (1-1000, default 500)
+     * @return 200 OK with the changes and the next token, or 400 BAD_REQUEST
+     *         for an invalid token
+     */
+    @Override
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(String since, Integer limit) {
+        log.debug("REST request to get task changes: since={}, limit={}", since, limit);
+
+        TaskChanges changes = taskService.getChanges(since, limit);
+        return ResponseEntity.ok(toChangesResponse(changes));
+    }
+
+    /**
+     * GET /api/tasks/stats - Task counts per status and overdue count.
+     *
+     * @return 200 OK with the counts (cached for a few seconds)
+     */
+    @Override
+    public ResponseEntity<TaskStatsResponse> getTaskStats() {
+        log.debug("REST request to get task statistics");
+
+        return ResponseEntity.ok(taskMapper.toStatsResponse(taskService.getStats()));
+    }
+
+    /**
+     * GET /api/tasks/export - Export every task as newline-delimited JSON.
+     *
+     * Not part of the generated TasksApi: the OpenAPI generator cannot express
+     * a streaming body. Rows are streamed from the database and written one
+     * JSON object per line, so no List of responses is ever built and memory
+     * stays constant regardless of table size.
+     *
+     * @return 200 OK with an application/x-ndjson body
+     */
+    @GetMapping(value = "/tasks/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        log.debug("REST request to export all tasks");
+
+        // NDJSON requires one object per line, even when pretty printing is on
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.INDENT_OUTPUT);
+
+        StreamingResponseBody body = out -> taskService.exportTasks(task -> {
+            try {
+                out.write(writer.writeValueAsBytes(taskMapper.toResponse(task)));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * GET /api/tasks/stream - Server-sent events for committed task changes.
+     *
+     * Not part of the generated TasksApi, like /tasks/export. The request
+     * goes async right away and holds no thread while idle; events are
+     * written from the per-subscriber buffer of TaskChangeFeed one at a
+     * time, so a slow client only ever delays itself.
+     *
+     * @return 200 OK with a text/event-stream body that stays open
+     */
+    @GetMapping(value = "/tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges() {
+        log.debug("REST request to stream task changes");
+
+        SseEmitter emitter = new SseEmitter(NO_TIMEOUT);
+        Disposable subscription = changeFeed.subscribe()
+                .publishOn(STREAM_WRITER, 1)
+                .subscribe(event -> send(emitter, event), emitter::completeWithError, emitter::complete);
+        emitter.onCompletion(subscription::dispose);
+        emitter.onError(ex -> subscription.dispose());
+        return emitter;
     }
 
     /**
      * POST /api/tasks - Create a new task.
      *
      * @param taskRequest the task to create
-     * @return 201 CREATED with the created task
+     * @return 201 CREATED with the created task and its ETag
      */
     @Override
     public ResponseEntity<TaskResponse> createTask(@Valid TaskRequest taskRequest) {
-        log.debug("REST request to create task: {}", taskRequest);
+        log.debug("REST request to create task");
 
         Task task = taskMapper.toEntity(taskRequest);
         Task createdTask = taskService.createTask(task);
         TaskResponse response = taskMapper.toResponse(createdTask);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(TaskETags.of(createdTask))
+                .body(response);
+    }
+
+    /**
+     * POST /api/tasks/batch - Create several tasks in one transaction.
+     *
+     * @param taskBatchCreateRequest the tasks to create
+     * @return 201 CREATED with the created tasks in request order
+     */
+    @Override
+    public ResponseEntity<TaskBatchResponse> createTasksBatch(@Valid TaskBatchCreateRequest taskBatchCreateRequest) {
+        log.debug("REST request to create batch of {} tasks", taskBatchCreateRequest.getItems().size());
+
+        List<Task> tasks = taskBatchCreateRequest.getItems().stream()
+                .map(taskMapper::toEntity)
+                .collect(Collectors.toList());
+        List<Task> createdTasks = taskService.createTasks(tasks);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(toBatchResponse(createdTasks));
+    }
+
+    /**
+     * PATCH /api/tasks/batch - Update several tasks in one transaction.
+     *
+     * @param taskBatchUpdateRequest the task ids with their updated data
+     * @return 200 OK with the updated tasks in request order, or 404 NOT_FOUND
+     *         if any task does not exist
+     */
+    @Override
+    public ResponseEntity<TaskBatchResponse> updateTasksBatch(@Valid TaskBatchUpdateRequest taskBatchUpdateRequest) {
+        log.debug("REST request to update batch of {} tasks", taskBatchUpdateRequest.getItems().size());
+
+        // LinkedHashMap keeps request order for the response
+        Map<Long, Task> updates = new LinkedHashMap<>();
+        for (TaskBatchUpdateItem item : taskBatchUpdateRequest.getItems()) {
+            updates.put(item.getId(), taskMapper.toEntity(item.getTask()));
+        }
+        List<Task> updatedTasks = taskService.updateTasks(updates);
+
+        return ResponseEntity.ok(toBatchResponse(updatedTasks));
+    }
+
+    /**
+     * DELETE /api/tasks/batch - Delete several tasks in one transaction.
+     *
+     * @param taskBatchDeleteRequest the ids of the tasks to delete
+     * @return 204 NO_CONTENT on success, or 404 NOT_FOUND if any task does not
+     *         exist
+     */
+    @Override
+    public ResponseEntity<Void> deleteTasksBatch(@Valid TaskBatchDeleteRequest taskBatchDeleteRequest) {
+        log.debug("REST request to delete batch of {} tasks", taskBatchDeleteRequest.getIds().size());
+
+        taskService.deleteTasks(taskBatchDeleteRequest.getIds());
+
+        return ResponseEntity.noContent().build();
     }
 
     /**
      * GET /api/tasks/{id} - Retrieve a task by ID.
      *
-     * @param id the task ID
-     * @return 200 OK with the task, or 404 NOT_FOUND if not exists
+     * @param id          the task ID
+     * @param ifNoneMatch ETag of the client's cached copy, or null
+     * @return 200 OK with the task and its ETag, 304 NOT_MODIFIED if the
+     *         client's copy is current, or 404 NOT_FOUND if not exists
      */
     @Override
-    public ResponseEntity<TaskResponse> getTaskById(Long id) {
+    public ResponseEntity<TaskResponse> getTaskById(Long id, String ifNoneMatch) {
         log.debug("REST request to get task: {}", id);
 
         Task task = taskService.getTaskById(id);
+        String eTag = TaskETags.of(task);
+        if (TaskETags.matchesNoneMatch(ifNoneMatch, task)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         TaskResponse response = taskMapper.toResponse(task);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     /**
@@ -97,32 +335,122 @@ public class TaskController implements TasksApi {
      *
      * @param id          the task ID
      * @param taskRequest the updated task data
-     * @return 200 OK with the updated task, or 404 NOT_FOUND if not exists
+     * @param ifMatch     ETag the client expects the task to have, or null
+     * @return 200 OK with the updated task and its new ETag, 404 NOT_FOUND if
+     *         not exists, or 412 PRECONDITION_FAILED if the ETag is stale
      */
     @Override
-    public ResponseEntity<TaskResponse> updateTask(Long id, @Valid TaskRequest taskRequest) {
+    public ResponseEntity<TaskResponse> updateTask(Long id, @Valid TaskRequest taskRequest, String ifMatch) {
         log.debug("REST request to update task: {}", id);
 
+        Long expectedVersion = TaskETags.expectedVersion(ifMatch, id);
         Task task = taskMapper.toEntity(taskRequest);
-        Task updatedTask = taskService.updateTask(id, task);
+        Task updatedTask = taskService.updateTask(id, task, expectedVersion);
         TaskResponse response = taskMapper.toResponse(updatedTask);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(TaskETags.of(updatedTask)).body(response);
+    }
+
+    /**
+     * PATCH /api/tasks/{id} - Partially update a task (JSON Merge Patch).
+     *
+     * @param id               the task ID
+     * @param taskPatchRequest the fields to change
+     * @param ifMatch          ETag the client expects the task to have, or null
+     * @return 200 OK with the updated task and its new ETag, 400 BAD_REQUEST
+     *         if title or status is null, 404 NOT_FOUND if not exists, or 412
+     *         PRECONDITION_FAILED if the ETag is stale
+     */
+    @Override
+    public ResponseEntity<TaskResponse> patchTask(Long id, @Valid TaskPatchRequest taskPatchRequest, String ifMatch) {
+        log.debug("REST request to patch task: {}", id);
+
+        Long expectedVersion = TaskETags.expectedVersion(ifMatch, id);
+        TaskPatch patch = taskMapper.toPatch(taskPatchRequest);
+        Task patchedTask = taskService.patchTask(id, patch, expectedVersion);
+        TaskResponse response = taskMapper.toResponse(patchedTask);
+
+        return ResponseEntity.ok().eTag(TaskETags.of(patchedTask)).body(response);
+    }
+
+    /**
+     * PUT /api/tasks/{id}/status - Queue a status change.
+     *
+     * Returns before anything is written: TaskStatusWriteBehind coalesces
+     * the changes per task and writes them once per window.
+     *
+     * @param id                      the task ID
+     * @param taskStatusUpdateRequest the new status
+     * @return 202 ACCEPTED, or 503 SERVICE_UNAVAILABLE if too many changes
+     *         are queued
+     */
+    @Override
+    public ResponseEntity<Void> updateTaskStatus(Long id, @Valid TaskStatusUpdateRequest taskStatusUpdateRequest) {
+        log.debug("REST request to queue status change of task: {}", id);
+
+        statusWriteBehind.enqueue(id, taskMapper.mapApiStatusToEntityStatus(taskStatusUpdateRequest.getStatus()));
+
+        return ResponseEntity.accepted().build();
     }
 
     /**
      * DELETE /api/tasks/{id} - Delete a task.
      *
-     * @param id the task ID
-     * @return 204 NO_CONTENT on success, or 404 NOT_FOUND if not exists
+     * @param id      the task ID
+     * @param ifMatch ETag the client expects the task to have, or null
+     * @return 204 NO_CONTENT on success, 404 NOT_FOUND if not exists, or 412
+     *         PRECONDITION_FAILED if the ETag is stale
      */
     @Override
-    public ResponseEntity<Void> deleteTask(Long id) {
+    public ResponseEntity<Void> deleteTask(Long id, String ifMatch) {
         log.debug("REST request to delete task: {}", id);
 
-        taskService.deleteTask(id);
+        taskService.deleteTask(id, TaskETags.expectedVersion(ifMatch, id));
 
         return ResponseEntity.noContent().build();
     }
 
+    private TaskBatchResponse toBatchResponse(List<Task> tasks) {
+        List<TaskResponse> items = tasks.stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+        return TaskBatchResponse.builder()
+                .items(items)
+                .build();
+    }
+
+    private static void send(SseEmitter emitter, ServerSentEvent<TaskChangeEvent> event) {
+        SseEmitter.SseEventBuilder builder = event.data() == null
+                ? SseEmitter.event().comment(event.comment())
+                : SseEmitter.event().name(event.event()).data(event.data(), MediaType.APPLICATION_JSON);
+        try {
+            emitter.send(builder);
+        } catch (IOException ex) {
+            // Client gone; the error cancels the subscription
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private TaskChangesResponse toChangesResponse(TaskChanges changes) {
+        List<TaskResponse> items = changes.tasks().stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+        return TaskChangesResponse.builder()
+                .items(items)
+                .deletedIds(changes.deletedIds())
+                .nextToken(changes.nextToken())
+                .hasMore(changes.hasMore())
+                .build();
+    }
+
+    private TaskPageResponse toPageResponse(TaskPage page) {
+        List<TaskResponse> items = page.tasks().stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+        return TaskPageResponse.builder()
+                .items(items)
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+
 }
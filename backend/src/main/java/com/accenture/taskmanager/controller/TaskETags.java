@@ -0,0 +1,83 @@
+package com.accenture.taskmanager.controller;
+
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
+import com.accenture.taskmanager.model.Task;
+
+/**
+ * Entity tags for tasks, derived from the optimistic locking version.
+ *
+ * A task's ETag is its version as a strong tag, e.g. "3". Any update bumps
+ * the version, so the tag changes exactly when the representation does.
+ *
+ * Architecture:
+ * - If-None-Match uses weak comparison (W/ prefix ignored), as RFC 9110 requires for GET
+ * - If-Match uses strong comparison and supports "*" or a single ETag
+ */
+final class TaskETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private TaskETags() {
+    }
+
+    /**
+     * Build the ETag header value for a task.
+     *
+     * @param task the persisted task
+     * @return quoted version, e.g. "3"
+     */
+    static String of(Task task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    /**
+     * Check an If-None-Match header against a task.
+     *
+     * @param ifNoneMatch header value (may list several tags), or null
+     * @param task        the current task
+     * @return true if the client's copy is current and 304 can be returned
+     */
+    static boolean matchesNoneMatch(String ifNoneMatch, Task task) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = of(task);
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (trimmed.equals(ANY) || trimmed.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extract the version a conditional write expects from If-Match.
+     *
+     * @param ifMatch header value, or null
+     * @param id      the task ID, for the error message
+     * @return the expected version, or null if the write is unconditional
+     *         (header absent or "*")
+     * @throws TaskVersionMismatchException if the header cannot match any
+     *                                      version (weak, list or malformed tag)
+     */
+    static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new TaskVersionMismatchException(id);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new TaskVersionMismatchException(id);
+        }
+    }
+
+}
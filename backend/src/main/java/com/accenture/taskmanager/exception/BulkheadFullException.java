@@ -0,0 +1,39 @@
+package com.accenture.taskmanager.exception;
+
+/**
+ * Exception thrown when all concurrent slots of a bulkhead are taken.
+ *
+ * Raised by RateLimitInterceptor when the read or write bulkhead has no
+ * free slot within its wait time, and by TaskStatusWriteBehind when its
+ * queue is full; caught by the global exception handler
+ * and converted to a 503 SERVICE_UNAVAILABLE HTTP response with a
+ * Retry-After header.
+ *
+ * Architecture:
+ * - Unchecked exception, thrown from a HandlerInterceptor or service
+ * - Carries the bulkhead name for logging and metrics
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    /**
+     * Create exception with the name of the full bulkhead.
+     *
+     * @param bulkhead the bulkhead name (read, write or status update)
+     */
+    public BulkheadFullException(String bulkhead) {
+        super("Too many concurrent " + bulkhead + " requests");
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Get the name of the bulkhead that rejected the request.
+     *
+     * @return the bulkhead name
+     */
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+}
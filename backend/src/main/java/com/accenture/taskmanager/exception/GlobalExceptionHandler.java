@@ -1,13 +1,29 @@
 package com.accenture.taskmanager.exception;
 
 import com.accenture.taskmanager.api.model.ErrorResponse;
+import com.accenture.taskmanager.config.MetricsConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.Duration;
 
 /**
  * Global exception handler for REST controllers.
@@ -21,11 +37,25 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * - Returns consistent ErrorResponse format from OpenAPI spec
  * - Logs errors for debugging and monitoring
  * - Maps exceptions to appropriate HTTP status codes
+ * - Overload responses (429 rate limited, 503 bulkhead or pool exhausted)
+ * carry Retry-After
+ * - Counts every error response as tasks.errors, tagged with its code and
+ * HTTP status (see MetricsConfig)
  */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param meterRegistry registry for the error counter; test slices without
+     *                      metrics auto-configuration get a private registry
+     */
+    public GlobalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
     /**
      * Handle TaskNotFoundException.
      *
@@ -43,7 +73,71 @@ public class GlobalExceptionHandler {
                 .code("NOT_FOUND")
                 .build();
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return respond(HttpStatus.NOT_FOUND, error);
+    }
+
+    /**
+     * Handle TaskVersionMismatchException.
+     *
+     * Returns 412 PRECONDITION_FAILED when an If-Match ETag no longer matches
+     * the task's current version.
+     *
+     * @param ex the exception
+     * @return 412 response with error message
+     */
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleVersionMismatch(TaskVersionMismatchException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .code("PRECONDITION_FAILED")
+                .build();
+
+        return respond(HttpStatus.PRECONDITION_FAILED, error);
+    }
+
+    /**
+     * Handle InvalidCursorException.
+     *
+     * Returns 400 BAD_REQUEST when a pagination cursor cannot be decoded.
+     *
+     * @param ex the exception
+     * @return 400 response with error message
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        log.warn("Invalid cursor: {}", ex.getCursor());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .field("cursor")
+                .code("INVALID_CURSOR")
+                .build();
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Handle InvalidPatchException.
+     *
+     * Returns 400 BAD_REQUEST when a merge patch sets title or status to
+     * null.
+     *
+     * @param ex the exception
+     * @return 400 response with error message and field
+     */
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPatch(InvalidPatchException ex) {
+        log.warn("Invalid patch: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .field(ex.getField())
+                .code("VALIDATION_ERROR")
+                .build();
+
+        return respond(HttpStatus.BAD_REQUEST, error);
     }
 
     /**
@@ -75,7 +169,216 @@ public class GlobalExceptionHandler {
                 .code("VALIDATION_ERROR")
                 .build();
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Handle constraint violations on request parameters.
+     *
+     * Triggered when a query or path parameter fails method validation
+     * (e.g. limit outside its allowed range).
+     * Returns 400 BAD_REQUEST with the offending parameter name.
+     *
+     * @param ex the constraint violation exception
+     * @return 400 response with validation error details
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
+        // Get the first violation for simplicity
+        ConstraintViolation<?> violation = ex.getConstraintViolations().stream()
+                .findFirst()
+                .orElse(null);
+
+        String message = violation != null
+                ? violation.getMessage()
+                : "Validation failed";
+        String field = null;
+        if (violation != null) {
+            // Property path looks like "getAllTasks.limit" - keep the parameter name
+            for (Path.Node node : violation.getPropertyPath()) {
+                field = node.getName();
+            }
+        }
+
+        log.warn("Parameter validation error: {} on field: {}", message, field);
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(message)
+                .field(field)
+                .code("VALIDATION_ERROR")
+                .build();
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Handle query or path parameters that cannot be converted.
+     *
+     * Triggered when a parameter has the wrong type or format
+     * (e.g. status=DOING, dueBefore=tomorrow).
+     * Returns 400 BAD_REQUEST with the offending parameter name.
+     *
+     * @param ex the type mismatch exception
+     * @return 400 response with validation error details
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        String message = "Invalid value '" + ex.getValue() + "' for parameter " + ex.getName();
+        log.warn("Parameter type mismatch: {}", message);
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(message)
+                .field(ex.getName())
+                .code("VALIDATION_ERROR")
+                .build();
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Handle missing required query parameters.
+     *
+     * Triggered when a required parameter is absent (e.g. q on search).
+     * Returns 400 BAD_REQUEST with the missing parameter name.
+     *
+     * @param ex the missing parameter exception
+     * @return 400 response with validation error details
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
+        log.warn("Missing request parameter: {}", ex.getParameterName());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message("Missing required parameter " + ex.getParameterName())
+                .field(ex.getParameterName())
+                .code("VALIDATION_ERROR")
+                .build();
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Handle request body validation errors on the reactive stack.
+     *
+     * WebFlux counterpart of MethodArgumentNotValidException, raised when a
+     * request body fails Bean Validation in ReactiveTaskController.
+     * Returns 400 BAD_REQUEST with field-specific error details.
+     *
+     * @param ex the validation exception
+     * @return 400 response with validation error details
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleBindErrors(WebExchangeBindException ex) {
+        FieldError fieldError = ex.getBindingResult().getFieldError();
+
+        String message = fieldError != null
+                ? fieldError.getDefaultMessage()
+                : "Validation failed";
+        String field = fieldError != null
+                ? fieldError.getField()
+                : null;
+
+        log.warn("Validation error: {} on field: {}", message, field);
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(message)
+                .field(field)
+                .code("VALIDATION_ERROR")
+                .build();
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Handle missing or unconvertible request input on the reactive stack.
+     *
+     * WebFlux reports both missing required parameters and parameters of the
+     * wrong type or format as ServerWebInputException.
+     * Returns 400 BAD_REQUEST with the offending parameter name, if known.
+     *
+     * @param ex the input exception
+     * @return 400 response with validation error details
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+        MethodParameter parameter = ex.getMethodParameter();
+        String field = parameter != null ? parameter.getParameterName() : null;
+        String message = ex.getReason() != null ? ex.getReason() : "Invalid request";
+        log.warn("Invalid request input: {}", message);
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(message)
+                .field(field)
+                .code("VALIDATION_ERROR")
+                .build();
+
+        return respond(HttpStatus.BAD_REQUEST, error);
+    }
+
+    /**
+     * Handle RateLimitExceededException.
+     *
+     * Returns 429 TOO_MANY_REQUESTS with Retry-After when a client has used
+     * up its request allowance (see RateLimitInterceptor). Logged at INFO,
+     * which LogSamplingFilter caps, as an abusive client triggers it on
+     * every request.
+     *
+     * @param ex the exception
+     * @return 429 response telling the client when to retry
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+        log.info("Rate limit exceeded, retry after {} ms", ex.getRetryAfter().toMillis());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .code("RATE_LIMITED")
+                .build();
+
+        return respond(HttpStatus.TOO_MANY_REQUESTS, error, ex.getRetryAfter());
+    }
+
+    /**
+     * Handle BulkheadFullException.
+     *
+     * Returns 503 SERVICE_UNAVAILABLE with Retry-After when all concurrent
+     * read or write slots are taken (see RateLimitInterceptor).
+     *
+     * @param ex the exception
+     * @return 503 response asking the client to retry
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        log.info("Bulkhead full: {}", ex.getBulkhead());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message("Service temporarily unavailable, please retry")
+                .code("SERVICE_UNAVAILABLE")
+                .build();
+
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, error, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Handle CannotCreateTransactionException.
+     *
+     * Returns 503 SERVICE_UNAVAILABLE with Retry-After when no database
+     * connection could be obtained in time (pool or DatabaseLimiterConfig
+     * permits exhausted, or the database unreachable).
+     *
+     * @param ex the exception
+     * @return 503 response asking the client to retry
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransaction(CannotCreateTransactionException ex) {
+        log.warn("No database connection available: {}", ex.getMostSpecificCause().getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .message("Service temporarily unavailable, please retry")
+                .code("SERVICE_UNAVAILABLE")
+                .build();
+
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, error, Duration.ofSeconds(1));
     }
 
     /**
@@ -96,7 +399,29 @@ public class GlobalExceptionHandler {
                 .code("INTERNAL_ERROR")
                 .build();
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, error);
+    }
+
+    private ResponseEntity<ErrorResponse> respond(HttpStatus status, ErrorResponse error) {
+        return ResponseEntity.status(status).body(count(status, error));
+    }
+
+    /**
+     * Error response with a Retry-After header in whole seconds, rounded up
+     * and at least 1.
+     */
+    private ResponseEntity<ErrorResponse> respond(HttpStatus status, ErrorResponse error, Duration retryAfter) {
+        long seconds = Math.max(1, retryAfter.plusNanos(999_999_999).toSeconds());
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(count(status, error));
+    }
+
+    private ErrorResponse count(HttpStatus status, ErrorResponse error) {
+        meterRegistry.counter(MetricsConfig.ERRORS_COUNTER,
+                "code", error.getCode(),
+                "status", String.valueOf(status.value())).increment();
+        return error;
     }
 
 }
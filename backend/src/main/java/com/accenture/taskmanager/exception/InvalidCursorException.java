@@ -0,0 +1,36 @@
+package com.accenture.taskmanager.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ *
+ * Caught by the global exception handler and converted to a 400 BAD_REQUEST
+ * HTTP response.
+ *
+ * Architecture:
+ * - Unchecked exception for cleaner service method signatures
+ * - Carries the rejected cursor for error message context
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    private final String cursor;
+
+    /**
+     * Create exception with the rejected cursor.
+     *
+     * @param cursor the cursor value sent by the client
+     */
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+        this.cursor = cursor;
+    }
+
+    /**
+     * Get the cursor that could not be decoded.
+     *
+     * @return the rejected cursor
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.accenture.taskmanager.exception;
+
+/**
+ * Exception thrown when a merge patch sets a required task field to null.
+ *
+ * In JSON Merge Patch, null removes a field; title and status cannot be
+ * removed. Caught by the global exception handler and converted to a 400
+ * BAD_REQUEST HTTP response.
+ *
+ * Architecture:
+ * - Unchecked exception for cleaner service method signatures
+ * - Carries the rejected field for the error response
+ */
+public class InvalidPatchException extends RuntimeException {
+
+    private final String field;
+
+    /**
+     * Create exception with the field that cannot be cleared.
+     *
+     * @param field the name of the required field set to null
+     */
+    public InvalidPatchException(String field) {
+        super(field + " cannot be null");
+        this.field = field;
+    }
+
+    /**
+     * Get the field that was set to null.
+     *
+     * @return the field name
+     */
+    public String getField() {
+        return field;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.accenture.taskmanager.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a client has used up its request allowance.
+ *
+ * Raised by RateLimitInterceptor before the request reaches the controller;
+ * caught by the global exception handler and converted to a 429
+ * TOO_MANY_REQUESTS HTTP response with a Retry-After header.
+ *
+ * Architecture:
+ * - Unchecked exception, thrown from a HandlerInterceptor
+ * - Carries how long the client should wait before its next request
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Create exception with the time until a request is allowed again.
+     *
+     * @param retryAfter time until the client's next token is available
+     */
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Too many requests, please retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Get the time until the client may send its next request.
+     *
+     * @return the wait
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
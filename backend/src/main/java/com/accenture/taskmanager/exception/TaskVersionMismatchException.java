@@ -0,0 +1,37 @@
+package com.accenture.taskmanager.exception;
+
+/**
+ * Exception thrown when a conditional write finds the task at a different
+ * version than the client expected (If-Match precondition failed).
+ *
+ * Caught by the global exception handler and converted to a 412
+ * PRECONDITION_FAILED HTTP response.
+ *
+ * Architecture:
+ * - Unchecked exception for cleaner service method signatures
+ * - Carries the task ID for error message context
+ */
+public class TaskVersionMismatchException extends RuntimeException {
+
+    private final Long taskId;
+
+    /**
+     * Create exception with task ID.
+     *
+     * @param taskId the ID of the task that was modified concurrently
+     */
+    public TaskVersionMismatchException(Long taskId) {
+        super("Task has been modified since it was read, id: " + taskId);
+        this.taskId = taskId;
+    }
+
+    /**
+     * Get the ID of the task whose version did not match.
+     *
+     * @return the task ID
+     */
+    public Long getTaskId() {
+        return taskId;
+    }
+
+}
@@ -1,9 +1,14 @@
 package com.accenture.taskmanager.mapper;
 
+import com.accenture.taskmanager.api.model.TaskPatchRequest;
 import com.accenture.taskmanager.api.model.TaskRequest;
 import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatsResponse;
 import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.service.TaskStats;
 import org.mapstruct.*;
+import org.openapitools.jackson.nullable.JsonNullable;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -14,7 +19,9 @@ import java.time.ZoneOffset;
  *
  * Handles bidirectional mapping between:
  * - TaskRequest (API input) ↔ Task (Entity)
+ * - TaskPatchRequest (API input) → TaskPatch (partial update)
  * - Task (Entity) ↔ TaskResponse (API output)
+ * - TaskStats (service result) → TaskStatsResponse (API output)
  *
  * Architecture:
  * - MapStruct generates implementation at compile time (no reflection)
@@ -44,6 +51,7 @@ public interface TaskMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Task toEntity(TaskRequest request);
 
     /**
@@ -60,6 +68,14 @@ public interface TaskMapper {
     @Mapping(target = "updatedAt", source = "updatedAt", qualifiedByName = "instantToOffsetDateTime")
     TaskResponse toResponse(Task task);
 
+    /**
+     * Convert aggregate task counts to TaskStatsResponse (API output).
+     *
+     * @param stats the counts computed by TaskService
+     * @return TaskStatsResponse for API output
+     */
+    TaskStatsResponse toStatsResponse(TaskStats stats);
+
     /**
      * Update existing Task entity from TaskRequest.
      *
@@ -74,9 +90,30 @@ public interface TaskMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
     void updateEntityFromRequest(TaskRequest request, @MappingTarget Task task);
 
+    /**
+     * Convert TaskPatchRequest (JSON Merge Patch) to a TaskPatch.
+     *
+     * Used for PATCH operations. Unlike updateEntityFromRequest, keeps
+     * absent fields apart from fields sent as null, which TaskPatch needs to
+     * write only the sent columns.
+     *
+     * @param request the API patch request
+     * @return the patch
+     * @throws com.accenture.taskmanager.exception.InvalidPatchException if
+     *         title or status is null
+     */
+    default TaskPatch toPatch(TaskPatchRequest request) {
+        JsonNullable<com.accenture.taskmanager.model.TaskStatus> status = JsonNullable.undefined();
+        if (request.getStatus() != null && request.getStatus().isPresent()) {
+            status = JsonNullable.of(mapApiStatusToEntityStatus(request.getStatus().get()));
+        }
+        return new TaskPatch(request.getTitle(), request.getDescription(), status, request.getDueDate());
+    }
+
     /**
      * Custom mapping: Convert Instant to OffsetDateTime.
      *
@@ -33,9 +33,14 @@ public class Task {
     /**
      * Unique identifier for the task.
      * Auto-generated by database sequence.
+     *
+     * Uses a pooled sequence (allocationSize = 50, matching INCREMENT BY 50
+     * in V2 migration) instead of IDENTITY: Hibernate reserves 50 ids per
+     * round trip and can send inserts as JDBC batches.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -87,6 +92,15 @@ public class Task {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Optimistic locking version.
+     * Incremented on every update and exposed to clients as the ETag.
+     * Null until the entity is first persisted.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * JPA callback: Set createdAt and updatedAt before persisting new entity.
      */
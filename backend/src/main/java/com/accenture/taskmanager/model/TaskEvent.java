@@ -0,0 +1,64 @@
+package com.accenture.taskmanager.model;
+
+import com.accenture.taskmanager.service.TaskChangeEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Outbox entity - one task mutation waiting to be relayed downstream.
+ *
+ * Maps to the 'task_events' table (V6 migration).
+ *
+ * Architecture:
+ * - Written by TaskOutbox with JDBC batch inserts inside the write
+ * transaction, so an event exists if and only if its write committed
+ * - Drained and deleted by TaskOutboxRelay; never read through the
+ * persistence context, the mapping gives the table to Hibernate DDL and
+ * schema validation
+ * - Read-only from the application's point of view, hence no setters
+ */
+@Entity
+@Table(name = "task_events")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+
+    /**
+     * Event id, increasing in insertion order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Id of the created, updated or deleted task.
+     */
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /**
+     * Kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private TaskChangeEvent.Type type;
+
+    /**
+     * Timestamp of the write transaction.
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+}
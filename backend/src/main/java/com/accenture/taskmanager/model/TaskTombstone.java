@@ -0,0 +1,45 @@
+package com.accenture.taskmanager.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Tombstone entity - records that a task was deleted.
+ *
+ * Maps to the 'task_tombstones' table (V5 migration).
+ *
+ * Architecture:
+ * - Tasks are still hard-deleted; TaskService writes the tombstone in the
+ * delete transaction, with a single INSERT ... SELECT
+ * - Read by delta sync (GET /tasks/changes) so clients can drop deleted
+ * tasks without downloading the whole list
+ * - Read-only from the application's point of view, hence no setters
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    /**
+     * Id of the deleted task. Task ids are never reused.
+     */
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    /**
+     * Timestamp when the task was deleted.
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+}
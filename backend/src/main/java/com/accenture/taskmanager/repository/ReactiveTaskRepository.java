@@ -0,0 +1,581 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.model.TaskTombstone;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.UpdatedRow;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Non-blocking task data access over R2DBC, used by the reactive stack.
+ *
+ * Issues the same statements as TaskRepository and TaskRepositoryCustomImpl
+ * do through JPA, written as SQL with named parameters:
+ * - findPage: filters, sort and keyset predicate of TaskFilter and TaskSort
+ * - search, updateReturning and patchReturning: the SQL built by
+ * TaskRepositoryCustomImpl
+ * - insertTombstones: TaskTombstoneRepository.INSERT_SQL
+ * - insert takes its id from tasks_id_seq like Hibernate's pooled optimizer:
+ * every nextval value is the top of a block of 50 ids (V2 migration) that
+ * this instance hands out before the next nextval, so ids never collide
+ * with blocks reserved by Hibernate on other instances
+ *
+ * Architecture:
+ * - Rows are mapped to the Task entity by column name, so TaskMapper and the
+ * services' domain logic are shared with the JPA stack
+ * - The SQL variants (RETURNING vs FINAL TABLE, tsvector vs LIKE search) are
+ * chosen once from the connection factory metadata
+ * - Only created with task-api.stack=reactive
+ */
+@Repository
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "reactive")
+public class ReactiveTaskRepository {
+
+    /**
+     * Task columns read by every query, qualified with alias t.
+     */
+    static final String COLUMNS = "t.id, t.title, t.description, t.status, t.due_date, t.created_at, "
+            + "t.updated_at, t.version";
+
+    private static final String INSERT_COLUMNS = "tasks (id, title, description, status, due_date, created_at, "
+            + "updated_at, version)";
+    private static final String INSERT_SQL = "INSERT INTO " + INSERT_COLUMNS
+            + " VALUES (:id, :title, :description, :status, :dueDate, :createdAt, :updatedAt, 0)";
+
+    /**
+     * Ids reserved by one nextval call; matches INCREMENT BY in the V2
+     * migration and allocationSize on Task.id.
+     */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+    private final boolean postgres;
+    private final String nextIdSql;
+
+    /**
+     * Next id of the current block and the last id of the block; the block
+     * is used up when nextId passes lastId. Guarded by this.
+     */
+    private long nextId = 1;
+    private long lastId = 0;
+
+    /**
+     * @param databaseClient client bound to the R2DBC connection factory
+     */
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this(databaseClient, "PostgreSQL".equalsIgnoreCase(
+                databaseClient.getConnectionFactory().getMetadata().getName()));
+    }
+
+    ReactiveTaskRepository(DatabaseClient databaseClient, boolean postgres) {
+        this.databaseClient = databaseClient;
+        this.postgres = postgres;
+        this.nextIdSql = nextIdSql(postgres);
+    }
+
+    /**
+     * Choose the sequence call supported by the database.
+     *
+     * @param postgres whether the database is PostgreSQL
+     * @return SQL returning the next tasks_id_seq value as column id
+     */
+    static String nextIdSql(boolean postgres) {
+        return postgres
+                ? "SELECT nextval('tasks_id_seq') AS id"
+                : "SELECT NEXT VALUE FOR tasks_id_seq AS id";
+    }
+
+    /**
+     * Build the page query for a filter, sort and keyset position.
+     *
+     * Mirrors TaskFilter.toSpecification, TaskSort.after and TaskSort.orders.
+     *
+     * @param filter       status and due date filters
+     * @param sort         order of the rows
+     * @param afterId      id of the last row of the previous page, or null
+     *                     for the first page
+     * @param afterDueDate due date of that row (may be null)
+     * @return SQL with the :status, :dueBefore, :dueAfter, :afterId,
+     *         :afterDueDate and :limit parameters it needs
+     */
+    static String pageSql(TaskFilter filter, TaskSort sort, Long afterId, LocalDate afterDueDate) {
+        List<String> predicates = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add("t.status = :status");
+        }
+        if (filter.dueBefore() != null) {
+            predicates.add("t.due_date < :dueBefore");
+        }
+        if (filter.dueAfter() != null) {
+            predicates.add("t.due_date > :dueAfter");
+        }
+        if (afterId != null) {
+            predicates.add(keysetPredicate(sort, afterDueDate));
+        }
+
+        String sql = "SELECT " + COLUMNS + " FROM tasks t";
+        if (!predicates.isEmpty()) {
+            sql += " WHERE " + String.join(" AND ", predicates);
+        }
+        return sql + " ORDER BY " + orderBy(sort) + " LIMIT :limit";
+    }
+
+    private static String keysetPredicate(TaskSort sort, LocalDate afterDueDate) {
+        String idAfter = sort.descending() ? "t.id < :afterId" : "t.id > :afterId";
+        if (!sort.byDueDate()) {
+            return idAfter;
+        }
+        if (!sort.descending()) {
+            if (afterDueDate == null) {
+                // Nulls come last: only the remaining null rows follow
+                return "(t.due_date IS NULL AND " + idAfter + ")";
+            }
+            // The dated rows after the position, then the null tail
+            return "((t.due_date, t.id) > (:afterDueDate, :afterId) OR t.due_date IS NULL)";
+        }
+        if (afterDueDate == null) {
+            // Nulls come first: the remaining null rows, then every dated row
+            return "((t.due_date IS NULL AND " + idAfter + ") OR t.due_date IS NOT NULL)";
+        }
+        return "(t.due_date, t.id) < (:afterDueDate, :afterId)";
+    }
+
+    private static String orderBy(TaskSort sort) {
+        if (!sort.byDueDate()) {
+            return sort.descending() ? "t.id DESC" : "t.id";
+        }
+        return sort.descending() ? "t.due_date DESC NULLS FIRST, t.id DESC" : "t.due_date ASC NULLS LAST, t.id";
+    }
+
+    /**
+     * Find one page of tasks.
+     *
+     * @param filter       status and due date filters
+     * @param sort         order of the rows
+     * @param afterId      id of the last row of the previous page, or null
+     *                     for the first page
+     * @param afterDueDate due date of that row (may be null)
+     * @param limit        maximum number of tasks to return
+     * @return the matching tasks in sort order
+     */
+    public Flux<Task> findPage(TaskFilter filter, TaskSort sort, Long afterId, LocalDate afterDueDate, int limit) {
+        GenericExecuteSpec spec = databaseClient.sql(pageSql(filter, sort, afterId, afterDueDate))
+                .bind("limit", limit);
+        if (filter.status() != null) {
+            spec = spec.bind("status", filter.status().name());
+        }
+        if (filter.dueBefore() != null) {
+            spec = spec.bind("dueBefore", filter.dueBefore());
+        }
+        if (filter.dueAfter() != null) {
+            spec = spec.bind("dueAfter", filter.dueAfter());
+        }
+        if (afterId != null) {
+            spec = spec.bind("afterId", afterId);
+            if (sort.byDueDate() && afterDueDate != null) {
+                spec = spec.bind("afterDueDate", afterDueDate);
+            }
+        }
+        return spec.map(ReactiveTaskRepository::toTask).all();
+    }
+
+    /**
+     * Full-text search over title and description, best matches first.
+     *
+     * Same statements and ranking as TaskRepositoryCustom.search.
+     *
+     * @param query     the search text
+     * @param afterRank rank of the last hit of the previous page, or null
+     * @param afterId   id of the last hit of the previous page, or null
+     * @param limit     maximum number of hits to return
+     * @return the hits in rank order
+     */
+    public Flux<SearchHit> search(String query, Float afterRank, Long afterId, int limit) {
+        boolean after = afterRank != null;
+        GenericExecuteSpec spec;
+        if (postgres) {
+            spec = databaseClient.sql(TaskRepositoryCustomImpl.postgresSearchSql(COLUMNS, after) + " LIMIT :limit")
+                    .bind("query", query);
+        } else {
+            List<String> words = TaskRepositoryCustomImpl.searchWords(query);
+            if (words.isEmpty()) {
+                return Flux.empty();
+            }
+            spec = databaseClient.sql(TaskRepositoryCustomImpl.fallbackSearchSql(COLUMNS, words.size(), after)
+                    + " LIMIT :limit");
+            for (int i = 0; i < words.size(); i++) {
+                spec = spec.bind("term" + i, "%" + words.get(i) + "%");
+            }
+        }
+        if (after) {
+            spec = spec.bind("afterRank", afterRank)
+                    .bind("afterId", afterId);
+        }
+        return spec.bind("limit", limit)
+                .map(row -> new SearchHit(toTask(row), row.get("search_rank", Float.class)))
+                .all();
+    }
+
+    /**
+     * Stream all tasks ordered by id.
+     *
+     * Rows are emitted as the driver decodes them and only as fast as the
+     * subscriber requests them.
+     *
+     * @return all tasks, ordered by id
+     */
+    public Flux<Task> findAllOrderById() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tasks t ORDER BY t.id")
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    /**
+     * Find tasks changed after a (updatedAt, id) position.
+     *
+     * Same query as TaskRepository.findChangedAfter.
+     *
+     * @param updatedAt update time of the position
+     * @param id        task id of the position
+     * @param limit     maximum number of tasks to return
+     * @return tasks strictly after the position, least recently changed
+     *         first
+     */
+    public Flux<Task> findChangedAfter(Instant updatedAt, long id, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tasks t WHERE t.updated_at >= :updatedAt "
+                        + "AND (t.updated_at > :updatedAt OR t.id > :id) ORDER BY t.updated_at, t.id LIMIT :limit")
+                .bind("updatedAt", toTimestamp(updatedAt))
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    /**
+     * Find tombstones after a (deletedAt, taskId) position.
+     *
+     * Same query as TaskTombstoneRepository.findDeletedAfter.
+     *
+     * @param deletedAt deletion time of the position
+     * @param taskId    task id of the position
+     * @param limit     maximum number of tombstones to return
+     * @return tombstones strictly after the position, oldest first
+     */
+    public Flux<TaskTombstone> findDeletedAfter(Instant deletedAt, long taskId, int limit) {
+        return databaseClient.sql("SELECT task_id, deleted_at FROM task_tombstones WHERE deleted_at >= :deletedAt "
+                        + "AND (deleted_at > :deletedAt OR task_id > :taskId) ORDER BY deleted_at, task_id "
+                        + "LIMIT :limit")
+                .bind("deletedAt", toTimestamp(deletedAt))
+                .bind("taskId", taskId)
+                .bind("limit", limit)
+                .map(row -> new TaskTombstone(
+                        row.get("task_id", Long.class),
+                        row.get("deleted_at", OffsetDateTime.class).toInstant()))
+                .all();
+    }
+
+    /**
+     * Find a task by id.
+     *
+     * @param id the task ID
+     * @return the task, or empty if it does not exist
+     */
+    public Mono<Task> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tasks t WHERE t.id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    /**
+     * Check whether a task exists.
+     *
+     * @param id the task ID
+     * @return true if a row has the id
+     */
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT 1 FROM tasks WHERE id = :id")
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Find which of the given ids exist.
+     *
+     * @param ids the ids to check
+     * @return the subset of ids that exist
+     */
+    public Flux<Long> findExistingIds(Collection<Long> ids) {
+        return databaseClient.sql("SELECT id FROM tasks WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> row.get("id", Long.class))
+                .all();
+    }
+
+    /**
+     * Count tasks per status.
+     *
+     * @return one entry per status that has at least one task
+     */
+    public Flux<StatusCount> countByStatus() {
+        return databaseClient.sql("SELECT status, COUNT(*) AS task_count FROM tasks GROUP BY status")
+                .map(row -> new StatusCount(
+                        TaskStatus.valueOf(row.get("status", String.class)),
+                        row.get("task_count", Long.class)))
+                .all();
+    }
+
+    /**
+     * Count tasks with one of the given statuses due before a date.
+     *
+     * @param statuses the statuses to count
+     * @param date     the date to compare against
+     * @return number of matching tasks
+     */
+    public Mono<Long> countByStatusInAndDueDateBefore(Collection<TaskStatus> statuses, LocalDate date) {
+        return databaseClient.sql("SELECT COUNT(*) AS task_count FROM tasks WHERE status IN (:statuses) "
+                        + "AND due_date < :date")
+                .bind("statuses", statuses.stream().map(TaskStatus::name).toList())
+                .bind("date", date)
+                .map(row -> row.get("task_count", Long.class))
+                .one();
+    }
+
+    /**
+     * Insert a new task in a single statement.
+     *
+     * The task must carry its createdAt and updatedAt; it is stored with
+     * version 0. The id comes from the current block, so only one insert in
+     * 50 adds a nextval round trip.
+     *
+     * @param task the task to insert (without ID)
+     * @return the generated id
+     */
+    public Mono<Long> insert(Task task) {
+        return nextId().flatMap(id -> bindNullable(databaseClient.sql(INSERT_SQL)
+                .bind("id", id)
+                .bind("title", task.getTitle())
+                .bind("status", task.getStatus().name())
+                .bind("createdAt", toTimestamp(task.getCreatedAt()))
+                .bind("updatedAt", toTimestamp(task.getUpdatedAt())), task)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(id));
+    }
+
+    /**
+     * Take the next id, reserving a new block when the current one is used
+     * up.
+     *
+     * A nextval value hi reserves the ids hi - 49 to hi, as in Hibernate's
+     * pooled optimizer; the first value of a fresh sequence (1) reserves
+     * only itself. Concurrent inserts that both find the block used up each
+     * reserve one; the block installed last wins and the rest of the other
+     * is skipped, which leaves a gap but never a duplicate.
+     */
+    private Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                if (nextId <= lastId) {
+                    return Mono.just(nextId++);
+                }
+            }
+            return databaseClient.sql(nextIdSql)
+                    .map(row -> row.get("id", Long.class))
+                    .one()
+                    .map(this::startBlock);
+        });
+    }
+
+    private synchronized long startBlock(long hi) {
+        long first = Math.max(1, hi - ID_BLOCK_SIZE + 1);
+        nextId = first + 1;
+        lastId = hi;
+        return first;
+    }
+
+    /**
+     * Overwrite the mutable fields of a task in a single statement.
+     *
+     * Same contract as TaskRepositoryCustom.updateReturning.
+     *
+     * @param task            the task holding the id and the new field values
+     * @param expectedVersion only update if the row has this version, or null
+     *                        to update unconditionally
+     * @return createdAt and version of the updated row, or empty if no row
+     *         has the id (and expected version)
+     */
+    public Mono<UpdatedRow> updateReturning(Task task, Long expectedVersion) {
+        GenericExecuteSpec spec = databaseClient.sql(
+                        TaskRepositoryCustomImpl.updateReturningSql(postgres, expectedVersion != null))
+                .bind("title", task.getTitle())
+                .bind("status", task.getStatus().name())
+                .bind("updatedAt", toTimestamp(task.getUpdatedAt()))
+                .bind("id", task.getId());
+        if (expectedVersion != null) {
+            spec = spec.bind("expectedVersion", expectedVersion);
+        }
+        return bindNullable(spec, task)
+                .map(row -> new UpdatedRow(
+                        row.get("created_at", OffsetDateTime.class).toInstant(),
+                        row.get("version", Long.class)))
+                .one();
+    }
+
+    /**
+     * Apply a merge patch to a task in a single statement.
+     *
+     * Same contract as TaskRepositoryCustom.patchReturning.
+     *
+     * @param id              the task ID
+     * @param patch           the fields to change, not empty
+     * @param updatedAt       the update timestamp
+     * @param expectedVersion only update if the row has this version, or null
+     *                        to update unconditionally
+     * @return the task after the update, or empty if no row has the id (and
+     *         expected version)
+     */
+    public Mono<Task> patchReturning(Long id, TaskPatch patch, Instant updatedAt, Long expectedVersion) {
+        GenericExecuteSpec spec = databaseClient.sql(
+                        TaskRepositoryCustomImpl.patchReturningSql(postgres, patch, expectedVersion != null))
+                .bind("updatedAt", toTimestamp(updatedAt))
+                .bind("id", id);
+        if (patch.title().isPresent()) {
+            spec = spec.bind("title", patch.title().get());
+        }
+        if (patch.description().isPresent()) {
+            spec = patch.description().get() != null
+                    ? spec.bind("description", patch.description().get())
+                    : spec.bindNull("description", String.class);
+        }
+        if (patch.status().isPresent()) {
+            spec = spec.bind("status", patch.status().get().name());
+        }
+        if (patch.dueDate().isPresent()) {
+            spec = patch.dueDate().get() != null
+                    ? spec.bind("dueDate", patch.dueDate().get())
+                    : spec.bindNull("dueDate", LocalDate.class);
+        }
+        if (expectedVersion != null) {
+            spec = spec.bind("expectedVersion", expectedVersion);
+        }
+        return spec.map(ReactiveTaskRepository::toTask).one();
+    }
+
+    /**
+     * Same contract as TaskRepository.updateStatus.
+     *
+     * @param ids       the task IDs to update
+     * @param status    the new status
+     * @param updatedAt the update timestamp
+     * @return number of rows updated
+     */
+    public Mono<Long> updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt) {
+        return databaseClient.sql("UPDATE tasks SET status = :status, updated_at = :updatedAt, "
+                        + "version = version + 1 WHERE id IN (:ids)")
+                .bind("status", status.name())
+                .bind("updatedAt", toTimestamp(updatedAt))
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Record tombstones for tasks that are about to be deleted.
+     *
+     * @param ids       the ids of the tasks being deleted
+     * @param deletedAt the deletion timestamp
+     * @return number of tombstones written
+     */
+    public Mono<Long> insertTombstones(Collection<Long> ids, Instant deletedAt) {
+        return databaseClient.sql(TaskTombstoneRepository.INSERT_SQL)
+                .bind("ids", ids)
+                .bind("deletedAt", toTimestamp(deletedAt))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Delete a task by id, optionally only at an expected version.
+     *
+     * @param id              the task ID to delete
+     * @param expectedVersion the version the caller expects, or null
+     * @return number of rows deleted (0 or 1)
+     */
+    public Mono<Long> deleteById(Long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return databaseClient.sql("DELETE FROM tasks WHERE id = :id")
+                    .bind("id", id)
+                    .fetch()
+                    .rowsUpdated();
+        }
+        return databaseClient.sql("DELETE FROM tasks WHERE id = :id AND version = :version")
+                .bind("id", id)
+                .bind("version", expectedVersion)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Delete several tasks with a single DELETE ... WHERE id IN statement.
+     *
+     * @param ids the task IDs to delete
+     * @return number of rows deleted
+     */
+    public Mono<Long> deleteAllById(Collection<Long> ids) {
+        return databaseClient.sql("DELETE FROM tasks WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Bind the optional columns, which R2DBC needs typed when null.
+     */
+    private static GenericExecuteSpec bindNullable(GenericExecuteSpec spec, Task task) {
+        spec = task.getDescription() != null
+                ? spec.bind("description", task.getDescription())
+                : spec.bindNull("description", String.class);
+        return task.getDueDate() != null
+                ? spec.bind("dueDate", task.getDueDate())
+                : spec.bindNull("dueDate", LocalDate.class);
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * Map the task columns of a row to the entity.
+     */
+    static Task toTask(Readable row) {
+        return Task.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .status(TaskStatus.valueOf(row.get("status", String.class)))
+                .dueDate(row.get("due_date", LocalDate.class))
+                .createdAt(row.get("created_at", OffsetDateTime.class).toInstant())
+                .updatedAt(row.get("updated_at", OffsetDateTime.class).toInstant())
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+}
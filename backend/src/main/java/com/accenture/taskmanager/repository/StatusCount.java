@@ -0,0 +1,12 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.TaskStatus;
+
+/**
+ * Number of tasks with one status, as returned by TaskRepository.countByStatus.
+ *
+ * @param status the task status
+ * @param count  number of tasks with that status
+ */
+public record StatusCount(TaskStatus status, long count) {
+}
@@ -0,0 +1,48 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Optional filters for listing tasks.
+ *
+ * Each non-null field adds one predicate; all predicates must match.
+ * An equality on status plus a range on due_date is answered from the
+ * composite index idx_tasks_status_due_date_id (V7 migration).
+ *
+ * @param status    only tasks with this status, or null for any
+ * @param dueBefore only tasks due strictly before this date, or null
+ * @param dueAfter  only tasks due strictly after this date, or null
+ */
+public record TaskFilter(TaskStatus status, LocalDate dueBefore, LocalDate dueAfter) {
+
+    /**
+     * Filter that matches every task.
+     */
+    public static final TaskFilter NONE = new TaskFilter(null, null, null);
+
+    /**
+     * Build the WHERE clause of this filter.
+     *
+     * @return specification combining the set filters with AND
+     */
+    public Specification<Task> toSpecification() {
+        List<Specification<Task>> specifications = new ArrayList<>();
+        if (status != null) {
+            specifications.add((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (dueBefore != null) {
+            specifications.add((root, query, cb) -> cb.lessThan(root.get("dueDate"), dueBefore));
+        }
+        if (dueAfter != null) {
+            specifications.add((root, query, cb) -> cb.greaterThan(root.get("dueDate"), dueAfter));
+        }
+        return Specification.allOf(specifications);
+    }
+
+}
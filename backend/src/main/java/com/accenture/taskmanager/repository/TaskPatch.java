@@ -0,0 +1,90 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.exception.InvalidPatchException;
+import com.accenture.taskmanager.model.TaskStatus;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partial update of a task (JSON Merge Patch, RFC 7396).
+ *
+ * Each field is undefined (leave the column unchanged), null (clear it) or
+ * a value. Only defined fields become SET assignments, so a patch writes
+ * nothing but the columns it changes, plus updated_at and version.
+ * title and status are NOT NULL columns and cannot be cleared.
+ *
+ * @param title       new title, never null when defined
+ * @param description new description, or null to clear it
+ * @param status      new status, never null when defined
+ * @param dueDate     new due date, or null to clear it
+ */
+public record TaskPatch(
+        JsonNullable<String> title,
+        JsonNullable<String> description,
+        JsonNullable<TaskStatus> status,
+        JsonNullable<LocalDate> dueDate) {
+
+    /**
+     * Patch that changes nothing.
+     */
+    public static final TaskPatch EMPTY = new TaskPatch(JsonNullable.undefined(), JsonNullable.undefined(),
+            JsonNullable.undefined(), JsonNullable.undefined());
+
+    /**
+     * @throws InvalidPatchException if title or status is defined as null
+     */
+    public TaskPatch {
+        title = orUndefined(title);
+        description = orUndefined(description);
+        status = orUndefined(status);
+        dueDate = orUndefined(dueDate);
+        if (title.isPresent() && title.get() == null) {
+            throw new InvalidPatchException("title");
+        }
+        if (status.isPresent() && status.get() == null) {
+            throw new InvalidPatchException("status");
+        }
+    }
+
+    /**
+     * Check whether the patch changes no field.
+     *
+     * @return true if no field is defined
+     */
+    public boolean isEmpty() {
+        return !title.isPresent() && !description.isPresent() && !status.isPresent() && !dueDate.isPresent();
+    }
+
+    /**
+     * Build the SET assignments of the defined fields.
+     *
+     * Column names are fixed here and values are bound as parameters
+     * (:title, :description, :status, :dueDate), never concatenated.
+     *
+     * @return the assignments, each followed by ", "
+     */
+    String setClause() {
+        List<String> assignments = new ArrayList<>(4);
+        if (title.isPresent()) {
+            assignments.add("title = :title, ");
+        }
+        if (description.isPresent()) {
+            assignments.add("description = :description, ");
+        }
+        if (status.isPresent()) {
+            assignments.add("status = :status, ");
+        }
+        if (dueDate.isPresent()) {
+            assignments.add("due_date = :dueDate, ");
+        }
+        return String.join("", assignments);
+    }
+
+    private static <T> JsonNullable<T> orUndefined(JsonNullable<T> value) {
+        return value != null ? value : JsonNullable.undefined();
+    }
+
+}
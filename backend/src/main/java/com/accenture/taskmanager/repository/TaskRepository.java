@@ -2,11 +2,21 @@ package com.accenture.taskmanager.repository;
 
 import com.accenture.taskmanager.model.Task;
 import com.accenture.taskmanager.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity.
@@ -19,9 +29,11 @@ import java.util.List;
  * - Method names follow Spring Data naming conventions for automatic query
  * generation
  * - Custom queries can be added with @Query annotation if needed
+ * - Native single-statement writes and the filtered, sorted page query
+ * (findPage) live in TaskRepositoryCustom
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
     /**
      * Find all tasks with a specific status.
@@ -56,4 +68,124 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByDueDateBetween(LocalDate start, LocalDate end);
 
+    /**
+     * Count tasks per status.
+     *
+     * Query: SELECT status, COUNT(*) FROM tasks GROUP BY status
+     * Only reads the status column, which PostgreSQL can answer from
+     * idx_tasks_status. Statuses without tasks are absent from the result.
+     *
+     * @return one entry per status that has at least one task
+     */
+    @Query("SELECT new com.accenture.taskmanager.repository.StatusCount(t.status, COUNT(t)) "
+            + "FROM Task t GROUP BY t.status")
+    List<StatusCount> countByStatus();
+
+    /**
+     * Count tasks with one of the given statuses due before a date.
+     *
+     * Used for the overdue count (open statuses, due before today).
+     * Query generated: SELECT COUNT(*) WHERE status IN (:statuses) AND due_date < :date
+     * Each status is a range scan of idx_tasks_status_due_date_id.
+     *
+     * @param statuses the statuses to count
+     * @param date     the date to compare against
+     * @return number of matching tasks
+     */
+    long countByStatusInAndDueDateBefore(Collection<TaskStatus> statuses, LocalDate date);
+
+    /**
+     * Find which of the given ids exist.
+     *
+     * Selects only the id column, so PostgreSQL can answer from the primary
+     * key index. Used to validate batch deletes before removing rows and to
+     * skip deleted tasks when applying queued status updates.
+     *
+     * @param ids the ids to check
+     * @return the subset of ids that exist
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Stream all tasks ordered by id.
+     *
+     * Backed by a JDBC cursor: the driver fetches rows in batches of the
+     * fetch size instead of materializing the whole result set, and the
+     * read-only hint skips Hibernate's dirty-checking snapshots.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return stream of all tasks, ordered by id
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamAllByOrderByIdAsc();
+
+    /**
+     * Find tasks changed after a (updatedAt, id) position.
+     *
+     * Used by delta sync. Seeks with updatedAt >= :updatedAt first, so
+     * PostgreSQL range-scans idx_tasks_updated_at (V5 migration).
+     *
+     * @param updatedAt update time of the position
+     * @param id        task id of the position
+     * @param limit     maximum number of tasks to return
+     * @return tasks strictly after the position, least recently changed
+     *         first
+     */
+    @Query("SELECT t FROM Task t WHERE t.updatedAt >= :updatedAt "
+            + "AND (t.updatedAt > :updatedAt OR t.id > :id) "
+            + "ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedAfter(Instant updatedAt, Long id, Limit limit);
+
+    /**
+     * Delete a task by id in a single statement.
+     *
+     * Unlike deleteById, does not load the entity first; the affected row
+     * count tells the caller whether the task existed.
+     * Query: DELETE FROM tasks WHERE id = :id
+     *
+     * @param id the task ID to delete
+     * @return number of rows deleted (0 or 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :id")
+    int deleteTaskById(Long id);
+
+    /**
+     * Delete a task by id only if it still has the expected version.
+     *
+     * Query: DELETE FROM tasks WHERE id = :id AND version = :version
+     *
+     * @param id      the task ID to delete
+     * @param version the version the caller expects the task to have
+     * @return number of rows deleted (0 if missing or modified)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :id AND t.version = :version")
+    int deleteTaskByIdAndVersion(Long id, Long version);
+
+    /**
+     * Set the status of several tasks in a single statement.
+     *
+     * Bumps updatedAt and version like any other write, so ETags and delta
+     * sync see the change. Ids without a task are skipped.
+     * Query: UPDATE tasks SET status = :status, updated_at = :updatedAt,
+     * version = version + 1 WHERE id IN (:ids)
+     *
+     * @param ids       the task IDs to update
+     * @param status    the new status
+     * @param updatedAt the update timestamp
+     * @return number of rows updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+            + "WHERE t.id IN :ids")
+    int updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt);
+
 }
@@ -0,0 +1,112 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for statements Spring Data cannot derive.
+ *
+ * Implemented by {@link TaskRepositoryCustomImpl} and mixed into
+ * {@link TaskRepository}.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Overwrite the mutable fields of a task in a single statement.
+     *
+     * Writes title, description, status, dueDate and updatedAt of the given
+     * task to the row with its id and increments the row's version. The
+     * row's createdAt and new version are read back in the same round trip
+     * so the caller can build the full response without a prior SELECT.
+     *
+     * Bypasses the persistence context: an instance of this task already
+     * loaded in the current session is not refreshed.
+     *
+     * @param task            the task holding the id and the new field values
+     * @param expectedVersion only update if the row has this version, or null
+     *                        to update unconditionally
+     * @return createdAt and version of the updated row, or empty if no row
+     *         has the id (and expected version)
+     */
+    Optional<UpdatedRow> updateReturning(Task task, Long expectedVersion);
+
+    /**
+     * Apply a merge patch to a task in a single statement.
+     *
+     * Writes only the columns defined in the patch, plus updatedAt, and
+     * increments the row's version. The whole row is read back in the same
+     * round trip, so the caller needs no prior or subsequent SELECT.
+     *
+     * Bypasses the persistence context like {@link #updateReturning}; the
+     * returned task is not managed.
+     *
+     * @param id              the task ID
+     * @param patch           the fields to change, not empty
+     * @param updatedAt       the update timestamp
+     * @param expectedVersion only update if the row has this version, or null
+     *                        to update unconditionally
+     * @return the task after the update, or empty if no row has the id (and
+     *         expected version)
+     */
+    Optional<Task> patchReturning(Long id, TaskPatch patch, Instant updatedAt, Long expectedVersion);
+
+    /**
+     * Find one page of tasks matching a specification in a given order.
+     *
+     * Spring Data cannot set null precedence on criteria queries, which the
+     * due date sorts need (see {@link TaskSort}), so the ORDER BY is built
+     * here while the WHERE clause stays a composable Specification.
+     * Query: SELECT ... WHERE :spec ORDER BY :sort LIMIT :limit
+     *
+     * @param spec  filters and keyset position
+     * @param sort  the order of the rows
+     * @param limit maximum number of tasks to return
+     * @return the matching tasks in sort order
+     */
+    List<Task> findPage(Specification<Task> spec, TaskSort sort, int limit);
+
+    /**
+     * Full-text search over title and description, best matches first.
+     *
+     * On PostgreSQL, matches the query (web search syntax: words, "phrases",
+     * OR, -word) against the GIN-indexed search_vector column and ranks hits
+     * with ts_rank; title matches rank higher than description matches.
+     * Elsewhere (H2 in dev/test), every word must occur in the title or
+     * description (case-insensitive substring) and hits are ranked by where
+     * the words occur; this fallback scans the table.
+     *
+     * Hits are ordered by rank descending, then id ascending. Pass the rank
+     * and id of the last hit of a page to continue after it.
+     *
+     * @param query     the search text
+     * @param afterRank rank of the last hit of the previous page, or null
+     * @param afterId   id of the last hit of the previous page, or null
+     * @param limit     maximum number of hits to return
+     * @return the hits in rank order
+     */
+    List<SearchHit> search(String query, Float afterRank, Long afterId, int limit);
+
+    /**
+     * Columns read back from a row changed by {@link #updateReturning}.
+     *
+     * @param createdAt creation timestamp of the row
+     * @param version   version of the row after the update
+     */
+    record UpdatedRow(Instant createdAt, Long version) {
+    }
+
+    /**
+     * A task matched by {@link #search} with its relevance.
+     *
+     * @param task the matching task
+     * @param rank relevance, higher is better; only comparable within one
+     *             query
+     */
+    record SearchHit(Task task, float rank) {
+    }
+
+}
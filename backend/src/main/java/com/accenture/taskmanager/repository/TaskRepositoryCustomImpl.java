@@ -0,0 +1,325 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Implementation of {@link TaskRepositoryCustom}.
+ *
+ * Architecture:
+ * - updateReturning on PostgreSQL: UPDATE ... RETURNING created_at, version
+ * - updateReturning on other databases (H2 in dev/test):
+ * SELECT ... FROM FINAL TABLE (UPDATE ...)
+ * - Both forms are one statement and one round trip
+ * - patchReturning: the same forms, with a SET list of only the patched
+ * columns and the whole row returned
+ * - The SQL variants are chosen once from the Hibernate dialect
+ * - findPage: Hibernate criteria query, for null precedence in ORDER BY
+ * - search on PostgreSQL: websearch_to_tsquery against the GIN-indexed
+ * search_vector column (V4 migration), ranked with ts_rank
+ * - search on other databases: per-word LIKE over title and description
+ */
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String UPDATE_SQL = "UPDATE tasks SET title = :title, description = :description, "
+            + "status = :status, due_date = :dueDate, updated_at = :updatedAt, version = version + 1 "
+            + "WHERE id = :id";
+    private static final String VERSION_PREDICATE = " AND version = :expectedVersion";
+    private static final String PATCH_RETURNED_COLUMNS = "id, title, description, status, due_date, created_at, "
+            + "updated_at, version";
+
+    private static final String POSTGRES_RANK = "ts_rank(t.search_vector, query)";
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final EntityManager entityManager;
+    private final String updateReturningSql;
+    private final String updateReturningIfVersionSql;
+    private final boolean postgres;
+
+    TaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        this.updateReturningSql = updateReturningSql(dialect, false);
+        this.updateReturningIfVersionSql = updateReturningSql(dialect, true);
+        this.postgres = dialect instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * Choose the single-statement update form supported by the database.
+     *
+     * @param dialect      the Hibernate dialect in use
+     * @param checkVersion whether to add the expected version predicate
+     * @return native SQL returning the created_at and version columns of the
+     *         updated row
+     */
+    static String updateReturningSql(Dialect dialect, boolean checkVersion) {
+        return updateReturningSql(dialect instanceof PostgreSQLDialect, checkVersion);
+    }
+
+    /**
+     * Choose the single-statement update form by database (also used by
+     * ReactiveTaskRepository, which has no Hibernate dialect).
+     *
+     * @param postgres     whether the database is PostgreSQL
+     * @param checkVersion whether to add the expected version predicate
+     * @return SQL returning the created_at and version columns of the
+     *         updated row
+     */
+    static String updateReturningSql(boolean postgres, boolean checkVersion) {
+        String update = checkVersion ? UPDATE_SQL + VERSION_PREDICATE : UPDATE_SQL;
+        if (postgres) {
+            return update + " RETURNING created_at, version";
+        }
+        // SQL:2011 data change delta table, supported by H2
+        return "SELECT created_at, version FROM FINAL TABLE (" + update + ")";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<UpdatedRow> updateReturning(Task task, Long expectedVersion) {
+        String sql = expectedVersion != null ? updateReturningIfVersionSql : updateReturningSql;
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .addScalar("version", StandardBasicTypes.LONG);
+        // Nullable columns are bound with their type: PostgreSQL cannot infer
+        // the type of an untyped null
+        query.setParameter("title", task.getTitle())
+                .setParameter("description", task.getDescription(), StandardBasicTypes.STRING)
+                .setParameter("status", task.getStatus().name())
+                .setParameter("dueDate", task.getDueDate(), StandardBasicTypes.LOCAL_DATE)
+                .setParameter("updatedAt", task.getUpdatedAt())
+                .setParameter("id", task.getId());
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .findFirst()
+                .map(row -> new UpdatedRow((Instant) row[0], (Long) row[1]));
+    }
+
+    /**
+     * Build the single-statement form of a merge patch (also used by
+     * ReactiveTaskRepository).
+     *
+     * The SET list holds only the columns defined in the patch, so the
+     * statement varies with the patch; there are at most 16 variants.
+     *
+     * @param postgres     whether the database is PostgreSQL
+     * @param patch        the fields to change
+     * @param checkVersion whether to add the expected version predicate
+     * @return SQL returning every task column of the updated row
+     */
+    static String patchReturningSql(boolean postgres, TaskPatch patch, boolean checkVersion) {
+        String update = "UPDATE tasks SET " + patch.setClause()
+                + "updated_at = :updatedAt, version = version + 1 WHERE id = :id";
+        if (checkVersion) {
+            update += VERSION_PREDICATE;
+        }
+        if (postgres) {
+            return update + " RETURNING " + PATCH_RETURNED_COLUMNS;
+        }
+        return "SELECT " + PATCH_RETURNED_COLUMNS + " FROM FINAL TABLE (" + update + ")";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Task> patchReturning(Long id, TaskPatch patch, Instant updatedAt, Long expectedVersion) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(
+                        patchReturningSql(postgres, patch, expectedVersion != null))
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("description", StandardBasicTypes.STRING)
+                .addScalar("status", StandardBasicTypes.STRING)
+                .addScalar("due_date", StandardBasicTypes.LOCAL_DATE)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .addScalar("updated_at", StandardBasicTypes.INSTANT)
+                .addScalar("version", StandardBasicTypes.LONG);
+        patch.title().ifPresent(title -> query.setParameter("title", title));
+        patch.description().ifPresent(description ->
+                query.setParameter("description", description, StandardBasicTypes.STRING));
+        patch.status().ifPresent(status -> query.setParameter("status", status.name()));
+        patch.dueDate().ifPresent(dueDate -> query.setParameter("dueDate", dueDate, StandardBasicTypes.LOCAL_DATE));
+        query.setParameter("updatedAt", updatedAt)
+                .setParameter("id", id);
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .findFirst()
+                .map(row -> Task.builder()
+                        .id((Long) row[0])
+                        .title((String) row[1])
+                        .description((String) row[2])
+                        .status(TaskStatus.valueOf((String) row[3]))
+                        .dueDate((LocalDate) row[4])
+                        .createdAt((Instant) row[5])
+                        .updatedAt((Instant) row[6])
+                        .version((Long) row[7])
+                        .build());
+    }
+
+    /**
+     * Build the PostgreSQL full-text search statement.
+     *
+     * @param after whether to add the keyset predicate (:afterRank, :afterId)
+     * @return native SQL selecting the task columns and search_rank
+     */
+    static String postgresSearchSql(boolean after) {
+        return postgresSearchSql("{t.*}", after);
+    }
+
+    /**
+     * Build the PostgreSQL full-text search statement for a select list.
+     *
+     * @param columns task columns to select, qualified with alias t (also
+     *                used by ReactiveTaskRepository)
+     * @param after   whether to add the keyset predicate (:afterRank, :afterId)
+     * @return SQL selecting the columns and search_rank
+     */
+    static String postgresSearchSql(String columns, boolean after) {
+        String sql = "SELECT " + columns + ", " + POSTGRES_RANK + " AS search_rank "
+                + "FROM tasks t CROSS JOIN websearch_to_tsquery('english', :query) query "
+                + "WHERE t.search_vector @@ query";
+        if (after) {
+            sql += keysetPredicate(POSTGRES_RANK);
+        }
+        return sql + " ORDER BY search_rank DESC, t.id";
+    }
+
+    /**
+     * Build the portable LIKE-based search statement.
+     *
+     * Each word (:term0 .. :termN) must occur in the title or description.
+     * A word scores 2 in the title and 1 in the description. Words hold only
+     * letters and digits, so they need no LIKE escaping.
+     *
+     * @param terms number of words
+     * @param after whether to add the keyset predicate (:afterRank, :afterId)
+     * @return native SQL selecting the task columns and search_rank
+     */
+    static String fallbackSearchSql(int terms, boolean after) {
+        return fallbackSearchSql("{t.*}", terms, after);
+    }
+
+    /**
+     * Build the portable LIKE-based search statement for a select list.
+     *
+     * @param columns task columns to select, qualified with alias t
+     * @param terms   number of words
+     * @param after   whether to add the keyset predicate (:afterRank, :afterId)
+     * @return SQL selecting the columns and search_rank
+     */
+    static String fallbackSearchSql(String columns, int terms, boolean after) {
+        List<String> scores = new ArrayList<>(terms);
+        List<String> matches = new ArrayList<>(terms);
+        for (int i = 0; i < terms; i++) {
+            String title = "LOWER(t.title) LIKE :term" + i;
+            String description = "LOWER(t.description) LIKE :term" + i;
+            scores.add("CASE WHEN " + title + " THEN 2 ELSE 0 END + CASE WHEN " + description + " THEN 1 ELSE 0 END");
+            matches.add("(" + title + " OR " + description + ")");
+        }
+        String rank = "CAST(" + String.join(" + ", scores) + " AS REAL)";
+        String sql = "SELECT " + columns + ", " + rank + " AS search_rank FROM tasks t WHERE "
+                + String.join(" AND ", matches);
+        if (after) {
+            sql += keysetPredicate(rank);
+        }
+        return sql + " ORDER BY search_rank DESC, t.id";
+    }
+
+    /**
+     * Split a query into the lower-case words matched by the fallback search.
+     *
+     * @param query the search text
+     * @return the non-empty words, in order
+     */
+    static List<String> searchWords(String query) {
+        return WORD_SEPARATOR.splitAsStream(query.toLowerCase(Locale.ROOT))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static String keysetPredicate(String rank) {
+        return " AND (" + rank + " < :afterRank OR (" + rank + " = :afterRank AND t.id > :afterId))";
+    }
+
+    @Override
+    public List<Task> findPage(Specification<Task> spec, TaskSort sort, int limit) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(sort.orders(root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchHit> search(String query, Float afterRank, Long afterId, int limit) {
+        boolean after = afterRank != null;
+        NativeQuery<Object[]> nativeQuery;
+        if (postgres) {
+            nativeQuery = entityManager.createNativeQuery(postgresSearchSql(after)).unwrap(NativeQuery.class);
+            nativeQuery.setParameter("query", query);
+        } else {
+            List<String> words = searchWords(query);
+            if (words.isEmpty()) {
+                return List.of();
+            }
+            nativeQuery = entityManager.createNativeQuery(fallbackSearchSql(words.size(), after))
+                    .unwrap(NativeQuery.class);
+            for (int i = 0; i < words.size(); i++) {
+                nativeQuery.setParameter("term" + i, "%" + words.get(i) + "%");
+            }
+        }
+        nativeQuery.addEntity("t", Task.class)
+                .addScalar("search_rank", StandardBasicTypes.FLOAT);
+        if (after) {
+            nativeQuery.setParameter("afterRank", afterRank)
+                    .setParameter("afterId", afterId);
+        }
+
+        return nativeQuery.setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> new SearchHit((Task) row[0], (Float) row[1]))
+                .toList();
+    }
+
+}
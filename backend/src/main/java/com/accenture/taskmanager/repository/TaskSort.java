@@ -0,0 +1,146 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Sort orders supported when listing tasks.
+ *
+ * Every order ends with id as a unique tie-breaker, which makes it a total
+ * order and lets keyset pagination resume strictly after the last row of a
+ * page. Tasks without a due date come last in DUE_DATE; DUE_DATE_DESC is its
+ * exact reverse (nulls first), matching a backward scan of the
+ * (due_date, id) indexes on PostgreSQL. The keyset predicate compares
+ * (due_date, id) as a row value, so a page seeks straight into the index
+ * instead of filtering an OR chain. Null placement is set explicitly
+ * because H2 and PostgreSQL default to opposite orders.
+ */
+public enum TaskSort {
+
+    ID("id", false, false),
+    ID_DESC("-id", false, true),
+    DUE_DATE("dueDate", true, false),
+    DUE_DATE_DESC("-dueDate", true, true);
+
+    private final String value;
+    private final boolean byDueDate;
+    private final boolean descending;
+
+    TaskSort(String value, boolean byDueDate, boolean descending) {
+        this.value = value;
+        this.byDueDate = byDueDate;
+        this.descending = descending;
+    }
+
+    /**
+     * Get the sort for a query parameter value.
+     *
+     * @param value the API value, e.g. "dueDate" or "-id"
+     * @return the matching sort
+     * @throws IllegalArgumentException if the value is unknown
+     */
+    public static TaskSort fromValue(String value) {
+        for (TaskSort sort : values()) {
+            if (sort.value.equals(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task sort: " + value);
+    }
+
+    /**
+     * Whether the keyset position of this sort includes the due date.
+     *
+     * @return true for the due date sorts
+     */
+    public boolean byDueDate() {
+        return byDueDate;
+    }
+
+    /**
+     * Whether this sort is descending.
+     *
+     * @return true for the descending sorts
+     */
+    public boolean descending() {
+        return descending;
+    }
+
+    /**
+     * Build the ORDER BY clause of this sort.
+     *
+     * @param root the task root
+     * @param cb   the Hibernate criteria builder (for null precedence)
+     * @return the orders, tie-breaker last
+     */
+    List<Order> orders(Root<Task> root, HibernateCriteriaBuilder cb) {
+        Path<Long> id = root.get("id");
+        if (!byDueDate) {
+            return List.of(descending ? cb.desc(id) : cb.asc(id));
+        }
+        Path<LocalDate> dueDate = root.get("dueDate");
+        return descending
+                ? List.of(cb.desc(dueDate, true), cb.desc(id))
+                : List.of(cb.asc(dueDate, false), cb.asc(id));
+    }
+
+    /**
+     * Match the rows that come strictly after a keyset position.
+     *
+     * @param id      id of the last row of the previous page
+     * @param dueDate due date of that row (ignored by the id sorts; may be null)
+     * @return predicate selecting the rows after the position in this order
+     */
+    public Specification<Task> after(Long id, LocalDate dueDate) {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            if (!byDueDate) {
+                return descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+            }
+            Path<LocalDate> duePath = root.get("dueDate");
+            if (!descending) {
+                if (dueDate == null) {
+                    // Nulls come last: only the remaining null rows follow
+                    return cb.and(cb.isNull(duePath), cb.greaterThan(idPath, id));
+                }
+                // The dated rows after the position, then the null tail
+                return cb.or(rowAfter(cb, duePath, idPath, dueDate, id), cb.isNull(duePath));
+            }
+            if (dueDate == null) {
+                // Nulls come first: the remaining null rows, then every dated row
+                return cb.or(
+                        cb.and(cb.isNull(duePath), cb.lessThan(idPath, id)),
+                        cb.isNotNull(duePath));
+            }
+            return rowAfter(cb, duePath, idPath, dueDate, id);
+        };
+    }
+
+    /**
+     * Compare (due_date, id) with a position as one row value, which
+     * PostgreSQL turns into a single range scan of idx_tasks_due_date_id.
+     * Rows without a due date never match a row comparison.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate rowAfter(CriteriaBuilder cb, Path<LocalDate> duePath, Path<Long> idPath,
+                               LocalDate dueDate, Long id) {
+        NodeBuilder nb = (NodeBuilder) cb;
+        Expression row = new SqmTuple<>(nb, (SqmExpression<?>) duePath, (SqmExpression<?>) idPath);
+        Expression position = new SqmTuple<>(nb, (SqmExpression<?>) nb.value(dueDate), (SqmExpression<?>) nb.value(id));
+        return descending ? cb.lessThan(row, position) : cb.greaterThan(row, position);
+    }
+
+}
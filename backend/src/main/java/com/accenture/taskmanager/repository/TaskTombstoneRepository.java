@@ -0,0 +1,68 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for TaskTombstone entity.
+ *
+ * Architecture:
+ * - Tombstones are written with one native INSERT ... SELECT per delete,
+ * never through the persistence context
+ * - Read in (deletedAt, taskId) order by delta sync, the same order as
+ * TaskRepository.findChangedAfter reads tasks
+ */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Tombstone insert shared with ReactiveTaskRepository.
+     *
+     * Selects from tasks, so it must run before the tasks are deleted; ids
+     * without a task get no tombstone. The explicit cast gives the
+     * parameter a type in the select list on PostgreSQL.
+     */
+    String INSERT_SQL = "INSERT INTO task_tombstones (task_id, deleted_at) "
+            + "SELECT id, CAST(:deletedAt AS TIMESTAMP WITH TIME ZONE) FROM tasks WHERE id IN (:ids)";
+
+    /**
+     * Record tombstones for tasks that are about to be deleted.
+     *
+     * Query: INSERT INTO task_tombstones SELECT id, :deletedAt FROM tasks
+     * WHERE id IN (:ids)
+     *
+     * @param ids       the ids of the tasks being deleted
+     * @param deletedAt the deletion timestamp
+     * @return number of tombstones written
+     */
+    @Transactional
+    @Modifying
+    @Query(value = INSERT_SQL, nativeQuery = true)
+    int insertForTasks(Collection<Long> ids, Instant deletedAt);
+
+    /**
+     * Find tombstones after a (deletedAt, taskId) position.
+     *
+     * Seeks with deletedAt >= :deletedAt first, so PostgreSQL range-scans
+     * idx_task_tombstones_deleted_at.
+     *
+     * @param deletedAt deletion time of the position
+     * @param taskId    task id of the position
+     * @param limit     maximum number of tombstones to return
+     * @return tombstones strictly after the position, oldest first
+     */
+    @Query("SELECT t FROM TaskTombstone t WHERE t.deletedAt >= :deletedAt "
+            + "AND (t.deletedAt > :deletedAt OR t.taskId > :taskId) "
+            + "ORDER BY t.deletedAt, t.taskId")
+    List<TaskTombstone> findDeletedAfter(Instant deletedAt, Long taskId, Limit limit);
+
+}
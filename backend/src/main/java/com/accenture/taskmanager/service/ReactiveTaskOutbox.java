@@ -0,0 +1,68 @@
+package com.accenture.taskmanager.service;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Writes every task mutation of the reactive stack to the task_events outbox.
+ *
+ * Reactive counterpart of TaskOutbox: ReactiveTaskService calls it inside
+ * its write transaction, and DatabaseClient runs the INSERT on the
+ * transaction's connection, so the rows commit or roll back together with
+ * the write. TaskOutboxRelay only runs on the servlet stack (JDBC), so a
+ * servlet instance on the same database drains the rows.
+ *
+ * One row per task id, sent as a single R2DBC batch statement per change.
+ */
+@Component
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskOutbox {
+
+    /**
+     * TaskOutbox.INSERT_SQL with the positional markers both R2DBC drivers
+     * (PostgreSQL and H2) accept.
+     */
+    static final String INSERT_SQL = "INSERT INTO task_events (task_id, event_type, occurred_at) VALUES ($1, $2, $3)";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Record a change inside the current write transaction.
+     *
+     * @param event the change written by ReactiveTaskService
+     * @return number of events written
+     */
+    public Mono<Long> record(TaskChangeEvent event) {
+        if (event.taskIds().isEmpty()) {
+            return Mono.just(0L);
+        }
+        String type = event.type().name();
+        // Match the microsecond precision of the timestamp column
+        OffsetDateTime occurredAt = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+        return databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(INSERT_SQL);
+                    for (int i = 0; i < event.taskIds().size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        statement.bind(0, event.taskIds().get(i))
+                                .bind(1, type)
+                                .bind(2, occurredAt);
+                    }
+                    return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+                })
+                .reduce(0L, Long::sum);
+    }
+
+}
@@ -0,0 +1,440 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.TaskNotFoundException;
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.model.TaskTombstone;
+import com.accenture.taskmanager.repository.ReactiveTaskRepository;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
+import com.accenture.taskmanager.repository.TaskSort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking service layer for Task business logic.
+ *
+ * Reactive counterpart of TaskService, used with task-api.stack=reactive.
+ * Same rules, cursors and exceptions; every method returns a Mono or Flux
+ * and never blocks the event loop thread it runs on.
+ *
+ * Architecture:
+ * - @Transactional runs on the R2DBC ReactiveTransactionManager; batch
+ * writes roll back as a whole when any item fails
+ * - Writes are single statements (INSERT/UPDATE ... RETURNING, DELETE) as in
+ * TaskService; the reactive stack has no task cache, so there is nothing to
+ * evict or notify
+ * - Every write records its TaskChangeEvent in the task_events outbox
+ * (ReactiveTaskOutbox) in the same transaction and hands it to
+ * TaskChangeFeed once the transaction commits (no application event: its
+ * listeners are blocking)
+ * - Deletes record tombstones for delta sync in the same transaction
+ * - Errors are signalled as domain exceptions (TaskNotFoundException,
+ * TaskVersionMismatchException, InvalidCursorException) through the
+ * returned publisher
+ */
+@Service
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReactiveTaskService {
+
+    /**
+     * Statuses counted as overdue once their due date has passed.
+     */
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+    private final ReactiveTaskRepository taskRepository;
+    private final TaskChangeFeed changeFeed;
+    private final ReactiveTaskOutbox outbox;
+
+    /**
+     * Retrieve one page of tasks using keyset pagination.
+     *
+     * Fetches limit + 1 rows to detect whether a further page exists.
+     *
+     * @param filter status and due date filters
+     * @param sort   order of the tasks
+     * @param cursor cursor from the previous page (same filter and sort), or
+     *               null for the first page
+     * @param limit  maximum number of tasks in the page
+     * @return the page with its next cursor (null on the last page), or
+     *         InvalidCursorException if the cursor is malformed
+     */
+    public Mono<TaskPage> getTasks(TaskFilter filter, TaskSort sort, String cursor, int limit) {
+        return Mono.defer(() -> {
+            log.debug("Fetching tasks page: filter={}, sort={}, cursor={}, limit={}", filter, sort, cursor, limit);
+
+            TaskCursor position = cursor != null ? TaskCursor.decode(cursor, sort) : null;
+            Flux<Task> rows = position != null
+                    ? taskRepository.findPage(filter, sort, position.id(), position.dueDate(), limit + 1)
+                    : taskRepository.findPage(filter, sort, null, null, limit + 1);
+            return rows.collectList().map(tasks -> {
+                if (tasks.size() <= limit) {
+                    return new TaskPage(tasks, null);
+                }
+                List<Task> page = tasks.subList(0, limit);
+                return new TaskPage(page, TaskCursor.of(page.get(limit - 1)).encode(sort));
+            });
+        });
+    }
+
+    /**
+     * Full-text search over task titles and descriptions.
+     *
+     * @param query  the search text
+     * @param cursor cursor from the previous page (same query), or null for
+     *               the first page
+     * @param limit  maximum number of tasks in the page
+     * @return the page of matching tasks with its next cursor (null on the
+     *         last page), or InvalidCursorException if the cursor is malformed
+     */
+    public Mono<TaskPage> searchTasks(String query, String cursor, int limit) {
+        return Mono.defer(() -> {
+            log.debug("Searching tasks: query={}, cursor={}, limit={}", query, cursor, limit);
+
+            TaskSearchCursor after = cursor != null ? TaskSearchCursor.decode(cursor) : null;
+            Flux<SearchHit> hits = after != null
+                    ? taskRepository.search(query, after.rank(), after.id(), limit + 1)
+                    : taskRepository.search(query, null, null, limit + 1);
+            return hits.collectList().map(found -> {
+                List<Task> tasks = found.stream()
+                        .limit(limit)
+                        .map(SearchHit::task)
+                        .toList();
+                if (found.size() <= limit) {
+                    return new TaskPage(tasks, null);
+                }
+                SearchHit last = found.get(limit - 1);
+                return new TaskPage(tasks, new TaskSearchCursor(last.rank(), last.task().getId()).encode());
+            });
+        });
+    }
+
+    /**
+     * Retrieve the task changes after a delta sync token.
+     *
+     * Reads changed tasks, then tombstones, limit + 1 of each, and merges
+     * them like TaskService.getChanges.
+     *
+     * @param since token from the previous sync, or null for an initial sync
+     * @param limit maximum number of changes in the page
+     * @return the changes with the token for the next sync, or
+     *         InvalidCursorException if the token is malformed
+     */
+    public Mono<TaskChanges> getChanges(String since, int limit) {
+        return Mono.defer(() -> {
+            log.debug("Fetching task changes: since={}, limit={}", since, limit);
+
+            TaskChangeToken after = since != null ? TaskChangeToken.decode(since) : TaskChangeToken.INITIAL;
+            Mono<List<Task>> changed = taskRepository.findChangedAfter(after.changedAt(), after.id(), limit + 1)
+                    .collectList();
+            Mono<List<TaskTombstone>> tombstones = taskRepository.findDeletedAfter(
+                    after.changedAt(), after.id(), limit + 1).collectList();
+            return changed.flatMap(tasks -> tombstones.map(deleted ->
+                    TaskChanges.of(after, tasks, deleted, limit, Instant.now())));
+        });
+    }
+
+    /**
+     * Stream every task in id order.
+     *
+     * Rows are emitted one at a time as the subscriber requests them, so the
+     * export needs constant memory regardless of the number of rows.
+     *
+     * @return all tasks, ordered by id
+     */
+    public Flux<Task> exportTasks() {
+        return taskRepository.findAllOrderById()
+                .doOnSubscribe(subscription -> log.info("Exporting all tasks"));
+    }
+
+    /**
+     * Compute aggregate task counts.
+     *
+     * Runs the GROUP BY status and the overdue count query one after the
+     * other on the transaction's connection. Not cached, unlike
+     * TaskService.getStats.
+     *
+     * @return the current counts
+     */
+    public Mono<TaskStats> getStats() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        return taskRepository.countByStatus()
+                .collectList()
+                .flatMap(counts -> taskRepository.countByStatusInAndDueDateBefore(OPEN_STATUSES, today)
+                        .map(overdue -> TaskStats.of(counts, overdue)));
+    }
+
+    /**
+     * Retrieve a task by ID.
+     *
+     * @param id the task ID
+     * @return the task, or TaskNotFoundException if not found
+     */
+    public Mono<Task> getTaskById(Long id) {
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    /**
+     * Create a new task.
+     *
+     * Sets the timestamps and initial version that JPA would set on persist.
+     *
+     * @param task the task to create (without ID)
+     * @return the created task (with generated ID and timestamps)
+     */
+    @Transactional
+    public Mono<Task> createTask(Task task) {
+        return insert(task)
+                .doOnNext(savedTask -> log.info("Task created with id: {}", savedTask.getId()))
+                .flatMap(savedTask -> recordChange(TaskChangeEvent.Type.CREATED, List.of(savedTask.getId()))
+                        .thenReturn(savedTask));
+    }
+
+    /**
+     * Create several tasks in one transaction.
+     *
+     * @param tasks the tasks to create (without IDs)
+     * @return the created tasks, in the same order
+     */
+    @Transactional
+    public Mono<List<Task>> createTasks(List<Task> tasks) {
+        log.info("Creating batch of {} tasks", tasks.size());
+        return Flux.fromIterable(tasks)
+                .concatMap(this::insert)
+                .collectList()
+                .flatMap(savedTasks -> recordChange(TaskChangeEvent.Type.CREATED,
+                        savedTasks.stream().map(Task::getId).toList())
+                        .thenReturn(savedTasks));
+    }
+
+    /**
+     * Update an existing task with a single UPDATE ... RETURNING statement.
+     *
+     * @param id              the task ID to update
+     * @param task            the task with updated values
+     * @param expectedVersion version the client last saw (If-Match), or null
+     *                        to update unconditionally
+     * @return the updated task, or TaskNotFoundException /
+     *         TaskVersionMismatchException if no row was written
+     */
+    @Transactional
+    public Mono<Task> updateTask(Long id, Task task, Long expectedVersion) {
+        return update(id, task, expectedVersion)
+                .doOnNext(updatedTask -> log.info("Task updated with id: {}", id))
+                .flatMap(updatedTask -> recordChange(TaskChangeEvent.Type.UPDATED, List.of(id))
+                        .thenReturn(updatedTask));
+    }
+
+    /**
+     * Apply a merge patch with a single UPDATE ... RETURNING statement that
+     * sets only the patched columns (see TaskService.patchTask).
+     *
+     * @param id              the task ID to update
+     * @param patch           the fields to change
+     * @param expectedVersion version the client last saw (If-Match), or null
+     *                        to update unconditionally
+     * @return the updated task, or TaskNotFoundException /
+     *         TaskVersionMismatchException if no row was written
+     */
+    @Transactional
+    public Mono<Task> patchTask(Long id, TaskPatch patch, Long expectedVersion) {
+        if (patch.isEmpty()) {
+            return getTaskById(id)
+                    .filter(task -> expectedVersion == null || expectedVersion.equals(task.getVersion()))
+                    .switchIfEmpty(Mono.error(() -> new TaskVersionMismatchException(id)));
+        }
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        return taskRepository.patchReturning(id, patch, updatedAt, expectedVersion)
+                .switchIfEmpty(Mono.defer(() -> notWritten(id, expectedVersion).flatMap(Mono::<Task>error)))
+                .doOnNext(patchedTask -> log.info("Task patched with id: {}", id))
+                .flatMap(patchedTask -> recordChange(TaskChangeEvent.Type.UPDATED, List.of(id))
+                        .thenReturn(patchedTask));
+    }
+
+    /**
+     * Update several tasks in one transaction.
+     *
+     * One UPDATE ... RETURNING per task, without loading the tasks first.
+     * If any task is missing, the transaction rolls back and nothing is
+     * updated.
+     *
+     * @param updates map of task ID to the task with updated values, in
+     *                request order
+     * @return the updated tasks, in the same order, or TaskNotFoundException
+     *         if any task is not found
+     */
+    @Transactional
+    public Mono<List<Task>> updateTasks(Map<Long, Task> updates) {
+        log.info("Updating batch of {} tasks", updates.size());
+        return Flux.fromIterable(updates.entrySet())
+                .concatMap(update -> update(update.getKey(), update.getValue(), null))
+                .collectList()
+                .flatMap(updatedTasks -> recordChange(TaskChangeEvent.Type.UPDATED,
+                        List.copyOf(updates.keySet()))
+                        .thenReturn(updatedTasks));
+    }
+
+    /**
+     * Change the status of a task with a single UPDATE statement.
+     *
+     * Counterpart of the servlet stack's queued status changes; a missing
+     * task is ignored there too, so no existence check is made.
+     *
+     * @param id     the task ID
+     * @param status the new status
+     * @return completion
+     */
+    @Transactional
+    public Mono<Void> updateStatus(Long id, TaskStatus status) {
+        return taskRepository.updateStatus(List.of(id), status, Instant.now().truncatedTo(ChronoUnit.MICROS))
+                .filter(updated -> updated > 0)
+                .doOnNext(updated -> log.info("Status of task {} updated", id))
+                .flatMap(updated -> recordChange(TaskChangeEvent.Type.UPDATED, List.of(id)));
+    }
+
+    /**
+     * Delete several tasks in one transaction.
+     *
+     * Checks existence with one id-only query, records the tombstones, then
+     * removes all rows with a single DELETE ... WHERE id IN statement.
+     *
+     * @param ids the task IDs to delete
+     * @return completion, or TaskNotFoundException if any task is not found
+     */
+    @Transactional
+    public Mono<Void> deleteTasks(Collection<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        log.info("Deleting batch of {} tasks", uniqueIds.size());
+        return taskRepository.findExistingIds(uniqueIds)
+                .collect(HashSet<Long>::new, Set::add)
+                .flatMap(existingIds -> {
+                    for (Long id : uniqueIds) {
+                        if (!existingIds.contains(id)) {
+                            return Mono.<Void>error(new TaskNotFoundException(id));
+                        }
+                    }
+                    return taskRepository.insertTombstones(uniqueIds, deletionTime())
+                            .then(taskRepository.deleteAllById(uniqueIds))
+                            .then(recordChange(TaskChangeEvent.Type.DELETED, List.copyOf(uniqueIds)));
+                });
+    }
+
+    /**
+     * Record the tombstone, then delete the task with a single DELETE
+     * statement; a failed delete rolls the tombstone back.
+     *
+     * @param id              the task ID to delete
+     * @param expectedVersion version the client last saw (If-Match), or null
+     *                        to delete unconditionally
+     * @return completion, or TaskNotFoundException /
+     *         TaskVersionMismatchException if no row was deleted
+     */
+    @Transactional
+    public Mono<Void> deleteTask(Long id, Long expectedVersion) {
+        return taskRepository.insertTombstones(List.of(id), deletionTime())
+                .then(taskRepository.deleteById(id, expectedVersion))
+                .flatMap(deleted -> deleted == 0
+                        ? notWritten(id, expectedVersion).flatMap(Mono::<Long>error)
+                        : Mono.just(deleted))
+                .doOnNext(deleted -> log.info("Task deleted with id: {}", id))
+                .then(recordChange(TaskChangeEvent.Type.DELETED, List.of(id)));
+    }
+
+    /**
+     * Write a change to the outbox in the current transaction, then hand it
+     * to TaskChangeFeed when the transaction commits, or right away outside a
+     * transaction. A rollback discards both.
+     */
+    private Mono<Void> recordChange(TaskChangeEvent.Type type, List<Long> ids) {
+        TaskChangeEvent event = new TaskChangeEvent(type, ids);
+        return Mono.defer(() -> outbox.record(event)).then(publishAfterCommit(event));
+    }
+
+    private Mono<Void> publishAfterCommit(TaskChangeEvent event) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .doOnNext(manager -> {
+                    if (!manager.isSynchronizationActive()) {
+                        changeFeed.publish(event);
+                        return;
+                    }
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(() -> changeFeed.publish(event));
+                        }
+                    });
+                })
+                .onErrorResume(NoTransactionException.class, ex -> Mono.fromRunnable(() -> changeFeed.publish(event)))
+                .then();
+    }
+
+    private static Instant deletionTime() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private Mono<Task> insert(Task task) {
+        // Match the microsecond precision of the timestamp column
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        return taskRepository.insert(task)
+                .map(id -> {
+                    task.setId(id);
+                    task.setVersion(0L);
+                    return task;
+                });
+    }
+
+    private Mono<Task> update(Long id, Task task, Long expectedVersion) {
+        task.setId(id);
+        task.setUpdatedAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        return taskRepository.updateReturning(task, expectedVersion)
+                .map(row -> {
+                    task.setCreatedAt(row.createdAt());
+                    task.setVersion(row.version());
+                    return task;
+                })
+                .switchIfEmpty(Mono.defer(() -> notWritten(id, expectedVersion).flatMap(Mono::<Task>error)));
+    }
+
+    /**
+     * Explain why a single-statement write matched no row (see
+     * TaskService.notWritten).
+     */
+    private Mono<RuntimeException> notWritten(Long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.just(new TaskNotFoundException(id));
+        }
+        return taskRepository.existsById(id)
+                .map(exists -> exists
+                        ? new TaskVersionMismatchException(id)
+                        : new TaskNotFoundException(id));
+    }
+
+}
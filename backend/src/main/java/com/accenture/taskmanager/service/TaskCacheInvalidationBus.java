@@ -0,0 +1,236 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Cross-instance invalidation of the task cache over PostgreSQL LISTEN/NOTIFY.
+ *
+ * Every instance caches tasks in its own memory (see CacheConfig), so a write
+ * on one instance leaves stale copies on the others. This bus closes that gap
+ * without a message broker:
+ * - Publishing: each update or delete sends the affected ids with pg_notify
+ * on the write transaction's own connection. PostgreSQL delivers
+ * notifications only when that transaction commits and drops them on
+ * rollback, so listeners never evict for a write that did not happen.
+ * - Listening: a background thread holds one dedicated, unpooled connection,
+ * LISTENs on the channel and evicts every received id from the local cache.
+ * Each instance also receives its own notifications; evicting an already
+ * evicted id is harmless.
+ * - Notifications sent while the listener is disconnected are lost, so the
+ * whole local cache is cleared each time it (re)connects.
+ *
+ * Only works on PostgreSQL; enabled with cache-invalidation.enabled=true
+ * (set in the prod profile).
+ */
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.enabled", havingValue = "true")
+@Slf4j
+public class TaskCacheInvalidationBus implements SmartLifecycle {
+
+    /**
+     * Upper bound for one notification payload; PostgreSQL rejects payloads
+     * of 8000 bytes or more.
+     */
+    static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final DataSource listenerDataSource;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    /**
+     * Creates the bus with a dedicated connection built from the application
+     * datasource settings, so the long-lived LISTEN session never occupies a
+     * slot of the Hikari pool.
+     */
+    @Autowired
+    public TaskCacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            CacheManager cacheManager,
+            DataSourceProperties dataSourceProperties,
+            @Value("${cache-invalidation.channel:task_cache_invalidation}") String channel,
+            @Value("${cache-invalidation.poll-timeout:1s}") Duration pollTimeout,
+            @Value("${cache-invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        this(jdbcTemplate, cacheManager,
+                new DriverManagerDataSource(
+                        dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(),
+                        dataSourceProperties.determinePassword()),
+                channel, pollTimeout, reconnectDelay);
+    }
+
+    TaskCacheInvalidationBus(JdbcTemplate jdbcTemplate, CacheManager cacheManager, DataSource listenerDataSource,
+                             String channel, Duration pollTimeout, Duration reconnectDelay) {
+        // The channel is interpolated into LISTEN, which takes no bind parameters
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.listenerDataSource = listenerDataSource;
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Notify all instances of updated or deleted tasks.
+     *
+     * Runs synchronously inside the write transaction; the notification is
+     * delivered when it commits. Created tasks cannot be cached anywhere yet
+     * and are ignored.
+     *
+     * @param event the change published by TaskService
+     */
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (event.type() == TaskChangeEvent.Type.CREATED) {
+            return;
+        }
+        for (String payload : payloads(event.taskIds())) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, channel, payload);
+        }
+    }
+
+    /**
+     * Split ids into comma-separated payloads below the PostgreSQL size limit.
+     */
+    static List<String> payloads(List<Long> ids) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        for (Long id : ids) {
+            String value = id.toString();
+            if (payload.length() + value.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+            if (!payload.isEmpty()) {
+                payload.append(',');
+            }
+            payload.append(value);
+        }
+        if (!payload.isEmpty()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * Evict the ids of one received payload from the local cache.
+     * Malformed ids are logged and skipped.
+     */
+    void evict(String payload) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        for (String value : payload.split(",")) {
+            try {
+                cache.evict(Long.valueOf(value.trim()));
+            } catch (NumberFormatException ex) {
+                log.warn("Ignoring malformed task id in cache invalidation: {}", value);
+            }
+        }
+    }
+
+    /**
+     * Listener loop: (re)connect, LISTEN, and evict until stopped.
+     */
+    void listen() {
+        while (running) {
+            try (Connection connection = listenerDataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for task cache invalidations on channel {}", channel);
+                clearCache();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            evict(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                log.warn("Task cache invalidation listener disconnected, retrying in {}", reconnectDelay, ex);
+                pause();
+            }
+        }
+    }
+
+    private void clearCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("task-cache-invalidation")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        listenerThread.interrupt();
+        try {
+            // The loop notices the flag within one poll timeout
+            listenerThread.join(pollTimeout.multipliedBy(2));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+}
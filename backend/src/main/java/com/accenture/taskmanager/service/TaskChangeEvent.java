@@ -0,0 +1,26 @@
+package com.accenture.taskmanager.service;
+
+import java.util.List;
+
+/**
+ * Application event published by TaskService for every write.
+ *
+ * Published synchronously inside the write transaction, so listeners can
+ * take part in it (e.g. issue SQL on the same connection) or register for
+ * after-commit delivery with @TransactionalEventListener.
+ *
+ * @param type    kind of change
+ * @param taskIds ids of the affected tasks
+ */
+public record TaskChangeEvent(Type type, List<Long> taskIds) {
+
+    /**
+     * Kind of change applied to the tasks.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.accenture.taskmanager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory fan-out of committed task changes to GET /api/tasks/stream.
+ *
+ * Every subscriber gets a Flux of server-sent events: one event per
+ * committed TaskChangeEvent (event name = change type, data = type and task
+ * ids) and a comment line every task-stream.heartbeat-interval, which keeps
+ * proxies from closing idle connections and lets clients detect dead ones.
+ *
+ * Architecture:
+ * - TaskService publishes TaskChangeEvent inside its transactions; this feed
+ * receives it after commit, so rolled-back writes are never announced.
+ * ReactiveTaskService calls publish from an after-commit synchronization
+ * - Subscribers hold no thread while idle: the servlet stack bridges the
+ * Flux to an SseEmitter, WebFlux writes it directly
+ * - Each subscriber has its own buffer of task-stream.buffer-size events.
+ * A subscriber that lets it fill up is disconnected instead of slowing
+ * down or dropping events for everybody; it reconnects and catches up with
+ * GET /api/tasks/changes
+ * - Events only reach subscribers of the same instance; clients that must
+ * not miss changes from other instances sync with /api/tasks/changes
+ *
+ * Subscribers are published as tasks.stream.subscribers, disconnected slow
+ * subscribers are counted in tasks.stream.dropped.
+ */
+@Component
+@Slf4j
+public class TaskChangeFeed {
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    /**
+     * Emits to current subscribers only; subscribers that lack demand would
+     * miss the event, but each one requests unbounded through its buffer.
+     */
+    private final Sinks.Many<TaskChangeEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter dropped;
+    private final int bufferSize;
+    private final Duration heartbeatInterval;
+
+    public TaskChangeFeed(
+            MeterRegistry meterRegistry,
+            @Value("${task-stream.buffer-size:256}") int bufferSize,
+            @Value("${task-stream.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.bufferSize = bufferSize;
+        this.heartbeatInterval = heartbeatInterval;
+        Gauge.builder("tasks.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Clients connected to the task change stream")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tasks.stream.dropped")
+                .description("Stream subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Forward a change committed by TaskService.
+     *
+     * @param event the change published inside the write transaction
+     */
+    @TransactionalEventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        publish(event);
+    }
+
+    /**
+     * Send a committed change to every current subscriber.
+     *
+     * Never blocks: each subscriber only gets the event appended to its
+     * buffer. Synchronized because the sink rejects concurrent emissions.
+     *
+     * @param event the committed change
+     */
+    public synchronized void publish(TaskChangeEvent event) {
+        // FAIL_ZERO_SUBSCRIBER is the only other outcome, and nobody to tell is fine
+        sink.tryEmitNext(event);
+    }
+
+    /**
+     * Subscribe to committed changes.
+     *
+     * The stream never completes on its own; it ends when the subscriber
+     * cancels or falls task-stream.buffer-size events behind.
+     *
+     * @return change events interleaved with heartbeat comments
+     */
+    public Flux<ServerSentEvent<TaskChangeEvent>> subscribe() {
+        Flux<ServerSentEvent<TaskChangeEvent>> changes = sink.asFlux()
+                .onBackpressureBuffer(bufferSize)
+                .map(event -> ServerSentEvent.builder(event).event(event.type().name()).build());
+        Flux<ServerSentEvent<TaskChangeEvent>> heartbeats = Flux.interval(heartbeatInterval)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<TaskChangeEvent>builder().comment(HEARTBEAT).build());
+
+        // Prefetch 1, so the backlog stays in the bounded buffer above
+        return Flux.merge(1, changes, heartbeats)
+                .onErrorResume(Exceptions::isOverflow, ex -> {
+                    dropped.increment();
+                    log.info("Disconnecting task stream subscriber more than {} events behind", bufferSize);
+                    return Flux.empty();
+                })
+                .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                .doFinally(signal -> subscribers.decrementAndGet());
+    }
+
+    /**
+     * Number of connected subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Delta sync token: a position in the stream of task changes.
+ *
+ * Changes (updated tasks and tombstones of deleted ones) are ordered by
+ * their timestamp, then by task id. The token holds the position of the
+ * last change a client has seen; the next sync returns the changes strictly
+ * after it.
+ *
+ * Architecture:
+ * - Encoded as URL-safe Base64 of "epochMicros:id", like TaskCursor, so
+ * clients treat it as an opaque token
+ * - Microseconds match the precision of the timestamp columns
+ * - Decoding failures raise InvalidCursorException (400 BAD_REQUEST)
+ *
+ * @param changedAt timestamp of the last change seen
+ * @param id        task id of that change
+ */
+public record TaskChangeToken(Instant changedAt, long id) implements Comparable<TaskChangeToken> {
+
+    /**
+     * Position before every change, used for the initial sync.
+     */
+    public static final TaskChangeToken INITIAL = new TaskChangeToken(Instant.EPOCH, 0);
+
+    private static final Comparator<TaskChangeToken> ORDER = Comparator.comparing(TaskChangeToken::changedAt)
+            .thenComparingLong(TaskChangeToken::id);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Encode this position as an opaque token.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String raw = ChronoUnit.MICROS.between(Instant.EPOCH, changedAt) + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token the token from the client
+     * @return the decoded position
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static TaskChangeToken decode(String token) {
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new InvalidCursorException(token);
+            }
+            Instant changedAt = Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS);
+            return new TaskChangeToken(changedAt, Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException ex) {
+            // Covers invalid Base64, NumberFormatException and out-of-range instants
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    @Override
+    public int compareTo(TaskChangeToken other) {
+        return ORDER.compare(this, other);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskTombstone;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of task changes returned by delta sync.
+ *
+ * @param tasks      created or updated tasks, least recently changed first
+ * @param deletedIds ids of deleted tasks
+ * @param nextToken  token to pass as since in the next sync
+ * @param hasMore    whether further changes can be fetched right away with
+ *                   nextToken
+ */
+public record TaskChanges(List<Task> tasks, List<Long> deletedIds, String nextToken, boolean hasMore) {
+
+    /**
+     * Upper bound for the time between a write taking its timestamp and its
+     * transaction committing (including clock skew between instances).
+     *
+     * A write still in flight is invisible to a sync but gets a timestamp
+     * before changes that already are. So no page moves the token past now
+     * minus this margin: the next sync returns the recent changes again,
+     * together with any that committed late. A page that reaches into the
+     * margin is therefore the last one for now, whether or not more changes
+     * were read. Clients apply changes by id, so a repeated change is
+     * harmless.
+     */
+    public static final Duration COMMIT_MARGIN = Duration.ofSeconds(5);
+
+    /**
+     * Merge changed tasks and tombstones into one page.
+     *
+     * Both lists must be ordered by position and hold up to limit + 1
+     * entries after the token, so that a further page can be detected.
+     *
+     * @param since      position the client synced from
+     * @param changed    tasks changed after since, by (updatedAt, id)
+     * @param tombstones tombstones after since, by (deletedAt, taskId)
+     * @param limit      maximum number of changes in the page
+     * @param now        current time, for the commit margin
+     * @return the page with its next token
+     */
+    public static TaskChanges of(TaskChangeToken since, List<Task> changed, List<TaskTombstone> tombstones,
+                                 int limit, Instant now) {
+        List<Task> tasks = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        TaskChangeToken last = since;
+        int nextTask = 0;
+        int nextTombstone = 0;
+        while (tasks.size() + deletedIds.size() < limit
+                && (nextTask < changed.size() || nextTombstone < tombstones.size())) {
+            TaskChangeToken taskPosition = nextTask < changed.size() ? position(changed.get(nextTask)) : null;
+            TaskChangeToken tombstonePosition = nextTombstone < tombstones.size()
+                    ? position(tombstones.get(nextTombstone)) : null;
+            if (tombstonePosition == null || (taskPosition != null && taskPosition.compareTo(tombstonePosition) < 0)) {
+                tasks.add(changed.get(nextTask++));
+                last = taskPosition;
+            } else {
+                deletedIds.add(tombstones.get(nextTombstone++).getTaskId());
+                last = tombstonePosition;
+            }
+        }
+
+        // Fetching again right away from a capped token would return the same page
+        TaskChangeToken settled = new TaskChangeToken(now.minus(COMMIT_MARGIN), 0);
+        boolean hasMore = (nextTask < changed.size() || nextTombstone < tombstones.size())
+                && last.compareTo(settled) <= 0;
+        TaskChangeToken next = max(since, min(last, settled));
+        return new TaskChanges(tasks, deletedIds, next.encode(), hasMore);
+    }
+
+    private static TaskChangeToken position(Task task) {
+        return new TaskChangeToken(task.getUpdatedAt(), task.getId());
+    }
+
+    private static TaskChangeToken position(TaskTombstone tombstone) {
+        return new TaskChangeToken(tombstone.getDeletedAt(), tombstone.getTaskId());
+    }
+
+    private static TaskChangeToken min(TaskChangeToken a, TaskChangeToken b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static TaskChangeToken max(TaskChangeToken a, TaskChangeToken b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.InvalidCursorException;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.repository.TaskSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset pagination cursor.
+ *
+ * Holds the sort key of the last task returned in a page: its id, plus its
+ * due date when sorting by due date. The next page starts strictly after
+ * this position, so every page is an index range scan no matter how deep
+ * the client has paged.
+ *
+ * Architecture:
+ * - Encoded as URL-safe Base64 so clients treat it as an opaque token
+ * - Raw form is "id" for the id sorts and "id:dueDate" (empty date for
+ * tasks without one) for the due date sorts
+ * - Decoding failures raise InvalidCursorException (400 BAD_REQUEST),
+ * including a cursor issued for a sort with a different key
+ *
+ * @param id      id of the last task in the previous page
+ * @param dueDate due date of that task (null if it has none, or for the id
+ *                sorts)
+ */
+public record TaskCursor(Long id, LocalDate dueDate) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Create the cursor positioned at a task.
+     *
+     * @param task the last task of a page
+     * @return cursor holding the task's sort keys
+     */
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getId(), task.getDueDate());
+    }
+
+    /**
+     * Encode this cursor as an opaque token.
+     *
+     * @param sort the sort of the page the cursor continues
+     * @return URL-safe cursor token
+     */
+    public String encode(TaskSort sort) {
+        String raw = String.valueOf(id);
+        if (sort.byDueDate()) {
+            raw += SEPARATOR + (dueDate != null ? dueDate : "");
+        }
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token produced by {@link #encode(TaskSort)}.
+     *
+     * @param token the cursor token from the client
+     * @param sort  the sort of the requested page
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the token is malformed or does not
+     *                                fit the sort
+     */
+    public static TaskCursor decode(String token, TaskSort sort) {
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != (sort.byDueDate() ? 2 : 1)) {
+                throw new InvalidCursorException(token);
+            }
+            Long id = Long.valueOf(parts[0]);
+            LocalDate dueDate = parts.length == 2 && !parts[1].isEmpty() ? LocalDate.parse(parts[1]) : null;
+            return new TaskCursor(id, dueDate);
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            // Covers invalid Base64, NumberFormatException and unparsable dates
+            throw new InvalidCursorException(token);
+        }
+    }
+
+}
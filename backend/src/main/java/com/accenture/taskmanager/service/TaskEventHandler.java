@@ -0,0 +1,29 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.TaskEvent;
+
+import java.util.List;
+
+/**
+ * Downstream consumer of the task_events outbox, called by TaskOutboxRelay.
+ *
+ * Runs inside the transaction that holds the batch locked; the events are
+ * deleted only if handle returns normally. Delivery is therefore at least
+ * once: a failure after the events left the process repeats the batch, so
+ * consumers must deduplicate by event id.
+ *
+ * TaskOutboxConfig registers a logging handler unless the application
+ * declares its own (e.g. one publishing to a message broker).
+ */
+@FunctionalInterface
+public interface TaskEventHandler {
+
+    /**
+     * Deliver a batch of events.
+     *
+     * @param events the events, oldest first
+     * @throws RuntimeException to roll back and retry the batch later
+     */
+    void handle(List<TaskEvent> events);
+
+}
@@ -0,0 +1,56 @@
+package com.accenture.taskmanager.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Writes every task mutation to the task_events outbox.
+ *
+ * Listens to TaskChangeEvent synchronously, so the rows are inserted on the
+ * write transaction's own connection: they commit or roll back together with
+ * the write. Downstream consumers learn about exactly the committed writes
+ * without a dual write to a broker; TaskOutboxRelay delivers them.
+ *
+ * One row per task id, sent as a single JDBC batch per change, so batch
+ * writes of up to 1000 tasks still cost one extra round trip.
+ *
+ * Servlet stack only: the reactive stack has no JDBC DataSource and writes
+ * the same rows with ReactiveTaskOutbox.
+ */
+@Component
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "servlet", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TaskOutbox {
+
+    static final String INSERT_SQL = "INSERT INTO task_events (task_id, event_type, occurred_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record a change inside its write transaction.
+     *
+     * @param event the change published by TaskService
+     */
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (event.taskIds().isEmpty()) {
+            return;
+        }
+        String type = event.type().name();
+        // Match the microsecond precision of the timestamp column
+        OffsetDateTime occurredAt = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+        jdbcTemplate.batchUpdate(INSERT_SQL, event.taskIds(), event.taskIds().size(), (statement, taskId) -> {
+            statement.setLong(1, taskId);
+            statement.setString(2, type);
+            statement.setObject(3, occurredAt);
+        });
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.TaskEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Background relay draining the task_events outbox to a TaskEventHandler.
+ *
+ * Each round runs one transaction: lock up to task-outbox.relay.batch-size
+ * of the oldest events with SELECT ... FOR UPDATE SKIP LOCKED, hand them to
+ * the handler, delete them. Rows locked by another relay are skipped rather
+ * than waited for, so every replica runs its own relay and they drain
+ * disjoint batches in parallel, with no leader election or coordinating
+ * service. A handler failure or crash rolls the round back and the events
+ * are relayed again (at least once).
+ *
+ * After a full batch the next round starts right away; otherwise the relay
+ * waits task-outbox.relay.poll-interval. Events of one task are relayed in
+ * id order by a single relay, but concurrent relays may deliver batches out
+ * of order; consumers that care compare occurredAt or the event id.
+ *
+ * Off unless task-outbox.relay.enabled=true. Relayed events are deleted, so
+ * enable it together with a TaskEventHandler that delivers them somewhere:
+ * the default handler only logs. Until then the events stay in the table.
+ * Never enabled on the reactive stack, which has no JDBC DataSource.
+ */
+@Component
+@ConditionalOnProperty(name = "task-outbox.relay.enabled", havingValue = "true")
+@Slf4j
+public class TaskOutboxRelay implements SmartLifecycle {
+
+    static final String LOCK_SQL = "SELECT id, task_id, event_type, occurred_at FROM task_events "
+            + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    static final String DELETE_SQL = "DELETE FROM task_events WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskEventHandler handler;
+    private final int batchSize;
+    private final Duration pollInterval;
+
+    private volatile boolean running;
+    private Thread relayThread;
+
+    public TaskOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            TaskEventHandler handler,
+            @Value("${task-outbox.relay.batch-size:100}") int batchSize,
+            @Value("${task-outbox.relay.poll-interval:1s}") Duration pollInterval) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("task-outbox.relay.batch-size must be positive: " + batchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handler = handler;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Relay one batch in its own transaction.
+     *
+     * @return number of events relayed (0 if the outbox was empty or every
+     *         pending event is locked by another relay)
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<TaskEvent> events = jdbcTemplate.query(LOCK_SQL, TaskOutboxRelay::toEvent, batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            handler.handle(events);
+            // One JDBC batch, a single round trip
+            List<Long> ids = events.stream().map(TaskEvent::getId).toList();
+            jdbcTemplate.batchUpdate(DELETE_SQL, ids, ids.size(), (statement, id) -> statement.setLong(1, id));
+            return events.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    /**
+     * Relay loop: drain full batches back to back, then poll.
+     */
+    void relay() {
+        while (running) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException ex) {
+                // Rolled back: the events are unlocked and relayed on a later round
+                log.warn("Task outbox relay failed, retrying in {}", pollInterval, ex);
+                relayed = 0;
+            }
+            if (relayed < batchSize) {
+                pause();
+            }
+        }
+    }
+
+    private static TaskEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new TaskEvent(
+                rs.getLong("id"),
+                rs.getLong("task_id"),
+                TaskChangeEvent.Type.valueOf(rs.getString("event_type")),
+                rs.getObject("occurred_at", OffsetDateTime.class).toInstant());
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollInterval);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        relayThread = Thread.ofPlatform()
+                .name("task-outbox-relay")
+                .daemon()
+                .start(this::relay);
+        log.info("Relaying task events in batches of {}, polling every {}", batchSize, pollInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        relayThread.interrupt();
+        try {
+            // A round in progress finishes (and commits) before the loop ends
+            relayThread.join(pollInterval.multipliedBy(2));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.Task;
+
+import java.util.List;
+
+/**
+ * One page of tasks returned by keyset pagination.
+ *
+ * @param tasks      tasks in this page, in cursor order
+ * @param nextCursor cursor token for the next page, or null on the last page
+ */
+public record TaskPage(List<Task> tasks, String nextCursor) {
+}
@@ -0,0 +1,58 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset cursor for full-text search results.
+ *
+ * Search hits are ordered by rank descending, then id; the cursor holds
+ * both of the last hit so the next page continues strictly after it.
+ *
+ * Architecture:
+ * - Encoded as URL-safe Base64 of "rank:id" so clients treat it as an
+ * opaque token; Float.toString round-trips the rank exactly
+ * - Decoding failures raise InvalidCursorException (400 BAD_REQUEST)
+ *
+ * @param rank rank of the last hit in the previous page
+ * @param id   id of the last hit in the previous page
+ */
+public record TaskSearchCursor(float rank, Long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Encode this cursor as an opaque token.
+     *
+     * @return URL-safe cursor token
+     */
+    public String encode() {
+        String raw = rank + ":" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token produced by {@link #encode()}.
+     *
+     * @param token the cursor token from the client
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static TaskSearchCursor decode(String token) {
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", -1);
+            if (parts.length != 2) {
+                throw new InvalidCursorException(token);
+            }
+            return new TaskSearchCursor(Float.parseFloat(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            // Covers invalid Base64 and NumberFormatException
+            throw new InvalidCursorException(token);
+        }
+    }
+
+}
@@ -1,14 +1,55 @@
 package com.accenture.taskmanager.service;
 
+import com.accenture.taskmanager.config.CacheConfig;
+import com.accenture.taskmanager.config.MetricsConfig;
+import com.accenture.taskmanager.exception.InvalidCursorException;
 import com.accenture.taskmanager.exception.TaskNotFoundException;
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
 import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.model.TaskTombstone;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskPatch;
 import com.accenture.taskmanager.repository.TaskRepository;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.UpdatedRow;
+import com.accenture.taskmanager.repository.TaskSort;
+import com.accenture.taskmanager.repository.TaskTombstoneRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service layer for Task business logic.
@@ -18,36 +59,191 @@ import java.util.List;
  *
  * Architecture:
  * - @Transactional ensures database consistency
+ * - Single tasks are cached by id (see CacheConfig); every write evicts or
+ * refreshes the affected ids
+ * - Every write publishes a TaskChangeEvent inside its transaction (used
+ * to invalidate the caches of other instances, to record the change in the
+ * TaskOutbox and, after commit, by TaskChangeFeed)
+ * - Deletes stay hard deletes but leave a TaskTombstone in the same
+ * transaction, so delta sync (getChanges) can report them
  * - Business logic and validation beyond simple field checks
  * - Orchestrates repository operations
- * - Throws domain exceptions (TaskNotFoundException)
- * - Logging for observability
+ * - Throws domain exceptions (TaskNotFoundException, TaskVersionMismatchException)
+ * - One INFO line per completed write, rate-limited per statement under
+ * load (see LogSamplingFilter); every public method is observed as
+ * tasks.service, a timer and a span (see MetricsConfig, TracingConfig)
+ * - Blocking (JPA) stack only; ReactiveTaskService replaces it with
+ * task-api.stack=reactive
  */
 @Service
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "servlet", matchIfMissing = true)
+@Observed(name = MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class TaskService {
 
+    /**
+     * Statuses counted as overdue once their due date has passed.
+     */
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Retrieve one page of tasks using keyset pagination.
+     *
+     * Filters and sort are applied in the database as one query; the cursor
+     * adds a predicate that seeks strictly past the last row of the previous
+     * page in the same order. Fetches limit + 1 rows to detect whether a
+     * further page exists without issuing a separate COUNT query.
+     *
+     * @param filter status and due date filters
+     * @param sort   order of the tasks
+     * @param cursor cursor from the previous page (same filter and sort), or
+     *               null for the first page
+     * @param limit  maximum number of tasks in the page
+     * @return the page with its next cursor (null on the last page)
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public TaskPage getTasks(TaskFilter filter, TaskSort sort, String cursor, int limit) {
+        log.debug("Fetching tasks page: filter={}, sort={}, cursor={}, limit={}", filter, sort, cursor, limit);
+
+        Specification<Task> spec = filter.toSpecification();
+        if (cursor != null) {
+            TaskCursor position = TaskCursor.decode(cursor, sort);
+            spec = spec.and(sort.after(position.id(), position.dueDate()));
+        }
+        List<Task> rows = taskRepository.findPage(spec, sort, limit + 1);
+
+        if (rows.size() <= limit) {
+            return new TaskPage(rows, null);
+        }
+        List<Task> tasks = rows.subList(0, limit);
+        String nextCursor = TaskCursor.of(tasks.get(limit - 1)).encode(sort);
+        return new TaskPage(tasks, nextCursor);
+    }
 
     /**
-     * Retrieve all tasks.
+     * Full-text search over task titles and descriptions.
      *
-     * @return list of all tasks
+     * Hits come best match first; the cursor seeks past the rank and id of
+     * the last hit, so paging needs no OFFSET. Fetches limit + 1 hits to
+     * detect whether a further page exists.
+     *
+     * @param query  the search text
+     * @param cursor cursor from the previous page (same query), or null for
+     *               the first page
+     * @param limit  maximum number of tasks in the page
+     * @return the page of matching tasks with its next cursor (null on the
+     *         last page)
+     * @throws InvalidCursorException if the cursor is malformed
      */
-    public List<Task> getAllTasks() {
-        log.debug("Fetching all tasks");
-        return taskRepository.findAll();
+    public TaskPage searchTasks(String query, String cursor, int limit) {
+        log.debug("Searching tasks: query={}, cursor={}, limit={}", query, cursor, limit);
+
+        TaskSearchCursor after = cursor != null ? TaskSearchCursor.decode(cursor) : null;
+        List<SearchHit> hits = after != null
+                ? taskRepository.search(query, after.rank(), after.id(), limit + 1)
+                : taskRepository.search(query, null, null, limit + 1);
+
+        List<Task> tasks = hits.stream()
+                .limit(limit)
+                .map(SearchHit::task)
+                .toList();
+        if (hits.size() <= limit) {
+            return new TaskPage(tasks, null);
+        }
+        SearchHit last = hits.get(limit - 1);
+        return new TaskPage(tasks, new TaskSearchCursor(last.rank(), last.task().getId()).encode());
+    }
+
+    /**
+     * Stream every task to a consumer, one row at a time.
+     *
+     * Used by the NDJSON export. Each task is detached once consumed so the
+     * persistence context does not grow with the table; memory stays
+     * constant regardless of the number of rows.
+     *
+     * @param consumer receives each task in id order
+     * @return number of tasks exported
+     */
+    public long exportTasks(Consumer<Task> consumer) {
+        log.info("Exporting all tasks");
+
+        long count = 0;
+        try (Stream<Task> tasks = taskRepository.streamAllByOrderByIdAsc()) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                consumer.accept(task);
+                entityManager.detach(task);
+                count++;
+            }
+        }
+
+        log.info("Exported {} tasks", count);
+        return count;
+    }
+
+    /**
+     * Retrieve the task changes after a delta sync token.
+     *
+     * Reads changed tasks and tombstones from the token's position, limit + 1
+     * of each in (timestamp, id) order, and merges them into one page (see
+     * TaskChanges). Each read is a range scan of its (timestamp, id) index,
+     * so the cost grows with the number of changes, not with the table.
+     *
+     * @param since token from the previous sync, or null for an initial
+     *              sync of every task
+     * @param limit maximum number of changes in the page
+     * @return the changes with the token for the next sync
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public TaskChanges getChanges(String since, int limit) {
+        log.debug("Fetching task changes: since={}, limit={}", since, limit);
+
+        TaskChangeToken after = since != null ? TaskChangeToken.decode(since) : TaskChangeToken.INITIAL;
+        List<Task> changed = taskRepository.findChangedAfter(after.changedAt(), after.id(), Limit.of(limit + 1));
+        List<TaskTombstone> tombstones = tombstoneRepository.findDeletedAfter(
+                after.changedAt(), after.id(), Limit.of(limit + 1));
+        return TaskChanges.of(after, changed, tombstones, limit, Instant.now());
+    }
+
+    /**
+     * Compute aggregate task counts.
+     *
+     * Two aggregate queries (GROUP BY status, and the overdue count) replace
+     * loading every task. Cached for task-stats.cache-ttl and not evicted on
+     * writes, so counts may lag behind by up to the TTL; sync = true lets
+     * only one thread recompute expired counts.
+     * A task is overdue when it is not DONE and its due date is before
+     * today in UTC.
+     *
+     * @return the current counts
+     */
+    @Cacheable(cacheNames = CacheConfig.TASK_STATS_CACHE, key = "'all'", sync = true)
+    public TaskStats getStats() {
+        log.debug("Computing task statistics");
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        long overdue = taskRepository.countByStatusInAndDueDateBefore(OPEN_STATUSES, today);
+        return TaskStats.of(taskRepository.countByStatus(), overdue);
     }
 
     /**
      * Retrieve a task by ID.
      *
+     * Read-through cached: hits are served from memory without a database
+     * round trip. sync = true lets only one thread load a missing id while
+     * concurrent callers wait for its result. Missing tasks are not cached.
+     *
      * @param id the task ID
      * @return the task
      * @throws TaskNotFoundException if task not found
      */
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     public Task getTaskById(Long id) {
         log.debug("Fetching task with id: {}", id);
         return taskRepository.findById(id)
@@ -60,63 +256,291 @@ public class TaskService {
      * Persists the task to the database.
      * createdAt and updatedAt are set automatically by JPA @PrePersist.
      *
+     * Caches the created task, since clients commonly read it right back.
+     *
      * @param task the task to create (without ID)
      * @return the created task (with generated ID and timestamps)
      */
     @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#result.id")
     public Task createTask(Task task) {
-        log.info("Creating new task with title: {}", task.getTitle());
         Task savedTask = taskRepository.save(task);
+        publishChange(TaskChangeEvent.Type.CREATED, List.of(savedTask.getId()));
         log.info("Task created with id: {}", savedTask.getId());
         return savedTask;
     }
 
+    /**
+     * Create several tasks in one transaction.
+     *
+     * With pooled sequence ids, Hibernate defers the INSERTs to flush time
+     * and sends them as JDBC batches (hibernate.jdbc.batch_size).
+     *
+     * @param tasks the tasks to create (without IDs)
+     * @return the created tasks, in the same order
+     */
+    @Transactional
+    public List<Task> createTasks(List<Task> tasks) {
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        publishChange(TaskChangeEvent.Type.CREATED, savedTasks.stream().map(Task::getId).toList());
+        log.info("Batch of {} tasks created", savedTasks.size());
+        return savedTasks;
+    }
+
     /**
      * Update an existing task.
      *
-     * Updates all fields of the task.
-     * updatedAt is set automatically by JPA @PreUpdate.
+     * Overwrites all mutable fields with a single UPDATE statement that
+     * returns the row's createdAt and new version, instead of loading the
+     * task first. An empty result means no row matched.
+     * updatedAt is set here because bulk statements skip JPA @PreUpdate.
      *
-     * @param id   the task ID to update
-     * @param task the task with updated values
+     * @param id              the task ID to update
+     * @param task            the task with updated values
+     * @param expectedVersion version the client last saw (If-Match), or null
+     *                        to update unconditionally
      * @return the updated task
-     * @throws TaskNotFoundException if task not found
+     * @throws TaskNotFoundException        if task not found
+     * @throws TaskVersionMismatchException if the task has a different version
      */
     @Transactional
-    public Task updateTask(Long id, Task task) {
-        log.info("Updating task with id: {}", id);
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task updateTask(Long id, Task task, Long expectedVersion) {
+        task.setId(id);
+        // Match the microsecond precision of the timestamp column
+        task.setUpdatedAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
+
+        UpdatedRow row = taskRepository.updateReturning(task, expectedVersion)
+                .orElseThrow(() -> notWritten(id, expectedVersion));
+        task.setCreatedAt(row.createdAt());
+        task.setVersion(row.version());
+        publishChange(TaskChangeEvent.Type.UPDATED, List.of(id));
 
-        // Verify task exists
-        Task existingTask = getTaskById(id);
+        log.info("Task updated with id: {}", id);
+        return task;
+    }
 
-        // Update fields
-        existingTask.setTitle(task.getTitle());
-        existingTask.setDescription(task.getDescription());
-        existingTask.setStatus(task.getStatus());
-        existingTask.setDueDate(task.getDueDate());
+    /**
+     * Apply a merge patch to an existing task.
+     *
+     * One UPDATE statement that sets only the patched columns and returns
+     * the whole row, so fields the patch leaves out are neither read first
+     * nor overwritten: concurrent patches of different fields do not undo
+     * each other. An empty patch writes nothing, keeps the cache entry and
+     * returns the task as is, from the cache when it is there.
+     *
+     * @param id              the task ID to update
+     * @param patch           the fields to change
+     * @param expectedVersion version the client last saw (If-Match), or null
+     *                        to update unconditionally
+     * @return the updated task
+     * @throws TaskNotFoundException        if task not found
+     * @throws TaskVersionMismatchException if the task has a different version
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", condition = "!#patch.isEmpty()")
+    public Task patchTask(Long id, TaskPatch patch, Long expectedVersion) {
+        if (patch.isEmpty()) {
+            Task task = findCached(id)
+                    .or(() -> taskRepository.findById(id))
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                throw new TaskVersionMismatchException(id);
+            }
+            return task;
+        }
 
-        Task updatedTask = taskRepository.save(existingTask);
-        log.info("Task updated with id: {}", updatedTask.getId());
-        return updatedTask;
+        // Match the microsecond precision of the timestamp column
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Task task = taskRepository.patchReturning(id, patch, updatedAt, expectedVersion)
+                .orElseThrow(() -> notWritten(id, expectedVersion));
+        publishChange(TaskChangeEvent.Type.UPDATED, List.of(id));
+
+        log.info("Task patched with id: {}", id);
+        return task;
     }
 
     /**
-     * Delete a task.
+     * Update several tasks in one transaction.
      *
-     * Removes the task from the database.
+     * Loads all target tasks with a single IN query, applies the new values
+     * and lets dirty checking flush the UPDATEs as JDBC batches.
+     * If any task is missing, nothing is updated.
+     * The updated ids are evicted from the cache after commit.
      *
-     * @param id the task ID to delete
-     * @throws TaskNotFoundException if task not found
+     * @param updates map of task ID to the task with updated values, in
+     *                request order
+     * @return the updated tasks, in the same order
+     * @throws TaskNotFoundException if any task is not found
+     */
+    @Transactional
+    public List<Task> updateTasks(Map<Long, Task> updates) {
+        Map<Long, Task> existingTasks = taskRepository.findAllById(updates.keySet()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Task> updatedTasks = new ArrayList<>(updates.size());
+        updates.forEach((id, task) -> {
+            Task existingTask = existingTasks.get(id);
+            if (existingTask == null) {
+                throw new TaskNotFoundException(id);
+            }
+            existingTask.setTitle(task.getTitle());
+            existingTask.setDescription(task.getDescription());
+            existingTask.setStatus(task.getStatus());
+            existingTask.setDueDate(task.getDueDate());
+            updatedTasks.add(existingTask);
+        });
+
+        // Flush now so @PreUpdate timestamps are set before the response is built
+        taskRepository.flush();
+        evictFromCache(updates.keySet());
+        publishChange(TaskChangeEvent.Type.UPDATED, List.copyOf(updates.keySet()));
+        log.info("Batch of {} tasks updated", updatedTasks.size());
+        return updatedTasks;
+    }
+
+    /**
+     * Apply queued status updates in one transaction.
+     *
+     * Called by TaskStatusWriteBehind with the latest status per task. Checks
+     * existence with one id-only query, then runs one UPDATE ... WHERE id IN
+     * per target status, so a flush costs at most four statements however
+     * many tasks it covers. Ids without a task (deleted since the update was
+     * accepted) are skipped. The updated ids are evicted from the cache
+     * after commit.
+     *
+     * @param statuses map of task ID to its new status
+     * @return ids of the tasks that were updated
+     */
+    @Transactional
+    public List<Long> updateStatuses(Map<Long, TaskStatus> statuses) {
+        List<Long> existingIds = taskRepository.findExistingIds(statuses.keySet());
+        if (existingIds.isEmpty()) {
+            return existingIds;
+        }
+
+        // Match the microsecond precision of the timestamp column
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Map<TaskStatus, List<Long>> idsByStatus = existingIds.stream()
+                .collect(Collectors.groupingBy(statuses::get, () -> new EnumMap<>(TaskStatus.class),
+                        Collectors.toList()));
+        idsByStatus.forEach((status, ids) -> taskRepository.updateStatus(ids, status, updatedAt));
+
+        evictFromCache(existingIds);
+        publishChange(TaskChangeEvent.Type.UPDATED, existingIds);
+        log.info("Status of {} tasks updated", existingIds.size());
+        return existingIds;
+    }
+
+    /**
+     * Delete several tasks in one transaction.
+     *
+     * Checks existence with one id-only query, records the tombstones with
+     * one INSERT ... SELECT, then removes all rows with a single
+     * DELETE ... WHERE id IN statement.
+     * If any task is missing, nothing is deleted.
+     * The deleted ids are evicted from the cache after commit.
+     *
+     * @param ids the task IDs to delete
+     * @throws TaskNotFoundException if any task is not found
      */
     @Transactional
-    public void deleteTask(Long id) {
-        log.info("Deleting task with id: {}", id);
+    public void deleteTasks(Collection<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+
+        Set<Long> existingIds = new HashSet<>(taskRepository.findExistingIds(uniqueIds));
+        for (Long id : uniqueIds) {
+            if (!existingIds.contains(id)) {
+                throw new TaskNotFoundException(id);
+            }
+        }
 
-        // Verify task exists before deleting
-        Task task = getTaskById(id);
+        tombstoneRepository.insertForTasks(uniqueIds, deletionTime());
+        taskRepository.deleteAllByIdInBatch(uniqueIds);
+        evictFromCache(uniqueIds);
+        publishChange(TaskChangeEvent.Type.DELETED, List.copyOf(uniqueIds));
+        log.info("Batch of {} tasks deleted", uniqueIds.size());
+    }
 
-        taskRepository.delete(task);
+    /**
+     * Delete a task.
+     *
+     * Records the tombstone, then removes the task with a single DELETE
+     * statement; zero affected rows means the task did not exist (or no
+     * longer has the expected version) and rolls the tombstone back.
+     *
+     * @param id              the task ID to delete
+     * @param expectedVersion version the client last saw (If-Match), or null
+     *                        to delete unconditionally
+     * @throws TaskNotFoundException        if task not found
+     * @throws TaskVersionMismatchException if the task has a different version
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public void deleteTask(Long id, Long expectedVersion) {
+        tombstoneRepository.insertForTasks(List.of(id), deletionTime());
+        int deleted = expectedVersion != null
+                ? taskRepository.deleteTaskByIdAndVersion(id, expectedVersion)
+                : taskRepository.deleteTaskById(id);
+        if (deleted == 0) {
+            throw notWritten(id, expectedVersion);
+        }
+        publishChange(TaskChangeEvent.Type.DELETED, List.of(id));
         log.info("Task deleted with id: {}", id);
     }
 
+    /**
+     * Timestamp for tombstones, at the precision of the timestamp column
+     * like updatedAt.
+     */
+    private static Instant deletionTime() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Evict several tasks from the cache.
+     *
+     * Called inside the write transaction; the transaction-aware decorator
+     * defers the evictions until commit, so a rolled-back batch leaves the
+     * cache untouched.
+     */
+    private void evictFromCache(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache != null) {
+            Cache afterCommit = new TransactionAwareCacheDecorator(cache);
+            ids.forEach(afterCommit::evict);
+        }
+    }
+
+    /**
+     * Look a task up in the cache without loading it.
+     *
+     * For methods of this class, which bypass the getTaskById cache proxy.
+     */
+    private Optional<Task> findCached(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        return Optional.ofNullable(cache != null ? cache.get(id, Task.class) : null);
+    }
+
+    /**
+     * Publish a change event inside the current write transaction.
+     */
+    private void publishChange(TaskChangeEvent.Type type, List<Long> ids) {
+        eventPublisher.publishEvent(new TaskChangeEvent(type, ids));
+    }
+
+    /**
+     * Explain why a single-statement write matched no row.
+     *
+     * Only runs on the failure path: without an expected version the task
+     * must be missing; with one, an existence check tells a concurrent
+     * modification (412) apart from a missing task (404).
+     */
+    private RuntimeException notWritten(Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            return new TaskVersionMismatchException(id);
+        }
+        return new TaskNotFoundException(id);
+    }
+
 }
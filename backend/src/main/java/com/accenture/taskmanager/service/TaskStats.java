@@ -0,0 +1,40 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.StatusCount;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregate task counts for dashboards.
+ *
+ * @param total      number of tasks
+ * @param todo       number of tasks with status TODO
+ * @param inProgress number of tasks with status IN_PROGRESS
+ * @param done       number of tasks with status DONE
+ * @param overdue    number of tasks not DONE whose due date has passed
+ */
+public record TaskStats(long total, long todo, long inProgress, long done, long overdue) {
+
+    /**
+     * Build statistics from per-status counts.
+     *
+     * @param counts  counts per status; statuses without tasks may be absent
+     * @param overdue number of overdue tasks
+     * @return the statistics, with zero for absent statuses
+     */
+    static TaskStats of(List<StatusCount> counts, long overdue) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        counts.forEach(count -> byStatus.put(count.status(), count.count()));
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new TaskStats(
+                total,
+                byStatus.getOrDefault(TaskStatus.TODO, 0L),
+                byStatus.getOrDefault(TaskStatus.IN_PROGRESS, 0L),
+                byStatus.getOrDefault(TaskStatus.DONE, 0L),
+                overdue);
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.BulkheadFullException;
+import com.accenture.taskmanager.model.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind queue for PUT /api/tasks/{id}/status.
+ *
+ * Accepted status changes are kept in memory, one entry per task id: a
+ * change for a task that is already queued replaces the queued status.
+ * Every task-status-queue.window the queue is drained and written with
+ * TaskService.updateStatuses in one transaction, so a client flipping a
+ * task's status many times per second costs one write per window.
+ *
+ * Architecture:
+ * - ConcurrentHashMap per task id; enqueueing never touches the database
+ * and never blocks
+ * - Draining removes entry by entry, so a change arriving during a flush is
+ * either in this flush or in the next one, never lost
+ * - A failed flush puts its changes back unless a newer change for the same
+ * task arrived meanwhile, and retries on the next window
+ * - Flushes never overlap: the final flush on shutdown waits for a slow
+ * periodic flush instead of writing alongside it
+ * - At most task-status-queue.max-pending tasks are queued; further tasks
+ * are rejected with BulkheadFullException (503 + Retry-After)
+ * - Stops after the web server's graceful shutdown phase, once in-flight
+ * requests have finished, and flushes what is left before the DataSource
+ * closes. Changes still queued when the process is killed are lost
+ * - Blocking (JPA) stack only; ReactiveTaskService writes each change
+ * right away
+ *
+ * Queued tasks are published as tasks.status.pending, changes replaced
+ * before they were written are counted in tasks.status.coalesced.
+ */
+@Component
+@ConditionalOnProperty(name = "task-api.stack", havingValue = "servlet", matchIfMissing = true)
+@Slf4j
+public class TaskStatusWriteBehind implements SmartLifecycle {
+
+    private final Map<Long, TaskStatus> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final TaskService taskService;
+    private final Counter coalesced;
+    private final Duration window;
+    private final int maxPending;
+
+    private volatile boolean running;
+    private Thread flushThread;
+
+    public TaskStatusWriteBehind(
+            TaskService taskService,
+            MeterRegistry meterRegistry,
+            @Value("${task-status-queue.window:100ms}") Duration window,
+            @Value("${task-status-queue.max-pending:1000}") int maxPending) {
+        this.taskService = taskService;
+        this.window = window;
+        this.maxPending = maxPending;
+        Gauge.builder("tasks.status.pending", pending, Map::size)
+                .description("Tasks with a status change waiting to be written")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("tasks.status.coalesced")
+                .description("Status changes replaced by a later change before being written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a status change.
+     *
+     * @param id     the task ID
+     * @param status the new status
+     * @throws BulkheadFullException if max-pending other tasks are queued
+     */
+    public void enqueue(Long id, TaskStatus status) {
+        // Approximate under concurrency, which is fine for a memory bound
+        if (pending.size() >= maxPending && !pending.containsKey(id)) {
+            throw new BulkheadFullException("status update");
+        }
+        if (pending.put(id, status) != null) {
+            coalesced.increment();
+        }
+    }
+
+    /**
+     * Write every queued change in one transaction.
+     *
+     * Waits for a flush already in progress, so two flushes never write
+     * at the same time.
+     *
+     * @return number of tasks whose changes were taken from the queue
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushPending() {
+        Map<Long, TaskStatus> batch = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            TaskStatus status = pending.remove(id);
+            if (status != null) {
+                batch.put(id, status);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            taskService.updateStatuses(batch);
+        } catch (RuntimeException ex) {
+            // Rolled back: requeue, but never over a newer change
+            batch.forEach(pending::putIfAbsent);
+            throw ex;
+        }
+        return batch.size();
+    }
+
+    /**
+     * Number of tasks with a queued change.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Flush loop: one flush per window.
+     */
+    void flushPeriodically() {
+        while (running) {
+            // Parks rather than sleeps: stop() wakes it without interrupting
+            // a flush in progress, which could break its JDBC connection
+            LockSupport.parkNanos(window.toNanos());
+            try {
+                flush();
+            } catch (RuntimeException ex) {
+                log.warn("Flushing {} queued status changes failed, retrying in {}", pending.size(), window, ex);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        flushThread = Thread.ofPlatform()
+                .name("task-status-write-behind")
+                .daemon()
+                .start(this::flushPeriodically);
+        log.info("Writing queued status changes every {}, at most {} tasks pending", window, maxPending);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        LockSupport.unpark(flushThread);
+        try {
+            flushThread.join(window.multipliedBy(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // A periodic flush may still be running; flush() waits for it
+        try {
+            int flushed = flush();
+            log.info("Flushed {} queued status changes on shutdown", flushed);
+        } catch (RuntimeException ex) {
+            log.error("Dropping {} queued status changes, final flush failed", pending.size(), ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after graceful shutdown has drained in-flight requests, so every
+     * accepted change is in the final flush.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+}
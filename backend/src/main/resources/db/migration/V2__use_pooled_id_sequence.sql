@@ -0,0 +1,13 @@
+-- Switch task id generation to a pooled sequence
+-- Enables Hibernate JDBC insert batching (IDENTITY generation disables it)
+
+-- ========================================
+-- Tasks Id Sequence
+-- ========================================
+-- BIGSERIAL in V1 created tasks_id_seq with INCREMENT BY 1.
+-- Hibernate's pooled optimizer (allocationSize = 50 on Task.id) reserves
+-- a block of 50 ids per nextval call, so the sequence must step by 50.
+-- The column default stays in place for inserts made outside the application.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+
+COMMENT ON SEQUENCE tasks_id_seq IS 'Task ids, allocated in blocks of 50 by the application';
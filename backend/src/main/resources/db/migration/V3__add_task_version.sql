@@ -0,0 +1,11 @@
+-- Add optimistic locking version to tasks
+-- Backs the ETag / If-Match support on /api/tasks/{id}
+
+-- ========================================
+-- Version Column
+-- ========================================
+-- Incremented on every update (Hibernate @Version, and explicitly by the
+-- single-statement update). Existing rows start at version 0.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN tasks.version IS 'Optimistic locking version, exposed as the ETag';
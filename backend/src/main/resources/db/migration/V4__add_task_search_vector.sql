@@ -0,0 +1,24 @@
+-- Full-text search over task title and description
+-- Backs GET /api/tasks/search
+
+-- ========================================
+-- Search Vector Column
+-- ========================================
+-- Generated and stored by PostgreSQL on every insert/update, so the
+-- application never writes it. Title words weigh more (A) than
+-- description words (B) in ts_rank. The two-argument to_tsvector with an
+-- explicit configuration is immutable, as generated columns require.
+ALTER TABLE tasks ADD COLUMN search_vector TSVECTOR
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- ========================================
+-- Indexes
+-- ========================================
+-- GIN inverted index: a search looks up the posting lists of its terms
+-- instead of scanning every row
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+COMMENT ON COLUMN tasks.search_vector IS 'Weighted full-text vector of title (A) and description (B)';
@@ -0,0 +1,26 @@
+-- Tombstones for deleted tasks and change-ordered index on tasks
+-- Backs GET /api/tasks/changes (delta sync)
+
+-- ========================================
+-- Task Tombstones Table
+-- ========================================
+-- Deletes stay hard deletes on tasks; the id and time of every deleted task
+-- are recorded here in the same transaction, so sync clients can learn
+-- about deletes. Task ids come from a sequence and are never reused, so one
+-- row per id is enough.
+CREATE TABLE task_tombstones (
+    task_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- ========================================
+-- Indexes
+-- ========================================
+-- Delta sync reads both tables in (timestamp, id) order from a position,
+-- so each page is a range scan of these indexes
+CREATE INDEX idx_tasks_updated_at ON tasks(updated_at, id);
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones(deleted_at, task_id);
+
+COMMENT ON TABLE task_tombstones IS 'Ids of deleted tasks, read by delta sync clients';
+COMMENT ON COLUMN task_tombstones.task_id IS 'Id of the deleted task';
+COMMENT ON COLUMN task_tombstones.deleted_at IS 'Timestamp when the task was deleted';
@@ -0,0 +1,24 @@
+-- Transactional outbox of task mutations
+-- Written in the same transaction as every task write, drained by
+-- TaskOutboxRelay
+
+-- ========================================
+-- Task Events Table
+-- ========================================
+-- One row per changed task. The relay locks the oldest rows with
+-- FOR UPDATE SKIP LOCKED, hands them downstream and deletes them in one
+-- transaction, so several replicas drain disjoint batches without any
+-- coordination. The table only holds events not yet relayed; the primary
+-- key is the only index the relay needs.
+CREATE TABLE task_events (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL CHECK (event_type IN ('CREATED', 'UPDATED', 'DELETED')),
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+COMMENT ON TABLE task_events IS 'Outbox of task mutations waiting to be relayed';
+COMMENT ON COLUMN task_events.id IS 'Event id, increasing in insertion order';
+COMMENT ON COLUMN task_events.task_id IS 'Id of the created, updated or deleted task';
+COMMENT ON COLUMN task_events.event_type IS 'Kind of change: CREATED, UPDATED or DELETED';
+COMMENT ON COLUMN task_events.occurred_at IS 'Timestamp of the write transaction';
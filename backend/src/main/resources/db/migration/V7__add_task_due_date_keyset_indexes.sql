@@ -0,0 +1,20 @@
+-- Keyset indexes for listing tasks by due date
+-- Backs GET /api/tasks?sort=dueDate and sort=-dueDate, with and without a
+-- status filter
+
+-- ========================================
+-- Indexes
+-- ========================================
+-- A page seeks past the last row of the previous page with the row
+-- comparison (due_date, id) > (:dueDate, :id). With id as the last index
+-- column the whole position is one range of the index, so a deep page reads
+-- only its own rows instead of filtering every row with the same due date.
+-- Tasks without a due date sort last; B-tree indexes keep NULLs last too,
+-- so the null tail is the end of the same index.
+CREATE INDEX idx_tasks_due_date_id ON tasks(due_date, id);
+CREATE INDEX idx_tasks_status_due_date_id ON tasks(status, due_date, id);
+
+-- The V1 indexes are leading prefixes of the new ones and serve no query
+-- the new ones cannot; dropping them saves their upkeep on every write
+DROP INDEX idx_tasks_due_date;
+DROP INDEX idx_tasks_status_due_date;
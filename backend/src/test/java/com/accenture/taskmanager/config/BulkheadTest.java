@@ -0,0 +1,50 @@
+package com.accenture.taskmanager.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for Bulkhead.
+ *
+ * Tests verify:
+ * - At most maxConcurrent slots are handed out
+ * - Released slots can be taken again
+ * - An interrupted caller gives up without a slot
+ */
+class BulkheadTest {
+
+    @Test
+    void tryAcquire_shouldRejectOnceAllSlotsAreTaken() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("write", 2, Duration.ofMillis(10));
+
+        // When / Then
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getAvailablePermits()).isZero();
+        assertThat(bulkhead.getWaitingThreads()).isZero();
+
+        bulkhead.release();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.getName()).isEqualTo("write");
+    }
+
+    @Test
+    void tryAcquire_shouldGiveUpWhenInterrupted() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("read", 0, Duration.ofSeconds(10));
+        Thread.currentThread().interrupt();
+
+        // When
+        boolean acquired = bulkhead.tryAcquire();
+
+        // Then
+        assertThat(acquired).isFalse();
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+}
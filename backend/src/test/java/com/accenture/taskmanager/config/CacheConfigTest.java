@@ -0,0 +1,223 @@
+package com.accenture.taskmanager.config;
+
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.service.TaskService;
+import com.accenture.taskmanager.service.TaskStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for CacheConfig, verifying the task cache end to end.
+ *
+ * Tests verify:
+ * - getTaskById is read-through cached and a hit skips the transaction
+ * - Writes keep the cache coherent (put on create, evict on update/delete)
+ * - An empty patch is served from the cache and keeps the entry
+ * - Evictions are applied only after commit
+ * - Hit/miss metrics are published to the meter registry
+ * - Task statistics are cached with their own short TTL
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheConfigTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private PlatformTransactionManager transactionManager;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        cache.clear();
+    }
+
+    @Test
+    void createTask_shouldPutTaskInCache() {
+        // When
+        Task created = taskService.createTask(newTask("Cached"));
+
+        // Then
+        assertThat(cache.get(created.getId(), Task.class))
+                .isNotNull()
+                .extracting(Task::getTitle)
+                .isEqualTo("Cached");
+    }
+
+    @Test
+    void getTaskById_shouldServeHitsWithoutTransaction() {
+        // Given
+        Task created = taskService.createTask(newTask("Hot task"));
+        double hitsBefore = cacheGets("hit");
+        clearInvocations(transactionManager);
+
+        // When
+        Task first = taskService.getTaskById(created.getId());
+        Task second = taskService.getTaskById(created.getId());
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(cacheGets("hit") - hitsBefore).isEqualTo(2);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void getTaskById_shouldLoadMissesFromDatabase() {
+        // Given
+        Task created = taskService.createTask(newTask("Cold task"));
+        cache.evict(created.getId());
+        double missesBefore = cacheGets("miss");
+
+        // When
+        Task loaded = taskService.getTaskById(created.getId());
+
+        // Then
+        assertThat(loaded.getTitle()).isEqualTo("Cold task");
+        assertThat(cacheGets("miss") - missesBefore).isEqualTo(1);
+        assertThat(cache.get(created.getId())).isNotNull();
+    }
+
+    @Test
+    void updateTask_shouldEvictTask() {
+        // Given
+        Task created = taskService.createTask(newTask("Before"));
+
+        // When
+        taskService.updateTask(created.getId(), newTask("After"), null);
+
+        // Then
+        assertThat(cache.get(created.getId())).isNull();
+        assertThat(taskService.getTaskById(created.getId()).getTitle()).isEqualTo("After");
+    }
+
+    @Test
+    void updateTask_shouldKeepCacheWhenUpdateFails() {
+        // Given
+        Task created = taskService.createTask(newTask("Unchanged"));
+
+        // When - stale If-Match version
+        assertThatThrownBy(() -> taskService.updateTask(created.getId(), newTask("Lost"), 99L))
+                .isInstanceOf(TaskVersionMismatchException.class);
+
+        // Then
+        assertThat(cache.get(created.getId(), Task.class).getTitle()).isEqualTo("Unchanged");
+    }
+
+    @Test
+    void patchTask_shouldKeepCacheForEmptyPatch() {
+        // Given
+        Task created = taskService.createTask(newTask("Untouched"));
+        Task cached = cache.get(created.getId(), Task.class);
+
+        // When
+        Task result = taskService.patchTask(created.getId(), TaskPatch.EMPTY, created.getVersion());
+
+        // Then
+        assertThat(result).isSameAs(cached);
+        assertThat(cache.get(created.getId(), Task.class)).isSameAs(cached);
+    }
+
+    @Test
+    void deleteTask_shouldEvictTask() {
+        // Given
+        Task created = taskService.createTask(newTask("Doomed"));
+
+        // When
+        taskService.deleteTask(created.getId(), null);
+
+        // Then
+        assertThat(cache.get(created.getId())).isNull();
+    }
+
+    @Test
+    void batchWrites_shouldEvictAffectedTasks() {
+        // Given
+        Task first = taskService.createTask(newTask("First"));
+        Task second = taskService.createTask(newTask("Second"));
+
+        // When
+        taskService.updateTasks(Map.of(first.getId(), newTask("First updated")));
+        taskService.deleteTasks(List.of(second.getId()));
+
+        // Then
+        assertThat(cache.get(first.getId())).isNull();
+        assertThat(cache.get(second.getId())).isNull();
+    }
+
+    @Test
+    void batchDelete_shouldKeepCacheWhenAnyIdMissing() {
+        // Given
+        Task existing = taskService.createTask(newTask("Kept"));
+
+        // When - a missing id rolls back the whole batch
+        assertThatThrownBy(() -> taskService.deleteTasks(List.of(existing.getId(), Long.MAX_VALUE)))
+                .hasMessageContaining("Task not found");
+
+        // Then
+        assertThat(cache.get(existing.getId())).isNotNull();
+    }
+
+    @Test
+    void getStats_shouldBeCachedWithShortTtl() {
+        // Given
+        CaffeineCache statsCache = (CaffeineCache) cacheManager.getCache(CacheConfig.TASK_STATS_CACHE);
+        statsCache.clear();
+        TaskStats first = taskService.getStats();
+
+        // When - a write does not evict the counts
+        taskService.createTask(newTask("Not counted yet"));
+        TaskStats second = taskService.getStats();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(statsCache.getNativeCache().policy().expireAfterWrite())
+                .hasValueSatisfying(expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(Duration.ofSeconds(10)));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", CacheConfig.TASKS_CACHE, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private Task newTask(String title) {
+        return Task.builder()
+                .title(title)
+                .status(TaskStatus.TODO)
+                .build();
+    }
+
+}
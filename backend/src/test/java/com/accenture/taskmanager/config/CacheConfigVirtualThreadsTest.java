@@ -0,0 +1,74 @@
+package com.accenture.taskmanager.config;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.service.TaskService;
+import com.accenture.taskmanager.service.TaskStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for CacheConfig in virtual-thread mode.
+ *
+ * Uses the same properties as DatabaseLimiterConfigTest so both share one
+ * application context.
+ *
+ * Tests verify:
+ * - Both caches run in Caffeine's async mode with their usual settings
+ * - Read-through caching of tasks and statistics still works
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "database-limiter.acquire-timeout=200ms"
+})
+@ActiveProfiles("test")
+class CacheConfigVirtualThreadsTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void tasksCache_shouldBeAsyncWithSpecSettings() {
+        // Given
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        Task created = taskService.createTask(Task.builder().title("Async").status(TaskStatus.TODO).build());
+        cache.clear();
+
+        // When
+        Task first = taskService.getTaskById(created.getId());
+        Task second = taskService.getTaskById(created.getId());
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getAsyncCache().synchronous().policy().eviction())
+                .hasValueSatisfying(eviction -> assertThat(eviction.getMaximum()).isEqualTo(10_000));
+    }
+
+    @Test
+    void statsCache_shouldBeAsyncWithShortTtl() {
+        // Given
+        CaffeineCache statsCache = (CaffeineCache) cacheManager.getCache(CacheConfig.TASK_STATS_CACHE);
+        statsCache.clear();
+
+        // When
+        TaskStats first = taskService.getStats();
+        TaskStats second = taskService.getStats();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(statsCache.getAsyncCache().synchronous().policy().expireAfterWrite())
+                .hasValueSatisfying(expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(Duration.ofSeconds(10)));
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.accenture.taskmanager.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ClientRateLimiter.
+ *
+ * Tests verify:
+ * - A client may send a burst of capacity requests, then is limited
+ * - Tokens refill at the configured rate and the wait is reported
+ * - Clients have independent buckets
+ */
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ClientRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new ClientRateLimiter(3, 2.0, 100, clock::get);
+    }
+
+    @Test
+    void tryAcquire_shouldAllowBurstThenReportWaitForNextToken() {
+        // When / Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:10.0.0.1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1")).isBetween(Duration.ofMillis(499), Duration.ofMillis(501));
+    }
+
+    @Test
+    void tryAcquire_shouldRefillOverTimeUpToCapacity() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0.1");
+        }
+
+        // When
+        clock.addAndGet(Duration.ofMillis(501).toNanos());
+
+        // Then
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1")).isPositive();
+
+        // When: a long pause refills no more than capacity
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:10.0.0.1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_shouldKeepSeparateBucketsPerClient() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("key:abusive");
+        }
+
+        // When / Then
+        assertThat(rateLimiter.tryAcquire("key:abusive")).isPositive();
+        assertThat(rateLimiter.tryAcquire("key:polite")).isZero();
+        assertThat(rateLimiter.getTrackedClients()).isEqualTo(2);
+    }
+
+    @Test
+    void constructor_shouldAcceptPublicDefaults() {
+        ClientRateLimiter limiter = new ClientRateLimiter(100, 50, 1000);
+
+        assertThat(limiter.tryAcquire("ip:127.0.0.1")).isZero();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.accenture.taskmanager.config;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.service.TaskService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for DatabaseLimiterConfig in virtual-thread mode.
+ *
+ * Tests verify:
+ * - The Hikari pool is wrapped with one permit per pooled connection
+ * - A request that cannot get a permit in time fails with
+ * CannotCreateTransactionException instead of waiting for the pool timeout
+ * - Async work runs on virtual threads
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "database-limiter.acquire-timeout=200ms"
+})
+@ActiveProfiles("test")
+class DatabaseLimiterConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void dataSource_shouldBeLimitedToPoolSize() throws Exception {
+        // Then
+        assertThat(dataSource).isInstanceOf(PermitLimitedDataSource.class);
+        PermitLimitedDataSource limited = (PermitLimitedDataSource) dataSource;
+        HikariDataSource hikari = limited.unwrap(HikariDataSource.class);
+        assertThat(limited.getAvailablePermits()).isEqualTo(hikari.getMaximumPoolSize());
+    }
+
+    @Test
+    void service_shouldFailFastWhenAllPermitsAreTaken() throws Exception {
+        // Given - every permit is held
+        PermitLimitedDataSource limited = (PermitLimitedDataSource) dataSource;
+        List<Connection> held = new ArrayList<>();
+        try {
+            while (limited.getAvailablePermits() > 0) {
+                held.add(dataSource.getConnection());
+            }
+
+            // When / Then
+            assertThatThrownBy(() -> taskService.createTask(newTask("Rejected")))
+                    .isInstanceOf(CannotCreateTransactionException.class);
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        // Then - permits are back and the service works again
+        assertThat(taskService.createTask(newTask("Accepted")).getId()).isNotNull();
+    }
+
+    @Test
+    void applicationTaskExecutor_shouldUseVirtualThreads() throws Exception {
+        // When
+        CompletableFuture<Boolean> virtual = applicationTaskExecutor.submitCompletable(
+                () -> Thread.currentThread().isVirtual());
+
+        // Then
+        assertThat(virtual.get()).isTrue();
+    }
+
+    private Task newTask(String title) {
+        return Task.builder()
+                .title(title)
+                .status(TaskStatus.TODO)
+                .build();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.accenture.taskmanager.config;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Collects finished spans in memory instead of exporting them over OTLP.
+ *
+ * Import into a @SpringBootTest annotated with @AutoConfigureObservability;
+ * Spring Boot adds every SpanExporter bean to the tracer's span processor.
+ * Spans are exported in batches, so flush the SdkTracerProvider before
+ * reading getFinishedSpanItems().
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class InMemorySpanExporterConfig {
+
+    @Bean
+    InMemorySpanExporter inMemorySpanExporter() {
+        return InMemorySpanExporter.create();
+    }
+
+}
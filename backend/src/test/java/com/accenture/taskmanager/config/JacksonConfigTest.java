@@ -0,0 +1,118 @@
+package com.accenture.taskmanager.config;
+
+import com.accenture.taskmanager.api.model.TaskPatchRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for JacksonConfig and HTTP response compression.
+ *
+ * Runs against the embedded Tomcat, since compression happens in the
+ * connector and MockMvc bypasses it.
+ *
+ * Tests verify:
+ * - The Blackbird module is registered with the application ObjectMapper
+ * - JsonNullable properties keep absent and null apart
+ * - Task lists are gzipped for clients that accept it
+ * - Single tasks (strong ETag) and clients without gzip get plain JSON
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class JacksonConfigTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void objectMapper_shouldUseBlackbird() {
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+    }
+
+    @Test
+    void objectMapper_shouldTellAbsentFromNullInPatch() throws Exception {
+        // When
+        TaskPatchRequest patch = objectMapper.readValue("{\"description\":null}", TaskPatchRequest.class);
+
+        // Then
+        assertThat(patch.getDescription().isPresent()).isTrue();
+        assertThat(patch.getDescription().get()).isNull();
+        assertThat(patch.getTitle().isPresent()).isFalse();
+    }
+
+    @Test
+    void taskList_shouldBeGzippedForClientsThatAcceptIt() throws Exception {
+        // Given
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            items.append(i == 0 ? "" : ",")
+                    .append("{\"title\":\"Compressible task ").append(i)
+                    .append("\",\"description\":\"Same description for every task\",\"status\":\"TODO\"}");
+        }
+        HttpResponse<InputStream> created = send(HttpRequest.newBuilder(uri("/api/tasks/batch"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"items\":[" + items + "]}")));
+        assertThat(created.statusCode()).isEqualTo(201);
+        long firstId;
+        try (InputStream body = created.body()) {
+            firstId = items(body).get(0).get("id").asLong();
+        }
+
+        // When
+        HttpResponse<InputStream> gzipped = send(HttpRequest.newBuilder(uri("/api/tasks?limit=40"))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+        HttpResponse<InputStream> plain = send(HttpRequest.newBuilder(uri("/api/tasks?limit=40")));
+        HttpResponse<InputStream> single = send(HttpRequest.newBuilder(uri("/api/tasks/" + firstId))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        // Then
+        assertThat(gzipped.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (InputStream body = new GZIPInputStream(gzipped.body())) {
+            assertThat(items(body).size()).isEqualTo(40);
+        }
+        assertThat(plain.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        try (InputStream body = plain.body()) {
+            assertThat(items(body).size()).isEqualTo(40);
+        }
+        assertThat(single.headers().firstValue(HttpHeaders.ETAG)).isPresent();
+        assertThat(single.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        try (InputStream body = single.body()) {
+            assertThat(objectMapper.readTree(body).get("id").asLong()).isEqualTo(firstId);
+        }
+    }
+
+    private JsonNode items(InputStream body) throws IOException {
+        return objectMapper.readTree(body).get("items");
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.accenture.taskmanager.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for LogSamplingFilter.
+ *
+ * Tests verify:
+ * - Each call site may log permitsPerSecond events per second
+ * - Dropped events are reported once the next window starts
+ * - WARN and above, other loggers and disabled levels are left alone
+ */
+class LogSamplingFilterTest {
+
+    private static final String FORMAT = "Task created with id: {}";
+
+    private LoggerContext context;
+
+    private Logger logger;
+
+    private LogSamplingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        logger = context.getLogger("com.accenture.taskmanager.service.TaskService");
+        logger.setLevel(Level.DEBUG);
+        filter = new LogSamplingFilter();
+        filter.setPermitsPerSecond(2);
+        filter.start();
+    }
+
+    @Test
+    void decide_shouldDropEventsOverTheRatePerCallSite() {
+        // When / Then
+        assertThat(filter.decide(logger, Level.INFO, FORMAT, 100)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(logger, Level.INFO, FORMAT, 100)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(logger, Level.INFO, FORMAT, 100)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(logger, Level.INFO, "Task deleted with id: {}", 100))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_shouldReportDroppedEventsInTheNextWindow() {
+        // Given
+        ListAppender<ILoggingEvent> summaries = new ListAppender<>();
+        summaries.start();
+        context.getLogger(LogSamplingFilter.class).addAppender(summaries);
+        for (int i = 0; i < 5; i++) {
+            filter.decide(logger, Level.INFO, FORMAT, 100);
+        }
+
+        // When
+        FilterReply reply = filter.decide(logger, Level.INFO, FORMAT, 101);
+
+        // Then
+        assertThat(reply).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(summaries.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .isEqualTo("Dropped 3 log events like \"" + FORMAT + "\" since the last report");
+    }
+
+    @Test
+    void decide_shouldLeaveWarningsOtherLoggersAndDisabledLevelsAlone() {
+        // Given
+        Logger other = context.getLogger("org.hibernate.SQL");
+        filter.setPermitsPerSecond(0);
+
+        // When / Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(filter.decide(logger, Level.WARN, FORMAT, 100)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(other, Level.INFO, FORMAT, 100)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(logger, Level.TRACE, FORMAT, 100)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void decide_shouldPassUntrackedSitesOnceMaxSitesIsReached() {
+        // Given
+        filter.setMaxSites(1);
+        filter.decide(logger, Level.INFO, FORMAT, 100);
+
+        // When / Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(filter.decide(logger, Level.INFO, "Dynamic message " + i, 100))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void turboFilter_shouldSampleEventsBeforeTheyReachAppenders() {
+        // Given
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        context.addTurboFilter(filter);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            logger.info(FORMAT, i);
+        }
+        logger.warn("Slow SQL statement");
+
+        // Then: at most one window boundary can fall inside the loop
+        assertThat(appender.list).hasSizeBetween(3, 5);
+        assertThat(appender.list).last().extracting(ILoggingEvent::getLevel).isEqualTo(Level.WARN);
+    }
+
+    @Test
+    void start_shouldStayStoppedWithoutPermits() {
+        // Given
+        LogSamplingFilter disabled = new LogSamplingFilter();
+        disabled.setPermitsPerSecond(0);
+        disabled.setMaxLevel("DEBUG");
+        disabled.setLoggerPrefix("com.accenture");
+
+        // When
+        disabled.start();
+
+        // Then
+        assertThat(disabled.isStarted()).isFalse();
+        assertThat(disabled.decide(logger, Level.DEBUG, FORMAT, 100)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+}
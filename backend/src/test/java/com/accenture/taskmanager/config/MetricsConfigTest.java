@@ -0,0 +1,101 @@
+package com.accenture.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for MetricsConfig and the Prometheus scrape endpoint.
+ *
+ * Tests verify:
+ * - Controller, service and repository timers are published with SLO buckets
+ * - Error responses are counted per GlobalExceptionHandler code
+ * - Pool saturation and limiter gauges report the pool state
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpoint_shouldPublishLayerTimersErrorsAndPoolGauges() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/987654")).andExpect(status().isNotFound());
+
+        // When / Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("tasks_api_seconds_bucket{"),
+                        containsString("method=\"getAllTasks\""),
+                        containsString("le=\"0.1\""),
+                        containsString("tasks_service_seconds_count{"),
+                        containsString("spring_data_repository_invocations_seconds_count{"),
+                        containsString("code=\"NOT_FOUND\""),
+                        containsString("tasks_errors_total{"),
+                        containsString("hikaricp_connections_active{"),
+                        containsString("db_pool_saturation{"))));
+    }
+
+    @Test
+    void saturation_shouldCountBusyAndWaitingConnectionsPerPoolSlot() {
+        // Given
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+        when(hikari.getMaximumPoolSize()).thenReturn(5);
+        when(pool.getActiveConnections()).thenReturn(5);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(5);
+
+        // When / Then
+        assertThat(MetricsConfig.saturation(hikari)).isEqualTo(2.0);
+    }
+
+    @Test
+    void saturation_shouldBeZeroBeforePoolStarts() {
+        HikariDataSource hikari = mock(HikariDataSource.class);
+
+        assertThat(MetricsConfig.saturation(hikari)).isZero();
+    }
+
+    @Test
+    void bind_shouldRegisterLimiterGaugesForPermitLimitedDataSource() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        when(hikari.getPoolName()).thenReturn("tasks-pool");
+        PermitLimitedDataSource limiter = new PermitLimitedDataSource(hikari, 3, Duration.ofSeconds(1));
+
+        // When
+        MetricsConfig.bind(limiter, registry);
+
+        // Then
+        assertThat(registry.get("db.pool.saturation").tag("pool", "tasks-pool").gauge().value()).isZero();
+        assertThat(registry.get("db.limiter.permits.available").gauge().value()).isEqualTo(3.0);
+        assertThat(registry.get("db.limiter.waiting").gauge().value()).isZero();
+    }
+
+}
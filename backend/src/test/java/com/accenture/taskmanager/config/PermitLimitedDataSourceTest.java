@@ -0,0 +1,130 @@
+package com.accenture.taskmanager.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PermitLimitedDataSource.
+ *
+ * Tests verify:
+ * - Permits are taken per connection and returned on the first close
+ * - Callers beyond the limit time out with a transient exception
+ * - Failed connection attempts and interrupts do not leak permits
+ * - Calls on the connection reach the pooled connection
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PermitLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private PermitLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(target.getConnection("user", "secret")).thenReturn(connection);
+        dataSource = new PermitLimitedDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void getConnection_shouldTakePermitUntilClosed() throws SQLException {
+        // When
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection("user", "secret");
+
+        // Then
+        assertThat(dataSource.getAvailablePermits()).isZero();
+        assertThat(dataSource.getWaitingThreads()).isZero();
+
+        first.close();
+        first.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        second.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(connection, times(3)).close();
+    }
+
+    @Test
+    void getConnection_shouldTimeOutWhenAllPermitsAreTaken() throws SQLException {
+        // Given
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // When / Then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessage("No database connection available within 50ms");
+        assertThatThrownBy(() -> dataSource.getConnection("user", "secret"))
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void getConnection_shouldReturnPermitWhenTargetFails() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        when(target.getConnection("user", "secret")).thenThrow(new IllegalStateException("pool closed"));
+
+        // When / Then
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool exhausted");
+        assertThatThrownBy(() -> dataSource.getConnection("user", "secret")).hasMessage("pool closed");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void getConnection_shouldFailWhenInterrupted() {
+        // Given
+        Thread.currentThread().interrupt();
+
+        // When / Then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void connection_shouldDelegateToTargetAndRethrowItsExceptions() throws SQLException {
+        // Given
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.isValid(1)).thenThrow(new SQLException("broken"));
+        Connection limited = dataSource.getConnection();
+
+        // When / Then
+        assertThat(limited.getAutoCommit()).isTrue();
+        assertThatThrownBy(() -> limited.isValid(1))
+                .isInstanceOf(SQLException.class)
+                .hasMessage("broken");
+        assertThat(limited).isEqualTo(limited).isNotEqualTo(connection);
+        assertThat(limited.hashCode()).isEqualTo(System.identityHashCode(limited));
+    }
+
+}
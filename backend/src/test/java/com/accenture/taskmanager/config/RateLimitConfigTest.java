@@ -0,0 +1,77 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for RateLimitConfig.
+ *
+ * Tests verify:
+ * - A client over its rate gets 429 with Retry-After from
+ * GlobalExceptionHandler, while other clients are still served
+ * - Endpoints outside the Tasks API are not limited
+ * - Bulkhead gauges are published
+ */
+@SpringBootTest(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.capacity=2",
+        "rate-limit.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void tasksApi_shouldReturn429WithRetryAfterOnceClientIsOverItsRate() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/tasks").with(client("10.0.0.66")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").with(client("10.0.0.66")))
+                .andExpect(status().isOk());
+
+        // When / Then
+        mockMvc.perform(get("/api/tasks").with(client("10.0.0.66")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("RATE_LIMITED"));
+        mockMvc.perform(get("/api/tasks").with(client("10.0.0.7")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health").with(client("10.0.0.66")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bulkheadMetrics_shouldPublishFreeSlotsPerBulkhead() {
+        assertThat(meterRegistry.get("tasks.bulkhead.available").tag("bulkhead", "read").gauge().value())
+                .isEqualTo(20.0);
+        assertThat(meterRegistry.get("tasks.bulkhead.waiting").tag("bulkhead", "write").gauge().value())
+                .isZero();
+    }
+
+    private static RequestPostProcessor client(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+}
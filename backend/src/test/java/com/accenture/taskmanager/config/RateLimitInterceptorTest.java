@@ -0,0 +1,158 @@
+package com.accenture.taskmanager.config;
+
+import com.accenture.taskmanager.exception.BulkheadFullException;
+import com.accenture.taskmanager.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RateLimitInterceptor.
+ *
+ * Tests verify:
+ * - Clients are keyed by IP address, never by client-chosen headers
+ * - Clients over their rate are rejected before taking a bulkhead slot
+ * - Reads and writes use separate bulkheads, released on completion
+ * - Async dispatches reuse the slot taken by the original request
+ * - The change stream is rate limited but takes no bulkhead slot
+ */
+class RateLimitInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private Bulkhead readBulkhead;
+
+    private Bulkhead writeBulkhead;
+
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        readBulkhead = new Bulkhead("read", 1, Duration.ZERO);
+        writeBulkhead = new Bulkhead("write", 1, Duration.ZERO);
+        interceptor = new RateLimitInterceptor(new ClientRateLimiter(2, 0.001, 100), readBulkhead, writeBulkhead);
+    }
+
+    @Test
+    void clientKey_shouldIgnoreApiKeyHeader() {
+        // Given
+        MockHttpServletRequest anonymous = request("GET");
+        MockHttpServletRequest withKey = request("GET");
+        withKey.addHeader("X-API-Key", "client-42");
+
+        // When / Then
+        assertThat(RateLimitInterceptor.clientKey(anonymous)).isEqualTo("ip:10.0.0.1");
+        assertThat(RateLimitInterceptor.clientKey(withKey)).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    void preHandle_shouldNotResetRateForNewApiKey() {
+        // Given
+        admitAndComplete(request("GET"));
+        admitAndComplete(request("GET"));
+
+        // When
+        MockHttpServletRequest rotatedKey = request("GET");
+        rotatedKey.addHeader("X-API-Key", "fresh-" + System.nanoTime());
+
+        // Then
+        assertThatThrownBy(() -> interceptor.preHandle(rotatedKey, response, null))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void preHandle_shouldRejectClientOverItsRate() {
+        // Given
+        admitAndComplete(request("GET"));
+        admitAndComplete(request("GET"));
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.preHandle(request("GET"), response, null))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfter()).isPositive());
+        assertThat(readBulkhead.getAvailablePermits()).isEqualTo(1);
+
+        MockHttpServletRequest otherClient = request("GET");
+        otherClient.setRemoteAddr("10.0.0.2");
+        assertThat(interceptor.preHandle(otherClient, response, null)).isTrue();
+    }
+
+    @Test
+    void preHandle_shouldKeepReadsAndWritesInSeparateBulkheads() throws Exception {
+        // Given
+        MockHttpServletRequest read = request("GET");
+        interceptor.preHandle(read, response, null);
+
+        // When / Then: the read slot is taken, the write slot is still free
+        MockHttpServletRequest secondRead = request("HEAD");
+        secondRead.setRemoteAddr("10.0.0.2");
+        assertThatThrownBy(() -> interceptor.preHandle(secondRead, response, null))
+                .isInstanceOf(BulkheadFullException.class)
+                .hasMessageContaining("read");
+        MockHttpServletRequest write = request("PUT");
+        write.setRemoteAddr("10.0.0.3");
+        assertThat(interceptor.preHandle(write, response, null)).isTrue();
+
+        interceptor.afterCompletion(read, response, null, null);
+        interceptor.afterCompletion(write, response, null, null);
+        assertThat(readBulkhead.getAvailablePermits()).isEqualTo(1);
+        assertThat(writeBulkhead.getAvailablePermits()).isEqualTo(1);
+        assertThat(interceptor.getBulkheads()).containsExactly(readBulkhead, writeBulkhead);
+    }
+
+    @Test
+    void asyncDispatch_shouldKeepSlotUntilItCompletes() throws Exception {
+        // Given
+        MockHttpServletRequest export = request("GET");
+        interceptor.preHandle(export, response, null);
+        interceptor.afterConcurrentHandlingStarted(export, response, null);
+
+        // When: the async dispatch passes through the interceptor again
+        boolean admitted = interceptor.preHandle(export, response, null);
+
+        // Then
+        assertThat(admitted).isTrue();
+        assertThat(readBulkhead.getAvailablePermits()).isZero();
+        interceptor.afterCompletion(export, response, null, null);
+        interceptor.afterCompletion(export, response, null, null);
+        assertThat(readBulkhead.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void preHandle_shouldAdmitStreamWithoutBulkheadSlot() throws Exception {
+        // Given
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", RateLimitInterceptor.STREAM_PATH);
+        stream.setRemoteAddr("10.0.0.1");
+
+        // When
+        boolean admitted = interceptor.preHandle(stream, response, null);
+        boolean dispatched = interceptor.preHandle(stream, response, null);
+
+        // Then
+        assertThat(admitted).isTrue();
+        assertThat(dispatched).isTrue();
+        assertThat(readBulkhead.getAvailablePermits()).isEqualTo(1);
+        interceptor.afterCompletion(stream, response, null, null);
+        assertThat(readBulkhead.getAvailablePermits()).isEqualTo(1);
+        // One token taken for the subscription, none for its async dispatch
+        assertThat(interceptor.preHandle(request("GET"), response, null)).isTrue();
+    }
+
+    private void admitAndComplete(MockHttpServletRequest request) {
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/tasks");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.accenture.taskmanager.config;
+
+import org.junit.jupiter.api.function.Executable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test assertions on the number of SQL statements a call executes.
+ *
+ * Pins the round trips of an endpoint or service method, so an added N+1
+ * query or read-before-write fails the build instead of showing up in
+ * production metrics:
+ *
+ * <pre>
+ * assertStatementCount(1, () -&gt; mockMvc.perform(get("/api/tasks/1")));
+ * </pre>
+ *
+ * Counts the statements run on the calling thread (see SqlStatistics),
+ * which covers MockMvc requests and direct service calls.
+ */
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    /**
+     * Run an action and assert how many SQL statements it executed.
+     *
+     * @param expected number of statements (round trips)
+     * @param action   the call to measure
+     * @throws Throwable anything the action throws
+     */
+    public static void assertStatementCount(int expected, Executable action) throws Throwable {
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            action.execute();
+            // The failure message lists the statements that actually ran
+            assertThat(sql.getStatements())
+                    .as("SQL statements")
+                    .hasSize(expected);
+        }
+    }
+
+    /**
+     * Run an action and assert it executed at most the given number of SQL
+     * statements.
+     *
+     * @param maximum highest acceptable number of statements
+     * @param action  the call to measure
+     * @throws Throwable anything the action throws
+     */
+    public static void assertStatementCountAtMost(int maximum, Executable action) throws Throwable {
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            action.execute();
+            assertThat(sql.getStatements())
+                    .as("SQL statements")
+                    .hasSizeLessThanOrEqualTo(maximum);
+        }
+    }
+
+}
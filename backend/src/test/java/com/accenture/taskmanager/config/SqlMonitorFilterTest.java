@@ -0,0 +1,79 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SqlMonitorFilter.
+ *
+ * Tests verify:
+ * - Statements and database time are published per endpoint pattern
+ * - Requests over the statement budget or time threshold are counted
+ * - Requests without SQL publish nothing
+ */
+class SqlMonitorFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SqlMonitorFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlMonitorFilter(meterRegistry, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void doFilter_shouldPublishStatementsPerEndpoint() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+            SqlStatistics.record("select 1", Duration.ofMillis(5).toNanos());
+        });
+
+        // Then
+        assertThat(meterRegistry.get("tasks.db.statements").tags("method", "GET", "uri", "/api/tasks/{id}")
+                .summary().totalAmount()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("tasks.db.time").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("tasks.db.budget.exceeded").counter()).isNull();
+    }
+
+    @Test
+    void doFilter_shouldCountRequestsOverBudget() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/tasks/batch");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 3; i++) {
+                SqlStatistics.record("update tasks", Duration.ofMillis(20).toNanos());
+            }
+        });
+
+        // Then
+        assertThat(meterRegistry.get("tasks.db.budget.exceeded")
+                .tags("uri", "UNKNOWN", "reason", "statements").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("tasks.db.budget.exceeded")
+                .tags("uri", "UNKNOWN", "reason", "time").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void doFilter_shouldPublishNothingWithoutSql() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+}
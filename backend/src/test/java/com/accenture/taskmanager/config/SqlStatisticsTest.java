@@ -0,0 +1,65 @@
+package com.accenture.taskmanager.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SqlStatistics.
+ *
+ * Tests verify:
+ * - Statements are recorded only while a scope is open
+ * - Nested scopes also count towards their enclosing scope
+ * - Closing a scope makes the enclosing one current again
+ */
+class SqlStatisticsTest {
+
+    @Test
+    void record_shouldBeIgnoredWithoutOpenScope() {
+        // When
+        SqlStatistics.record("select 1", 10);
+
+        // Then
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            assertThat(sql.getStatementCount()).isZero();
+            assertThat(sql.getDuration()).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    void record_shouldCountTowardsAllOpenScopes() {
+        try (SqlStatistics outer = SqlStatistics.open()) {
+            SqlStatistics.record("select 1", 1_000);
+            try (SqlStatistics inner = SqlStatistics.open()) {
+                SqlStatistics.record("update tasks", 2_000);
+
+                assertThat(inner.getStatements()).containsExactly("update tasks");
+                assertThat(inner.getDuration()).isEqualTo(Duration.ofNanos(2_000));
+            }
+            SqlStatistics.record("delete from tasks", 3_000);
+
+            assertThat(outer.getStatements()).containsExactly("select 1", "update tasks", "delete from tasks");
+            assertThat(outer.getDuration()).isEqualTo(Duration.ofNanos(6_000));
+        }
+    }
+
+    @Test
+    void close_shouldIgnoreScopeThatIsNotCurrent() {
+        try (SqlStatistics outer = SqlStatistics.open()) {
+            SqlStatistics inner = SqlStatistics.open();
+
+            // When - closing the outer scope first has no effect
+            outer.close();
+            SqlStatistics.record("select 1", 1);
+            inner.close();
+            SqlStatistics.record("select 2", 1);
+
+            // Then
+            assertThat(inner.getStatementCount()).isEqualTo(1);
+            assertThat(outer.getStatementCount()).isEqualTo(2);
+        }
+    }
+
+}
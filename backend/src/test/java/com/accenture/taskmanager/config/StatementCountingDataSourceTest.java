@@ -0,0 +1,161 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for StatementCountingDataSource.
+ *
+ * Tests verify:
+ * - Each execute call is recorded once, with the prepared or given SQL
+ * - Other JDBC calls pass through without being counted
+ * - Failing statements are still counted and their exception propagates
+ * - Connection acquisition and statements are observed (JDBC spans)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StatementCountingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    @Test
+    void preparedStatement_shouldRecordEachExecutionWithItsSql() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select * from tasks where id = ?")).thenReturn(preparedStatement);
+        DataSource dataSource = new StatementCountingDataSource(target, Duration.ofSeconds(1));
+
+        // When
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            PreparedStatement ps = dataSource.getConnection().prepareStatement("select * from tasks where id = ?");
+            ps.setLong(1, 1L);
+            ps.executeQuery();
+            ps.executeQuery();
+
+            // Then
+            assertThat(sql.getStatements()).containsExactly(
+                    "select * from tasks where id = ?", "select * from tasks where id = ?");
+        }
+        verify(preparedStatement).setLong(1, 1L);
+    }
+
+    @Test
+    void statement_shouldRecordSqlPassedToExecuteAndBatchesOnce() throws Exception {
+        // Given
+        when(target.getConnection("user", "secret")).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = new StatementCountingDataSource(target, Duration.ZERO);
+
+        // When
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            Statement created = dataSource.getConnection("user", "secret").createStatement();
+            created.execute("delete from tasks");
+            created.addBatch("insert into tasks values (1)");
+            created.addBatch("insert into tasks values (2)");
+            created.executeBatch();
+            verify(statement).addBatch("insert into tasks values (2)");
+
+            // Then
+            assertThat(sql.getStatements()).containsExactly("delete from tasks", "<batch>");
+        }
+    }
+
+    @Test
+    void connection_shouldPassOtherCallsThrough() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        Connection counted = new StatementCountingDataSource(target, Duration.ofSeconds(1)).getConnection();
+
+        // When / Then
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            assertThat(counted.getAutoCommit()).isTrue();
+            counted.close();
+            assertThat(counted).isEqualTo(counted).isNotEqualTo(connection);
+            assertThat(counted.hashCode()).isEqualTo(System.identityHashCode(counted));
+            assertThat(sql.getStatementCount()).isZero();
+        }
+        verify(connection).close();
+    }
+
+    @Test
+    void failingStatement_shouldBeCountedAndRethrown() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenThrow(new SQLException("constraint violated"));
+        DataSource dataSource = new StatementCountingDataSource(target, Duration.ofSeconds(1));
+
+        // When / Then
+        try (SqlStatistics sql = SqlStatistics.open()) {
+            PreparedStatement ps = dataSource.getConnection().prepareStatement("update tasks set title = ?");
+            assertThatThrownBy(ps::executeUpdate)
+                    .isInstanceOf(SQLException.class)
+                    .hasMessage("constraint violated");
+            assertThat(sql.getStatementCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void observationRegistry_shouldObserveConnectionAndEachStatement() throws Exception {
+        // Given
+        List<Observation.Context> observed = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                observed.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        DataSource dataSource = new StatementCountingDataSource(target, Duration.ofSeconds(1), () -> registry);
+
+        // When
+        dataSource.getConnection().prepareStatement("select * from tasks").executeQuery();
+
+        // Then
+        assertThat(observed).extracting(Observation.Context::getName)
+                .containsExactly("jdbc.connection", "jdbc.statement");
+        assertThat(observed.get(1).getHighCardinalityKeyValue("db.statement").getValue())
+                .isEqualTo("select * from tasks");
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.accenture.taskmanager.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TraceparentResponseFilter.
+ *
+ * Tests verify:
+ * - The current span is written as a W3C traceparent response header
+ * - No header is written without a tracer or an active span
+ */
+class TraceparentResponseFilterTest {
+
+    @Test
+    void doFilter_shouldWriteCurrentSpanAsTraceparent() throws Exception {
+        // Given
+        Tracer tracer = mock(Tracer.class);
+        Span span = mock(Span.class);
+        TraceContext context = mock(TraceContext.class);
+        when(tracer.currentSpan()).thenReturn(span);
+        when(span.context()).thenReturn(context);
+        when(context.traceId()).thenReturn("0af7651916cd43dd8448eb211c80319c");
+        when(context.spanId()).thenReturn("b7ad6b7169203331");
+        when(context.sampled()).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter(tracer).doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response, (req, res) -> { });
+
+        // Then
+        assertThat(response.getHeader(TracingConfig.TRACEPARENT))
+                .isEqualTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    }
+
+    @Test
+    void doFilter_shouldSkipHeaderWithoutSpan() throws Exception {
+        // Given
+        Tracer tracer = mock(Tracer.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter(tracer).doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response, (req, res) -> { });
+
+        // Then
+        assertThat(response.getHeader(TracingConfig.TRACEPARENT)).isNull();
+    }
+
+    @Test
+    void doFilter_shouldSkipHeaderWithoutTracer() throws Exception {
+        // Given
+        TraceparentResponseFilter filter = new TraceparentResponseFilter(
+                new StaticListableBeanFactory().getBeanProvider(Tracer.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response, (req, res) -> { });
+
+        // Then
+        assertThat(response.getHeader(TracingConfig.TRACEPARENT)).isNull();
+    }
+
+    @Test
+    void traceparent_shouldMarkUnsampledTraces() {
+        TraceContext context = mock(TraceContext.class);
+        when(context.traceId()).thenReturn("0af7651916cd43dd8448eb211c80319c");
+        when(context.spanId()).thenReturn("b7ad6b7169203331");
+
+        assertThat(TraceparentResponseFilter.traceparent(context)).endsWith("-00");
+    }
+
+    private static TraceparentResponseFilter filter(Tracer tracer) {
+        return new TraceparentResponseFilter(
+                new StaticListableBeanFactory(Map.of("tracer", tracer)).getBeanProvider(Tracer.class));
+    }
+
+}
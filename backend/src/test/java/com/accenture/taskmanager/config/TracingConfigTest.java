@@ -0,0 +1,88 @@
+package com.accenture.taskmanager.config;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for TracingConfig.
+ *
+ * Tests verify:
+ * - An incoming W3C traceparent is continued by the server span
+ * - Controller, service and JDBC spans join the same trace
+ * - The response carries the traceparent, exposed to CORS clients
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Import(InMemorySpanExporterConfig.class)
+@ActiveProfiles("test")
+class TracingConfigTest {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-b7ad6b7169203331-01";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter.reset();
+    }
+
+    @Test
+    void request_shouldContinueIncomingTraceAcrossAllLayers() throws Exception {
+        // When
+        mockMvc.perform(get("/api/tasks").header(TracingConfig.TRACEPARENT, TRACEPARENT))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TracingConfig.TRACEPARENT, startsWith("00-" + TRACE_ID + "-")));
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        // Then
+        List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getTraceId().equals(TRACE_ID))
+                .toList();
+        assertThat(spans).extracting(span -> span.getAttributes().get(AttributeKey.stringKey("method")))
+                .contains("getAllTasks", "getTasks");
+        assertThat(spans).extracting(SpanData::getName)
+                .contains("jdbc connection", "jdbc statement");
+        assertThat(spans).anySatisfy(span ->
+                assertThat(span.getAttributes().get(AttributeKey.stringKey("db.statement"))).isNotBlank());
+    }
+
+    @Test
+    void request_shouldExposeTraceHeadersToCorsClients() throws Exception {
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.ORIGIN, "http://localhost:3000"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+                        containsString(TracingConfig.TRACEPARENT)));
+    }
+
+}
@@ -0,0 +1,425 @@
+package com.accenture.taskmanager.controller;
+
+import com.accenture.taskmanager.api.model.TaskPatchRequest;
+import com.accenture.taskmanager.api.model.TaskRequest;
+import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.config.JacksonConfig;
+import com.accenture.taskmanager.exception.InvalidCursorException;
+import com.accenture.taskmanager.exception.InvalidPatchException;
+import com.accenture.taskmanager.exception.TaskNotFoundException;
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
+import com.accenture.taskmanager.mapper.TaskMapper;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.repository.TaskSort;
+import com.accenture.taskmanager.service.ReactiveTaskService;
+import com.accenture.taskmanager.service.TaskChanges;
+import com.accenture.taskmanager.service.TaskChangeEvent;
+import com.accenture.taskmanager.service.TaskChangeFeed;
+import com.accenture.taskmanager.service.TaskPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Controller layer tests for ReactiveTaskController using WebTestClient.
+ * Checks that the reactive stack serves the same `/api/tasks` contract as
+ * TaskController: paths, status codes, ETags and error bodies.
+ */
+@WebFluxTest(controllers = ReactiveTaskController.class, properties = "task-api.stack=reactive")
+@Import(JacksonConfig.class)
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveTaskService taskService;
+
+    @MockitoBean
+    private TaskMapper taskMapper;
+
+    @MockitoBean
+    private TaskChangeFeed changeFeed;
+
+    @Test
+    void getAllTasks_shouldReturnTaskPage() {
+        Task task = createTask(1L, "Task 1");
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 1))
+                .thenReturn(Mono.just(new TaskPage(List.of(task), "Mg")));
+        when(taskMapper.toResponse(task)).thenReturn(createTaskResponse(1L, "Task 1"));
+
+        webTestClient.get().uri("/api/tasks?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].title").isEqualTo("Task 1")
+                .jsonPath("$.nextCursor").isEqualTo("Mg");
+    }
+
+    @Test
+    void getAllTasks_shouldReturn400WhenCursorInvalid() {
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, "bad", 50))
+                .thenReturn(Mono.error(new InvalidCursorException("bad")));
+
+        webTestClient.get().uri("/api/tasks?cursor=bad")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("INVALID_CURSOR");
+    }
+
+    @Test
+    void getTaskChanges_shouldReturnChangedAndDeletedTasks() {
+        Task task = createTask(1L, "Task 1");
+        when(taskService.getChanges("MToy", 10))
+                .thenReturn(Mono.just(new TaskChanges(List.of(task), List.of(7L), "Mjoz", true)));
+        when(taskMapper.toResponse(task)).thenReturn(createTaskResponse(1L, "Task 1"));
+
+        webTestClient.get().uri("/api/tasks/changes?since=MToy&limit=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].title").isEqualTo("Task 1")
+                .jsonPath("$.deletedIds[0]").isEqualTo(7)
+                .jsonPath("$.nextToken").isEqualTo("Mjoz")
+                .jsonPath("$.hasMore").isEqualTo(true);
+    }
+
+    @Test
+    void searchTasks_shouldReturn400WhenQueryMissing() {
+        webTestClient.get().uri("/api/tasks/search")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR");
+
+        verify(taskService, never()).searchTasks(any(), any(), anyInt());
+    }
+
+    @Test
+    void exportTasks_shouldStreamNdjson() {
+        Task first = createTask(1L, "Task 1");
+        Task second = createTask(2L, "Task 2");
+        when(taskService.exportTasks()).thenReturn(Flux.just(first, second));
+        when(taskMapper.toResponse(first)).thenReturn(createTaskResponse(1L, "Task 1"));
+        when(taskMapper.toResponse(second)).thenReturn(createTaskResponse(2L, "Task 2"));
+
+        webTestClient.get().uri("/api/tasks/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(TaskResponse.class)
+                .hasSize(2);
+    }
+
+    @Test
+    void streamTaskChanges_shouldSendChangesAndHeartbeats() {
+        TaskChangeEvent change = new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(3L));
+        when(changeFeed.subscribe()).thenReturn(Flux.just(
+                ServerSentEvent.builder(change).event("DELETED").build(),
+                ServerSentEvent.<TaskChangeEvent>builder().comment("heartbeat").build()));
+
+        webTestClient.get().uri("/api/tasks/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .expectBody(String.class)
+                .value(body -> assertThat(body)
+                        .contains("event:DELETED\ndata:{\"type\":\"DELETED\",\"taskIds\":[3]}\n\n")
+                        .contains(":heartbeat\n\n"));
+    }
+
+    @Test
+    void getTaskById_shouldReturnTaskWithETag() {
+        Task task = createTask(1L, "Test Task");
+        when(taskService.getTaskById(1L)).thenReturn(Mono.just(task));
+        when(taskMapper.toResponse(task)).thenReturn(createTaskResponse(1L, "Test Task"));
+
+        webTestClient.get().uri("/api/tasks/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1);
+    }
+
+    @Test
+    void getTaskById_shouldReturn304WhenETagMatches() {
+        Task task = createTask(1L, "Test Task");
+        task.setVersion(3L);
+        when(taskService.getTaskById(1L)).thenReturn(Mono.just(task));
+
+        webTestClient.get().uri("/api/tasks/1")
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"3\"");
+
+        verify(taskMapper, never()).toResponse(any(Task.class));
+    }
+
+    @Test
+    void getTaskById_shouldReturn404WhenNotFound() {
+        when(taskService.getTaskById(999L)).thenReturn(Mono.error(new TaskNotFoundException(999L)));
+
+        webTestClient.get().uri("/api/tasks/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    void createTask_shouldReturnCreatedTask() {
+        Task task = createTask(null, "New Task");
+        Task createdTask = createTask(1L, "New Task");
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
+        when(taskService.createTask(task)).thenReturn(Mono.just(createdTask));
+        when(taskMapper.toResponse(createdTask)).thenReturn(createTaskResponse(1L, "New Task"));
+
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"title": "New Task", "status": "TODO"}
+                        """)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("New Task");
+    }
+
+    @Test
+    void createTask_shouldReturn400WhenTitleIsBlank() {
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"title": "", "status": "TODO"}
+                        """)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.field").isEqualTo("title");
+
+        verify(taskService, never()).createTask(any(Task.class));
+    }
+
+    @Test
+    void createTasksBatch_shouldReturnCreatedTasks() {
+        Task task = createTask(null, "Batch Task");
+        Task createdTask = createTask(1L, "Batch Task");
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
+        when(taskService.createTasks(anyList())).thenReturn(Mono.just(List.of(createdTask)));
+        when(taskMapper.toResponse(createdTask)).thenReturn(createTaskResponse(1L, "Batch Task"));
+
+        webTestClient.post().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"items": [{"title": "Batch Task", "status": "TODO"}]}
+                        """)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.items[0].id").isEqualTo(1);
+    }
+
+    @Test
+    void updateTasksBatch_shouldReturnUpdatedTasks() {
+        Task task = createTask(null, "Changed");
+        Task updatedTask = createTask(1L, "Changed");
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
+        when(taskService.updateTasks(any())).thenReturn(Mono.just(List.of(updatedTask)));
+        when(taskMapper.toResponse(updatedTask)).thenReturn(createTaskResponse(1L, "Changed"));
+
+        webTestClient.patch().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"items": [{"id": 1, "task": {"title": "Changed", "status": "DONE"}}]}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].title").isEqualTo("Changed");
+    }
+
+    @Test
+    void deleteTasksBatch_shouldReturnNoContent() {
+        when(taskService.deleteTasks(List.of(1L, 2L))).thenReturn(Mono.empty());
+
+        webTestClient.method(HttpMethod.DELETE).uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"ids": [1, 2]}
+                        """)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        verify(taskService).deleteTasks(List.of(1L, 2L));
+    }
+
+    @Test
+    void updateTask_shouldPassIfMatchVersionToService() {
+        Task task = createTask(null, "Updated Task");
+        Task updatedTask = createTask(1L, "Updated Task");
+        updatedTask.setVersion(4L);
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
+        when(taskService.updateTask(1L, task, 3L)).thenReturn(Mono.just(updatedTask));
+        when(taskMapper.toResponse(updatedTask)).thenReturn(createTaskResponse(1L, "Updated Task"));
+
+        webTestClient.put().uri("/api/tasks/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"title": "Updated Task", "status": "IN_PROGRESS"}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"4\"");
+    }
+
+    @Test
+    void patchTask_shouldReturnPatchedTaskWithETag() {
+        Task patchedTask = createTask(1L, "Task");
+        patchedTask.setVersion(4L);
+        when(taskMapper.toPatch(any(TaskPatchRequest.class))).thenReturn(TaskPatch.EMPTY);
+        when(taskService.patchTask(1L, TaskPatch.EMPTY, 3L)).thenReturn(Mono.just(patchedTask));
+        when(taskMapper.toResponse(patchedTask)).thenReturn(createTaskResponse(1L, "Task"));
+
+        webTestClient.patch().uri("/api/tasks/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.valueOf("application/merge-patch+json"))
+                .bodyValue("""
+                        {"description": null}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"4\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1);
+    }
+
+    @Test
+    void patchTask_shouldReturn400WhenStatusIsNull() {
+        when(taskMapper.toPatch(any(TaskPatchRequest.class))).thenThrow(new InvalidPatchException("status"));
+
+        webTestClient.patch().uri("/api/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"status": null}
+                        """)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.field").isEqualTo("status");
+
+        verify(taskService, never()).patchTask(any(), any(), any());
+    }
+
+    @Test
+    void updateTask_shouldReturn412WhenIfMatchMalformed() {
+        webTestClient.put().uri("/api/tasks/1")
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"title": "Updated Task", "status": "IN_PROGRESS"}
+                        """)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        verify(taskService, never()).updateTask(any(), any(), any());
+    }
+
+    @Test
+    void updateTaskStatus_shouldUpdateAndReturn202() {
+        when(taskMapper.mapApiStatusToEntityStatus(com.accenture.taskmanager.api.model.TaskStatus.DONE))
+                .thenReturn(TaskStatus.DONE);
+        when(taskService.updateStatus(1L, TaskStatus.DONE)).thenReturn(Mono.empty());
+
+        webTestClient.put().uri("/api/tasks/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"status": "DONE"}
+                        """)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody().isEmpty();
+
+        verify(taskService).updateStatus(1L, TaskStatus.DONE);
+    }
+
+    @Test
+    void deleteTask_shouldReturnNoContent() {
+        when(taskService.deleteTask(1L, null)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri("/api/tasks/1")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    void deleteTask_shouldReturn412WhenVersionIsStale() {
+        when(taskService.deleteTask(eq(1L), eq(2L))).thenReturn(Mono.error(new TaskVersionMismatchException(1L)));
+
+        webTestClient.delete().uri("/api/tasks/1")
+                .header("If-Match", "\"2\"")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        verify(taskService, never()).deleteTask(eq(1L), isNull());
+    }
+
+    private Task createTask(Long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TODO);
+        task.setDueDate(LocalDate.of(2025, 12, 31));
+        task.setCreatedAt(Instant.parse("2025-10-18T10:00:00Z"));
+        task.setUpdatedAt(Instant.parse("2025-10-18T10:00:00Z"));
+        task.setVersion(id != null ? 0L : null);
+        return task;
+    }
+
+    private TaskResponse createTaskResponse(Long id, String title) {
+        TaskResponse response = new TaskResponse();
+        response.setId(id);
+        response.setTitle(title);
+        response.setStatus(com.accenture.taskmanager.api.model.TaskStatus.TODO);
+        response.setDueDate(LocalDate.of(2025, 12, 31));
+        response.setCreatedAt(OffsetDateTime.of(2025, 10, 18, 10, 0, 0, 0, ZoneOffset.UTC));
+        response.setUpdatedAt(OffsetDateTime.of(2025, 10, 18, 10, 0, 0, 0, ZoneOffset.UTC));
+        return response;
+    }
+}
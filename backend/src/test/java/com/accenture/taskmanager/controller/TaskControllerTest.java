@@ -1,29 +1,61 @@
 package com.accenture.taskmanager.controller;
 
+import com.accenture.taskmanager.api.model.TaskPatchRequest;
 import com.accenture.taskmanager.api.model.TaskRequest;
 import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatsResponse;
+import com.accenture.taskmanager.config.JacksonConfig;
+import com.accenture.taskmanager.exception.BulkheadFullException;
+import com.accenture.taskmanager.exception.InvalidCursorException;
+import com.accenture.taskmanager.exception.InvalidPatchException;
 import com.accenture.taskmanager.exception.TaskNotFoundException;
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
 import com.accenture.taskmanager.mapper.TaskMapper;
 import com.accenture.taskmanager.model.Task;
 import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.repository.TaskSort;
+import com.accenture.taskmanager.service.TaskChangeEvent;
+import com.accenture.taskmanager.service.TaskChangeFeed;
+import com.accenture.taskmanager.service.TaskChanges;
+import com.accenture.taskmanager.service.TaskPage;
 import com.accenture.taskmanager.service.TaskService;
+import com.accenture.taskmanager.service.TaskStats;
+import com.accenture.taskmanager.service.TaskStatusWriteBehind;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,46 +66,293 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * routing.
  */
 @WebMvcTest(TaskController.class)
+@Import(JacksonConfig.class)
 class TaskControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockitoBean
     private TaskService taskService;
 
     @MockitoBean
     private TaskMapper taskMapper;
 
+    @MockitoBean
+    private TaskChangeFeed changeFeed;
+
+    @MockitoBean
+    private TaskStatusWriteBehind statusWriteBehind;
+
     @Test
-    void getAllTasks_shouldReturnEmptyList() throws Exception {
-        when(taskService.getAllTasks()).thenReturn(List.of());
+    void getAllTasks_shouldReturnEmptyPage() throws Exception {
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 50)).thenReturn(new TaskPage(List.of(), null));
 
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$", hasSize(0)));
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
-    void getAllTasks_shouldReturnTaskList() throws Exception {
+    void getAllTasks_shouldReturnTaskPage() throws Exception {
         Task task1 = createTask(1L, "Task 1", TaskStatus.TODO);
         Task task2 = createTask(2L, "Task 2", TaskStatus.IN_PROGRESS);
         TaskResponse response1 = createTaskResponse(1L, "Task 1");
         TaskResponse response2 = createTaskResponse(2L, "Task 2");
 
-        when(taskService.getAllTasks()).thenReturn(Arrays.asList(task1, task2));
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 2)).thenReturn(new TaskPage(Arrays.asList(task1, task2), "Mg"));
         when(taskMapper.toResponse(task1)).thenReturn(response1);
         when(taskMapper.toResponse(task2)).thenReturn(response2);
 
-        mockMvc.perform(get("/api/tasks"))
+        mockMvc.perform(get("/api/tasks").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", is(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Task 1")))
+                .andExpect(jsonPath("$.items[1].id", is(2)))
+                .andExpect(jsonPath("$.items[1].title", is("Task 2")))
+                .andExpect(jsonPath("$.nextCursor", is("Mg")));
+    }
+
+    @Test
+    void getAllTasks_shouldPassCursorToService() throws Exception {
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, "Mg", 50)).thenReturn(new TaskPage(List.of(), null));
+
+        mockMvc.perform(get("/api/tasks").param("cursor", "Mg"))
+                .andExpect(status().isOk());
+
+        verify(taskService).getTasks(TaskFilter.NONE, TaskSort.ID, "Mg", 50);
+    }
+
+    @Test
+    void getAllTasks_shouldReturn400WhenCursorInvalid() throws Exception {
+        when(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, "bogus", 50)).thenThrow(new InvalidCursorException("bogus"));
+
+        mockMvc.perform(get("/api/tasks").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code", is("INVALID_CURSOR")))
+                .andExpect(jsonPath("$.field", is("cursor")));
+    }
+
+    @Test
+    void getAllTasks_shouldReturn400WhenLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.field", is("limit")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getAllTasks_shouldPassFiltersAndSortToService() throws Exception {
+        LocalDate dueAfter = LocalDate.of(2025, 1, 1);
+        LocalDate dueBefore = LocalDate.of(2025, 2, 1);
+        TaskFilter filter = new TaskFilter(TaskStatus.TODO, dueBefore, dueAfter);
+        when(taskMapper.mapApiStatusToEntityStatus(com.accenture.taskmanager.api.model.TaskStatus.TODO))
+                .thenReturn(TaskStatus.TODO);
+        when(taskService.getTasks(filter, TaskSort.DUE_DATE_DESC, null, 50))
+                .thenReturn(new TaskPage(List.of(), null));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("status", "TODO")
+                        .param("dueAfter", "2025-01-01")
+                        .param("dueBefore", "2025-02-01")
+                        .param("sort", "-dueDate"))
+                .andExpect(status().isOk());
+
+        verify(taskService).getTasks(filter, TaskSort.DUE_DATE_DESC, null, 50);
+    }
+
+    @Test
+    void getAllTasks_shouldReturn400WhenSortUnknown() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("sort", "title"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.field", is("sort")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getAllTasks_shouldReturn400WhenStatusUnknown() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("status", "DOING"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.field", is("status")))
+                .andExpect(jsonPath("$.message", is("Invalid value 'DOING' for parameter status")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getAllTasks_shouldReturn400WhenDateMalformed() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("dueBefore", "tomorrow"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.field", is("dueBefore")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskChanges_shouldReturnChangedAndDeletedTasks() throws Exception {
+        Task task = createTask(1L, "Task 1", TaskStatus.TODO);
+        when(taskService.getChanges(null, 500)).thenReturn(new TaskChanges(List.of(task), List.of(7L), "MToy", false));
+        when(taskMapper.toResponse(task)).thenReturn(createTaskResponse(1L, "Task 1"));
+
+        mockMvc.perform(get("/api/tasks/changes"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id", is(1)))
-                .andExpect(jsonPath("$[0].title", is("Task 1")))
-                .andExpect(jsonPath("$[1].id", is(2)))
-                .andExpect(jsonPath("$[1].title", is("Task 2")));
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(1)))
+                .andExpect(jsonPath("$.deletedIds", contains(7)))
+                .andExpect(jsonPath("$.nextToken", is("MToy")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    void getTaskChanges_shouldReturn400WhenTokenInvalid() throws Exception {
+        when(taskService.getChanges("bogus", 500)).thenThrow(new InvalidCursorException("bogus"));
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("INVALID_CURSOR")));
+    }
+
+    @Test
+    void getTaskStats_shouldReturnCounts() throws Exception {
+        TaskStats stats = new TaskStats(10, 4, 1, 5, 2);
+        when(taskService.getStats()).thenReturn(stats);
+        when(taskMapper.toStatsResponse(stats)).thenReturn(new TaskStatsResponse()
+                .total(10L).todo(4L).inProgress(1L).done(5L).overdue(2L));
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total", is(10)))
+                .andExpect(jsonPath("$.inProgress", is(1)))
+                .andExpect(jsonPath("$.overdue", is(2)));
+    }
+
+    @Test
+    void searchTasks_shouldReturnMatchingPage() throws Exception {
+        Task task = createTask(1L, "Budget review", TaskStatus.TODO);
+        when(taskService.searchTasks("budget", null, 50)).thenReturn(new TaskPage(List.of(task), "MC41OjE"));
+        when(taskMapper.toResponse(task)).thenReturn(createTaskResponse(1L, "Budget review"));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "budget"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Budget review")))
+                .andExpect(jsonPath("$.nextCursor", is("MC41OjE")));
+    }
+
+    @Test
+    void searchTasks_shouldReturn400WhenQueryMissing() throws Exception {
+        mockMvc.perform(get("/api/tasks/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.field", is("q")))
+                .andExpect(jsonPath("$.message", is("Missing required parameter q")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void searchTasks_shouldReturn400WhenQueryEmpty() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("q", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.field", is("q")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void exportTasks_shouldStreamNdjson() throws Exception {
+        Task task1 = createTask(1L, "Task 1", TaskStatus.TODO);
+        Task task2 = createTask(2L, "Task 2", TaskStatus.DONE);
+        when(taskMapper.toResponse(task1)).thenReturn(createTaskResponse(1L, "Task 1"));
+        when(taskMapper.toResponse(task2)).thenReturn(createTaskResponse(2L, "Task 2"));
+        when(taskService.exportTasks(any())).thenAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return 2L;
+        });
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // One compact JSON object per line, each line newline-terminated
+        assertThat(body).endsWith("\n");
+        assertThat(body.split("\n"))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"))
+                .satisfies(lines -> {
+                    assertThat(lines[0]).contains("\"id\":1", "\"title\":\"Task 1\"");
+                    assertThat(lines[1]).contains("\"id\":2", "\"title\":\"Task 2\"");
+                });
+    }
+
+    @Test
+    void streamTaskChanges_shouldSendChangesAndHeartbeats() throws Exception {
+        TaskChangeEvent change = new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L, 2L));
+        when(changeFeed.subscribe()).thenReturn(Flux.just(
+                ServerSentEvent.builder(change).event("UPDATED").build(),
+                ServerSentEvent.<TaskChangeEvent>builder().comment("heartbeat").build()));
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/tasks/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // The stream has no async timeout, so wait explicitly for the Flux to complete
+        asyncResult.getAsyncResult(5000);
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("event:UPDATED\ndata:{\"type\":\"UPDATED\",\"taskIds\":[1,2]}\n\n")
+                .contains(":heartbeat\n\n");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTasks_shouldWrapWriteFailures() {
+        Task task = createTask(1L, "Task 1", TaskStatus.TODO);
+        when(taskMapper.toResponse(task)).thenReturn(createTaskResponse(1L, "Task 1"));
+        when(taskService.exportTasks(any())).thenAnswer(invocation -> {
+            ((Consumer<Task>) invocation.getArgument(0)).accept(task);
+            return 1L;
+        });
+        TaskController controller = new TaskController(taskService, taskMapper, objectMapper, changeFeed, statusWriteBehind);
+        StreamingResponseBody body = controller.exportTasks().getBody();
+        OutputStream brokenPipe = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> body.writeTo(brokenPipe))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("Broken pipe");
     }
 
     @Test
@@ -87,10 +366,39 @@ class TaskControllerTest {
         mockMvc.perform(get("/api/tasks/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"0\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.title", is("Test Task")));
     }
 
+    @Test
+    void getTaskById_shouldReturn304WhenETagMatches() throws Exception {
+        Task task = createTask(1L, "Test Task", TaskStatus.TODO);
+        task.setVersion(3L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(taskMapper, never()).toResponse(any(Task.class));
+    }
+
+    @Test
+    void getTaskById_shouldReturn200WhenETagIsStale() throws Exception {
+        Task task = createTask(1L, "Test Task", TaskStatus.TODO);
+        task.setVersion(4L);
+        TaskResponse response = createTaskResponse(1L, "Test Task");
+        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(taskMapper.toResponse(task)).thenReturn(response);
+
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.id", is(1)));
+    }
+
     @Test
     void getTaskById_shouldReturn404WhenNotFound() throws Exception {
         when(taskService.getTaskById(999L)).thenThrow(new TaskNotFoundException(999L));
@@ -125,6 +433,7 @@ class TaskControllerTest {
                 .content(requestJson))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"0\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.title", is("New Task")));
     }
@@ -162,7 +471,7 @@ class TaskControllerTest {
         TaskResponse response = createTaskResponse(1L, "Updated Task");
 
         when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
-        when(taskService.updateTask(eq(1L), any(Task.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(1L), any(Task.class), isNull())).thenReturn(updatedTask);
         when(taskMapper.toResponse(updatedTask)).thenReturn(response);
 
         mockMvc.perform(put("/api/tasks/1")
@@ -170,10 +479,145 @@ class TaskControllerTest {
                 .content(requestJson))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"0\""))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.title", is("Updated Task")));
     }
 
+    @Test
+    void updateTask_shouldPassIfMatchVersionToService() throws Exception {
+        String requestJson = """
+                {
+                    "title": "Updated Task",
+                    "status": "DONE"
+                }
+                """;
+
+        Task task = createTask(null, "Updated Task", TaskStatus.DONE);
+        Task updatedTask = createTask(1L, "Updated Task", TaskStatus.DONE);
+        updatedTask.setVersion(4L);
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
+        when(taskService.updateTask(1L, task, 3L)).thenReturn(updatedTask);
+        when(taskMapper.toResponse(updatedTask)).thenReturn(createTaskResponse(1L, "Updated Task"));
+
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void patchTask_shouldPassAbsentAndNullFieldsToMapper() throws Exception {
+        String requestJson = """
+                {
+                    "status": "DONE",
+                    "dueDate": null
+                }
+                """;
+
+        TaskPatch patch = TaskPatch.EMPTY;
+        Task patchedTask = createTask(1L, "Task", TaskStatus.DONE);
+        patchedTask.setVersion(4L);
+        ArgumentCaptor<TaskPatchRequest> request = ArgumentCaptor.forClass(TaskPatchRequest.class);
+        when(taskMapper.toPatch(request.capture())).thenReturn(patch);
+        when(taskService.patchTask(1L, patch, 3L)).thenReturn(patchedTask);
+        when(taskMapper.toResponse(patchedTask)).thenReturn(createTaskResponse(1L, "Task"));
+
+        mockMvc.perform(patch("/api/tasks/1")
+                .header("If-Match", "\"3\"")
+                .contentType("application/merge-patch+json")
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.id", is(1)));
+
+        TaskPatchRequest sent = request.getValue();
+        assertThat(sent.getTitle().isPresent()).isFalse();
+        assertThat(sent.getDescription().isPresent()).isFalse();
+        assertThat(sent.getStatus().get()).isEqualTo(com.accenture.taskmanager.api.model.TaskStatus.DONE);
+        assertThat(sent.getDueDate().isPresent()).isTrue();
+        assertThat(sent.getDueDate().get()).isNull();
+    }
+
+    @Test
+    void patchTask_shouldReturn400WhenTitleIsNull() throws Exception {
+        when(taskMapper.toPatch(any(TaskPatchRequest.class))).thenThrow(new InvalidPatchException("title"));
+
+        mockMvc.perform(patch("/api/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.field", is("title")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void patchTask_shouldReturn400WhenTitleTooLong() throws Exception {
+        mockMvc.perform(patch("/api/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"" + "a".repeat(201) + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void patchTask_shouldReturn404WhenTaskNotFound() throws Exception {
+        when(taskMapper.toPatch(any(TaskPatchRequest.class))).thenReturn(TaskPatch.EMPTY);
+        when(taskService.patchTask(999L, TaskPatch.EMPTY, null)).thenThrow(new TaskNotFoundException(999L));
+
+        mockMvc.perform(patch("/api/tasks/999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateTask_shouldReturn412WhenVersionMismatch() throws Exception {
+        String requestJson = """
+                {
+                    "title": "Updated Task",
+                    "status": "DONE"
+                }
+                """;
+
+        Task task = createTask(null, "Updated Task", TaskStatus.DONE);
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
+        when(taskService.updateTask(1L, task, 3L)).thenThrow(new TaskVersionMismatchException(1L));
+
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code", is("PRECONDITION_FAILED")));
+    }
+
+    @Test
+    void updateTask_shouldReturn412WhenIfMatchIsWeak() throws Exception {
+        String requestJson = """
+                {
+                    "title": "Updated Task",
+                    "status": "DONE"
+                }
+                """;
+
+        mockMvc.perform(put("/api/tasks/1")
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code", is("PRECONDITION_FAILED")));
+
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     void updateTask_shouldReturn404WhenNotFound() throws Exception {
         String requestJson = """
@@ -186,7 +630,7 @@ class TaskControllerTest {
 
         Task task = createTask(null, "Updated Task", TaskStatus.IN_PROGRESS);
         when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task);
-        when(taskService.updateTask(eq(999L), any(Task.class)))
+        when(taskService.updateTask(eq(999L), any(Task.class), isNull()))
                 .thenThrow(new TaskNotFoundException(999L));
 
         mockMvc.perform(put("/api/tasks/999")
@@ -197,17 +641,208 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.message", containsString("Task not found")));
     }
 
+    @Test
+    void createTasksBatch_shouldReturnCreatedTasks() throws Exception {
+        String requestJson = """
+                {
+                    "items": [
+                        { "title": "Task 1", "status": "TODO" },
+                        { "title": "Task 2", "status": "DONE" }
+                    ]
+                }
+                """;
+
+        Task task1 = createTask(null, "Task 1", TaskStatus.TODO);
+        Task task2 = createTask(null, "Task 2", TaskStatus.DONE);
+        Task created1 = createTask(1L, "Task 1", TaskStatus.TODO);
+        Task created2 = createTask(2L, "Task 2", TaskStatus.DONE);
+
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(task1, task2);
+        when(taskService.createTasks(List.of(task1, task2))).thenReturn(List.of(created1, created2));
+        when(taskMapper.toResponse(created1)).thenReturn(createTaskResponse(1L, "Task 1"));
+        when(taskMapper.toResponse(created2)).thenReturn(createTaskResponse(2L, "Task 2"));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", is(1)))
+                .andExpect(jsonPath("$.items[1].id", is(2)));
+    }
+
+    @Test
+    void createTasksBatch_shouldReturn400WhenItemInvalid() throws Exception {
+        String requestJson = """
+                {
+                    "items": [
+                        { "title": "", "status": "TODO" }
+                    ]
+                }
+                """;
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.field", is("items[0].title")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void createTasksBatch_shouldReturn400WhenEmpty() throws Exception {
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"items\": [] }"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.field", is("items")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void updateTasksBatch_shouldReturnUpdatedTasksInRequestOrder() throws Exception {
+        String requestJson = """
+                {
+                    "items": [
+                        { "id": 2, "task": { "title": "Task 2", "status": "DONE" } },
+                        { "id": 1, "task": { "title": "Task 1", "status": "IN_PROGRESS" } }
+                    ]
+                }
+                """;
+
+        Task update2 = createTask(null, "Task 2", TaskStatus.DONE);
+        Task update1 = createTask(null, "Task 1", TaskStatus.IN_PROGRESS);
+        Task updated2 = createTask(2L, "Task 2", TaskStatus.DONE);
+        Task updated1 = createTask(1L, "Task 1", TaskStatus.IN_PROGRESS);
+        Map<Long, Task> expectedUpdates = new LinkedHashMap<>();
+        expectedUpdates.put(2L, update2);
+        expectedUpdates.put(1L, update1);
+
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(update2, update1);
+        when(taskService.updateTasks(expectedUpdates)).thenReturn(List.of(updated2, updated1));
+        when(taskMapper.toResponse(updated2)).thenReturn(createTaskResponse(2L, "Task 2"));
+        when(taskMapper.toResponse(updated1)).thenReturn(createTaskResponse(1L, "Task 1"));
+
+        mockMvc.perform(patch("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", is(2)))
+                .andExpect(jsonPath("$.items[1].id", is(1)));
+    }
+
+    @Test
+    void updateTasksBatch_shouldReturn404WhenAnyTaskMissing() throws Exception {
+        String requestJson = """
+                {
+                    "items": [
+                        { "id": 999, "task": { "title": "Task", "status": "DONE" } }
+                    ]
+                }
+                """;
+
+        when(taskMapper.toEntity(any(TaskRequest.class))).thenReturn(createTask(null, "Task", TaskStatus.DONE));
+        when(taskService.updateTasks(any())).thenThrow(new TaskNotFoundException(999L));
+
+        mockMvc.perform(patch("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", containsString("Task not found with id: 999")));
+    }
+
+    @Test
+    void deleteTasksBatch_shouldReturn204() throws Exception {
+        mockMvc.perform(delete("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"ids\": [1, 2, 3] }"))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).deleteTasks(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void deleteTasksBatch_shouldReturn404WhenAnyTaskMissing() throws Exception {
+        doThrow(new TaskNotFoundException(999L)).when(taskService).deleteTasks(List.of(1L, 999L));
+
+        mockMvc.perform(delete("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"ids\": [1, 999] }"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", containsString("Task not found with id: 999")));
+    }
+
+    @Test
+    void updateTaskStatus_shouldQueueChangeAndReturn202() throws Exception {
+        when(taskMapper.mapApiStatusToEntityStatus(com.accenture.taskmanager.api.model.TaskStatus.DONE))
+                .thenReturn(TaskStatus.DONE);
+
+        mockMvc.perform(put("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(""));
+
+        verify(statusWriteBehind).enqueue(1L, TaskStatus.DONE);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void updateTaskStatus_shouldReturn400WhenStatusMissing() throws Exception {
+        mockMvc.perform(put("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(statusWriteBehind);
+    }
+
+    @Test
+    void updateTaskStatus_shouldReturn503WhenQueueIsFull() throws Exception {
+        when(taskMapper.mapApiStatusToEntityStatus(com.accenture.taskmanager.api.model.TaskStatus.DONE))
+                .thenReturn(TaskStatus.DONE);
+        doThrow(new BulkheadFullException("status update")).when(statusWriteBehind).enqueue(1L, TaskStatus.DONE);
+
+        mockMvc.perform(put("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
+
     @Test
     void deleteTask_shouldReturn204() throws Exception {
         mockMvc.perform(delete("/api/tasks/1"))
                 .andExpect(status().isNoContent());
 
-        verify(taskService).deleteTask(1L);
+        verify(taskService).deleteTask(1L, null);
+    }
+
+    @Test
+    void deleteTask_shouldPassIfMatchVersionToService() throws Exception {
+        mockMvc.perform(delete("/api/tasks/1").header("If-Match", "\"7\""))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).deleteTask(1L, 7L);
+    }
+
+    @Test
+    void deleteTask_shouldReturn412WhenVersionMismatch() throws Exception {
+        doThrow(new TaskVersionMismatchException(1L)).when(taskService).deleteTask(1L, 7L);
+
+        mockMvc.perform(delete("/api/tasks/1").header("If-Match", "\"7\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", containsString("modified")));
     }
 
     @Test
     void deleteTask_shouldReturn404WhenNotFound() throws Exception {
-        doThrow(new TaskNotFoundException(999L)).when(taskService).deleteTask(999L);
+        doThrow(new TaskNotFoundException(999L)).when(taskService).deleteTask(999L, null);
 
         mockMvc.perform(delete("/api/tasks/999"))
                 .andExpect(status().isNotFound())
@@ -250,6 +885,7 @@ class TaskControllerTest {
         task.setDueDate(LocalDate.of(2025, 12, 31));
         task.setCreatedAt(Instant.parse("2025-10-18T10:00:00Z"));
         task.setUpdatedAt(Instant.parse("2025-10-18T10:00:00Z"));
+        task.setVersion(id != null ? 0L : null);
         return task;
     }
 
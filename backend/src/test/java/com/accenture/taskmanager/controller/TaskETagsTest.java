@@ -0,0 +1,65 @@
+package com.accenture.taskmanager.controller;
+
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
+import com.accenture.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TaskETags}.
+ */
+class TaskETagsTest {
+
+    @Test
+    void of_shouldQuoteVersion() {
+        assertThat(TaskETags.of(taskWithVersion(5L))).isEqualTo("\"5\"");
+    }
+
+    @Test
+    void matchesNoneMatch_shouldHandleAbsentHeader() {
+        assertThat(TaskETags.matchesNoneMatch(null, taskWithVersion(1L))).isFalse();
+    }
+
+    @Test
+    void matchesNoneMatch_shouldUseWeakComparisonAcrossList() {
+        Task task = taskWithVersion(2L);
+
+        assertThat(TaskETags.matchesNoneMatch("\"1\", W/\"2\"", task)).isTrue();
+        assertThat(TaskETags.matchesNoneMatch("\"1\", \"3\"", task)).isFalse();
+    }
+
+    @Test
+    void matchesNoneMatch_shouldMatchWildcard() {
+        assertThat(TaskETags.matchesNoneMatch("*", taskWithVersion(9L))).isTrue();
+    }
+
+    @Test
+    void expectedVersion_shouldBeNullWhenUnconditional() {
+        assertThat(TaskETags.expectedVersion(null, 1L)).isNull();
+        assertThat(TaskETags.expectedVersion(" * ", 1L)).isNull();
+    }
+
+    @Test
+    void expectedVersion_shouldParseStrongTag() {
+        assertThat(TaskETags.expectedVersion(" \"42\" ", 1L)).isEqualTo(42L);
+    }
+
+    @Test
+    void expectedVersion_shouldRejectTagsThatCannotMatch() {
+        for (String header : new String[] {"W/\"3\"", "3", "\"", "\"\"", "\"12", "\"abc\"", "\"1\", \"2\""}) {
+            assertThatThrownBy(() -> TaskETags.expectedVersion(header, 1L))
+                    .as(header)
+                    .isInstanceOf(TaskVersionMismatchException.class);
+        }
+    }
+
+    private Task taskWithVersion(Long version) {
+        Task task = new Task();
+        task.setId(1L);
+        task.setVersion(version);
+        return task;
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.accenture.taskmanager.controller;
+
+import com.accenture.taskmanager.config.CacheConfig;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.service.TaskService;
+import com.accenture.taskmanager.service.TaskStatusWriteBehind;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.accenture.taskmanager.config.SqlAssertions.assertStatementCount;
+import static com.accenture.taskmanager.config.SqlAssertions.assertStatementCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each Tasks API endpoint executes.
+ *
+ * A failing test here means an endpoint gained a database round trip
+ * (N+1 query, read before write); the failure message lists the statements.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskQueryCountTest {
+
+    private static final String TASK_JSON = """
+            {"title": "Changed", "status": "DONE"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatusWriteBehind statusWriteBehind;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        id = taskService.createTask(Task.builder().title("Counted").status(TaskStatus.TODO).build()).getId();
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+        cacheManager.getCache(CacheConfig.TASK_STATS_CACHE).clear();
+    }
+
+    @Test
+    void getTaskById_shouldRunOneQueryThenServeFromCache() throws Throwable {
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/tasks/" + id)).andExpect(status().isOk()));
+        assertStatementCount(0, () -> mockMvc.perform(get("/api/tasks/" + id)).andExpect(status().isOk()));
+    }
+
+    @Test
+    void getAllTasks_shouldRunOneQuery() throws Throwable {
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/tasks").param("status", "TODO"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void getTaskStats_shouldRunTwoQueriesThenServeFromCache() throws Throwable {
+        assertStatementCount(2, () -> mockMvc.perform(get("/api/tasks/stats")).andExpect(status().isOk()));
+        assertStatementCount(0, () -> mockMvc.perform(get("/api/tasks/stats")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void createTask_shouldInsertWithoutReadingBack() throws Throwable {
+        // The INSERT and its outbox event, plus a sequence call when the pooled
+        // id block is used up
+        assertStatementCountAtMost(3, () -> mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TASK_JSON))
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    void updateTask_shouldUpdateAndRecordEvent() throws Throwable {
+        // UPDATE ... RETURNING, then the outbox INSERT
+        assertStatementCount(2, () -> mockMvc.perform(put("/api/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TASK_JSON))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void updateTask_shouldCheckExistenceOnlyWhenETagIsStale() throws Throwable {
+        // No event: the failed write publishes no change
+        assertStatementCount(2, () -> mockMvc.perform(put("/api/tasks/" + id)
+                        .header("If-Match", "\"99\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TASK_JSON))
+                .andExpect(status().isPreconditionFailed()));
+    }
+
+    @Test
+    void patchTask_shouldUpdateAndRecordEvent() throws Throwable {
+        // One UPDATE setting only status, returning the row, then the outbox INSERT
+        assertStatementCount(2, () -> mockMvc.perform(patch("/api/tasks/" + id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\": \"DONE\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void updateTaskStatus_shouldQueueWithoutStatementsThenFlushOnce() throws Throwable {
+        for (String newStatus : new String[] {"IN_PROGRESS", "DONE"}) {
+            assertStatementCount(0, () -> mockMvc.perform(put("/api/tasks/" + id + "/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"status\": \"" + newStatus + "\"}"))
+                    .andExpect(status().isAccepted()));
+        }
+
+        // Existence check, one UPDATE for the coalesced change, the outbox INSERT
+        assertStatementCount(3, () -> assertThat(statusWriteBehind.flush()).isEqualTo(1));
+        assertThat(taskService.getTaskById(id).getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void deleteTask_shouldRecordTombstoneThenDelete() throws Throwable {
+        // INSERT ... SELECT into task_tombstones, the DELETE, the outbox INSERT
+        assertStatementCount(3, () -> mockMvc.perform(delete("/api/tasks/" + id)).andExpect(status().isNoContent()));
+    }
+
+    @Test
+    void getTaskChanges_shouldRunTwoQueries() throws Throwable {
+        assertStatementCount(2, () -> mockMvc.perform(get("/api/tasks/changes")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void requests_shouldPublishStatementsPerEndpoint() throws Exception {
+        // When
+        mockMvc.perform(get("/api/tasks/" + id)).andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get("tasks.db.statements")
+                .tags("method", "GET", "uri", "/api/tasks/{id}")
+                .summary()
+                .count()).isPositive();
+    }
+
+}
@@ -1,12 +1,28 @@
 package com.accenture.taskmanager.exception;
 
 import com.accenture.taskmanager.api.model.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -17,11 +33,44 @@ import static org.mockito.Mockito.when;
  */
 class GlobalExceptionHandlerTest {
 
+    private SimpleMeterRegistry meterRegistry;
+
     private GlobalExceptionHandler exceptionHandler;
 
     @BeforeEach
     void setUp() {
-        exceptionHandler = new GlobalExceptionHandler();
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        exceptionHandler = new GlobalExceptionHandler(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void handlers_shouldCountErrorsByCodeAndStatus() {
+        // When
+        exceptionHandler.handleTaskNotFound(new TaskNotFoundException(1L));
+        exceptionHandler.handleTaskNotFound(new TaskNotFoundException(2L));
+        exceptionHandler.handleCannotCreateTransaction(
+                new CannotCreateTransactionException("No connection", new SQLTransientConnectionException("timeout")));
+
+        // Then
+        assertThat(meterRegistry.get("tasks.errors").tags("code", "NOT_FOUND", "status", "404").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("tasks.errors").tags("code", "SERVICE_UNAVAILABLE", "status", "503").counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void constructor_shouldFallBackToPrivateRegistryWithoutMetrics() {
+        // Given
+        GlobalExceptionHandler handler =
+                new GlobalExceptionHandler(new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleTaskNotFound(new TaskNotFoundException(1L));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(meterRegistry.find("tasks.errors").counter()).isNull();
     }
 
     @Test
@@ -40,6 +89,22 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getField()).isNull();
     }
 
+    @Test
+    void handleVersionMismatch_shouldReturn412() {
+        // Given
+        TaskVersionMismatchException exception = new TaskVersionMismatchException(7L);
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleVersionMismatch(exception);
+
+        // Then
+        assertThat(exception.getTaskId()).isEqualTo(7L);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Task has been modified since it was read, id: 7");
+        assertThat(response.getBody().getCode()).isEqualTo("PRECONDITION_FAILED");
+    }
+
     @Test
     void handleValidationErrors_whenFieldErrorIsNull_shouldReturnDefaultMessage() {
         // Given
@@ -58,6 +123,175 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getField()).isNull();
     }
 
+    @Test
+    void handleConstraintViolation_whenNoViolations_shouldReturnDefaultMessage() {
+        // Given
+        ConstraintViolationException ex = new ConstraintViolationException(Set.of());
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleConstraintViolation(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Validation failed");
+        assertThat(response.getBody().getCode()).isEqualTo("VALIDATION_ERROR");
+        assertThat(response.getBody().getField()).isNull();
+    }
+
+    @Test
+    void handleInvalidCursor_shouldReturn400WithCursorField() {
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleInvalidCursor(
+                new InvalidCursorException("abc"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Invalid pagination cursor: abc");
+        assertThat(response.getBody().getCode()).isEqualTo("INVALID_CURSOR");
+        assertThat(response.getBody().getField()).isEqualTo("cursor");
+    }
+
+    @Test
+    void handleInvalidPatch_shouldReturn400WithField() {
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleInvalidPatch(
+                new InvalidPatchException("title"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("title cannot be null");
+        assertThat(response.getBody().getCode()).isEqualTo("VALIDATION_ERROR");
+        assertThat(response.getBody().getField()).isEqualTo("title");
+    }
+
+    @Test
+    void handleCannotCreateTransaction_shouldReturn503WithRetryAfter() {
+        // Given
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("Could not open JPA EntityManager",
+                new SQLTransientConnectionException("No database connection available within 2000ms"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleCannotCreateTransaction(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo("SERVICE_UNAVAILABLE");
+    }
+
+    @Test
+    void handleRateLimitExceeded_shouldReturn429WithRetryAfterRoundedUp() {
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleRateLimitExceeded(
+                new RateLimitExceededException(Duration.ofMillis(2100)));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo("RATE_LIMITED");
+        assertThat(meterRegistry.get("tasks.errors").tags("code", "RATE_LIMITED", "status", "429").counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void handleRateLimitExceeded_shouldAskForAtLeastOneSecond() {
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleRateLimitExceeded(
+                new RateLimitExceededException(Duration.ofMillis(20)));
+
+        // Then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void handleBulkheadFull_shouldReturn503WithRetryAfter() {
+        // Given
+        BulkheadFullException exception = new BulkheadFullException("write");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleBulkheadFull(exception);
+
+        // Then
+        assertThat(exception.getBulkhead()).isEqualTo("write");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo("SERVICE_UNAVAILABLE");
+    }
+
+    @Test
+    void handleBindErrors_shouldReturn400WithFirstFieldError() {
+        // Given
+        WebExchangeBindException ex = mock(WebExchangeBindException.class);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "taskRequest");
+        bindingResult.addError(new FieldError("taskRequest", "title", "Title is required"));
+        when(ex.getBindingResult()).thenReturn(bindingResult);
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleBindErrors(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Title is required");
+        assertThat(response.getBody().getField()).isEqualTo("title");
+        assertThat(response.getBody().getCode()).isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    void handleBindErrors_whenFieldErrorIsNull_shouldReturnDefaultMessage() {
+        // Given
+        WebExchangeBindException ex = mock(WebExchangeBindException.class);
+        when(ex.getBindingResult()).thenReturn(new BeanPropertyBindingResult(new Object(), "taskRequest"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleBindErrors(ex);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Validation failed");
+        assertThat(response.getBody().getField()).isNull();
+    }
+
+    @Test
+    void handleServerWebInput_shouldReturn400WithParameterName() throws NoSuchMethodException {
+        // Given
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerTest.class.getDeclaredMethod("search", String.class), 0);
+        parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+        ServerWebInputException ex = new ServerWebInputException(
+                "Required query parameter 'q' is not present.", parameter);
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleServerWebInput(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Required query parameter 'q' is not present.");
+        assertThat(response.getBody().getField()).isEqualTo("q");
+        assertThat(response.getBody().getCode()).isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    void handleServerWebInput_withoutParameterOrReason_shouldReturnDefaultMessage() {
+        // Given
+        ServerWebInputException ex = new ServerWebInputException(null);
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleServerWebInput(ex);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Invalid request");
+        assertThat(response.getBody().getField()).isNull();
+    }
+
     @Test
     void taskNotFoundException_shouldHaveProperMessage() {
         // Given
@@ -70,4 +304,11 @@ class GlobalExceptionHandlerTest {
         assertThat(exception.getMessage()).isEqualTo("Task not found with id: 123");
         assertThat(exception.getTaskId()).isEqualTo(123L);
     }
+
+    /**
+     * Stand-in handler method for the parameter of a ServerWebInputException.
+     */
+    @SuppressWarnings("unused")
+    private static void search(String q) {
+    }
 }
@@ -1,8 +1,13 @@
 package com.accenture.taskmanager.mapper;
 
+import com.accenture.taskmanager.api.model.TaskPatchRequest;
 import com.accenture.taskmanager.api.model.TaskRequest;
 import com.accenture.taskmanager.api.model.TaskResponse;
+import com.accenture.taskmanager.api.model.TaskStatsResponse;
+import com.accenture.taskmanager.exception.InvalidPatchException;
 import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.service.TaskStats;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -14,6 +19,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for TaskMapper MapStruct mapper.
@@ -195,6 +201,62 @@ class TaskMapperTest {
         assertThat(existingEntity.getStatus()).isEqualTo(com.accenture.taskmanager.model.TaskStatus.DONE);
     }
 
+    @Test
+    void testToPatch() {
+        // Given - title absent, description cleared
+        TaskPatchRequest request = new TaskPatchRequest()
+                .description(null)
+                .status(com.accenture.taskmanager.api.model.TaskStatus.DONE)
+                .dueDate(LocalDate.of(2025, 12, 31));
+
+        // When
+        TaskPatch patch = taskMapper.toPatch(request);
+
+        // Then
+        assertThat(patch.title().isPresent()).isFalse();
+        assertThat(patch.description().isPresent()).isTrue();
+        assertThat(patch.description().get()).isNull();
+        assertThat(patch.status().get()).isEqualTo(com.accenture.taskmanager.model.TaskStatus.DONE);
+        assertThat(patch.dueDate().get()).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(patch.isEmpty()).isFalse();
+    }
+
+    @Test
+    void testToPatchEmpty() {
+        // When
+        TaskPatch patch = taskMapper.toPatch(new TaskPatchRequest());
+
+        // Then
+        assertThat(patch.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testToPatchRejectsNullTitleAndStatus() {
+        // When/Then
+        assertThatThrownBy(() -> taskMapper.toPatch(new TaskPatchRequest().title(null)))
+                .isInstanceOf(InvalidPatchException.class)
+                .hasMessage("title cannot be null");
+        assertThatThrownBy(() -> taskMapper.toPatch(new TaskPatchRequest().status(null)))
+                .isInstanceOf(InvalidPatchException.class)
+                .hasMessage("status cannot be null");
+    }
+
+    @Test
+    void testToStatsResponse() {
+        // Given
+        TaskStats stats = new TaskStats(10, 4, 1, 5, 2);
+
+        // When
+        TaskStatsResponse response = taskMapper.toStatsResponse(stats);
+
+        // Then
+        assertThat(response.getTotal()).isEqualTo(10);
+        assertThat(response.getTodo()).isEqualTo(4);
+        assertThat(response.getInProgress()).isEqualTo(1);
+        assertThat(response.getDone()).isEqualTo(5);
+        assertThat(response.getOverdue()).isEqualTo(2);
+    }
+
     @Test
     void testMapApiStatusToEntityStatus() {
         // When/Then
@@ -0,0 +1,359 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ReactiveTaskRepository.
+ *
+ * SQL variants are checked as strings; execution runs against an H2
+ * in-memory database over R2DBC, with the schema from reactive-schema.sql.
+ */
+class ReactiveTaskRepositoryTest {
+
+    private static final ConnectionFactory CONNECTION_FACTORY =
+            ConnectionFactories.get("r2dbc:h2:mem:///reactive_repository;DB_CLOSE_DELAY=-1");
+
+    private ReactiveTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("reactive-schema.sql"))
+                .populate(CONNECTION_FACTORY)
+                .block();
+        repository = new ReactiveTaskRepository(DatabaseClient.create(CONNECTION_FACTORY));
+    }
+
+    @Test
+    void nextIdSql_shouldUseNextvalOnPostgreSQL() {
+        assertThat(ReactiveTaskRepository.nextIdSql(true)).isEqualTo("SELECT nextval('tasks_id_seq') AS id");
+    }
+
+    @Test
+    void nextIdSql_shouldUseNextValueForOnOtherDatabases() {
+        assertThat(ReactiveTaskRepository.nextIdSql(false)).isEqualTo("SELECT NEXT VALUE FOR tasks_id_seq AS id");
+    }
+
+    @Test
+    void pageSql_shouldCombineFiltersAndSeekPastCursor() {
+        // When
+        String sql = ReactiveTaskRepository.pageSql(
+                new TaskFilter(TaskStatus.TODO, LocalDate.of(2026, 1, 1), LocalDate.of(2025, 1, 1)),
+                TaskSort.DUE_DATE, 5L, LocalDate.of(2025, 6, 1));
+
+        // Then
+        assertThat(sql)
+                .contains("WHERE t.status = :status AND t.due_date < :dueBefore AND t.due_date > :dueAfter AND ")
+                .contains("((t.due_date, t.id) > (:afterDueDate, :afterId) OR t.due_date IS NULL)")
+                .endsWith("ORDER BY t.due_date ASC NULLS LAST, t.id LIMIT :limit");
+    }
+
+    @Test
+    void pageSql_shouldOmitWhereClauseWithoutFiltersOrCursor() {
+        assertThat(ReactiveTaskRepository.pageSql(TaskFilter.NONE, TaskSort.ID_DESC, null, null))
+                .isEqualTo("SELECT " + ReactiveTaskRepository.COLUMNS + " FROM tasks t ORDER BY t.id DESC LIMIT :limit");
+    }
+
+    @Test
+    void pageSql_shouldSeekPastUndatedRowInDescendingDueDateOrder() {
+        assertThat(ReactiveTaskRepository.pageSql(TaskFilter.NONE, TaskSort.DUE_DATE_DESC, 5L, null))
+                .contains("WHERE ((t.due_date IS NULL AND t.id < :afterId) OR t.due_date IS NOT NULL)")
+                .endsWith("ORDER BY t.due_date DESC NULLS FIRST, t.id DESC LIMIT :limit");
+    }
+
+    @Test
+    void pageSql_shouldSeekPastDatedRowWithRowComparisonInDescendingDueDateOrder() {
+        assertThat(ReactiveTaskRepository.pageSql(TaskFilter.NONE, TaskSort.DUE_DATE_DESC, 5L, LocalDate.of(2025, 6, 1)))
+                .contains("WHERE (t.due_date, t.id) < (:afterDueDate, :afterId) ORDER BY")
+                .endsWith("ORDER BY t.due_date DESC NULLS FIRST, t.id DESC LIMIT :limit");
+    }
+
+    @Test
+    void insertAndFindById_shouldRoundTripAllColumns() {
+        // Given
+        Task task = newTask("Write docs", "For the reactive stack", TaskStatus.TODO, LocalDate.of(2026, 3, 1));
+
+        // When
+        Long id = repository.insert(task).block();
+
+        // Then
+        StepVerifier.create(repository.findById(id))
+                .assertNext(found -> {
+                    assertThat(found.getTitle()).isEqualTo("Write docs");
+                    assertThat(found.getDescription()).isEqualTo("For the reactive stack");
+                    assertThat(found.getStatus()).isEqualTo(TaskStatus.TODO);
+                    assertThat(found.getDueDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+                    assertThat(found.getCreatedAt()).isEqualTo(task.getCreatedAt());
+                    assertThat(found.getVersion()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void insert_shouldTakeConsecutiveIdsFromReservedBlock() {
+        // When
+        Long first = repository.insert(newTask("A", null, TaskStatus.TODO, null)).block();
+        Long second = repository.insert(newTask("B", null, TaskStatus.TODO, null)).block();
+        Long third = repository.insert(newTask("C", null, TaskStatus.TODO, null)).block();
+
+        // Then - 1 is the first sequence value, 2 to 51 the block below 51
+        assertThat(List.of(first, second, third)).containsExactly(1L, 2L, 3L);
+        assertThat(nextSequenceValue()).isEqualTo(101L);
+    }
+
+    @Test
+    void insert_shouldNotUseIdsOfBlockReservedElsewhere() {
+        // Given - this instance has 3 to 51 left, another one reserves 52 to 101
+        repository.insert(newTask("Mine", null, TaskStatus.TODO, null)).block();
+        repository.insert(newTask("Mine too", null, TaskStatus.TODO, null)).block();
+        long otherBlockTop = nextSequenceValue();
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ReactiveTaskRepository.ID_BLOCK_SIZE; i++) {
+            ids.add(repository.insert(newTask("Task " + i, null, TaskStatus.TODO, null)).block());
+        }
+
+        // Then - 3 to 51, then the block 102 to 151
+        assertThat(otherBlockTop).isEqualTo(101L);
+        assertThat(ids).doesNotHaveDuplicates()
+                .noneMatch(id -> id > otherBlockTop - ReactiveTaskRepository.ID_BLOCK_SIZE && id <= otherBlockTop);
+        assertThat(ids.get(0)).isEqualTo(3L);
+        assertThat(ids.get(ids.size() - 1)).isEqualTo(102L);
+    }
+
+    @Test
+    void findPage_shouldFilterSortAndSeekPastCursor() {
+        // Given
+        Long early = repository.insert(newTask("Early", null, TaskStatus.TODO, LocalDate.of(2026, 1, 1))).block();
+        Long late = repository.insert(newTask("Late", null, TaskStatus.TODO, LocalDate.of(2026, 2, 1))).block();
+        Long undated = repository.insert(newTask("Undated", null, TaskStatus.TODO, null)).block();
+        repository.insert(newTask("Done", null, TaskStatus.DONE, LocalDate.of(2026, 1, 15))).block();
+        TaskFilter todo = new TaskFilter(TaskStatus.TODO, null, null);
+
+        // When / Then
+        StepVerifier.create(repository.findPage(todo, TaskSort.DUE_DATE, null, null, 10).map(Task::getId))
+                .expectNext(early, late, undated)
+                .verifyComplete();
+        StepVerifier.create(repository.findPage(todo, TaskSort.DUE_DATE, early, LocalDate.of(2026, 1, 1), 10)
+                        .map(Task::getId))
+                .expectNext(late, undated)
+                .verifyComplete();
+        StepVerifier.create(repository.findPage(todo, TaskSort.DUE_DATE_DESC, null, null, 2).map(Task::getId))
+                .expectNext(undated, late)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateReturning_shouldBumpVersionAndHonourExpectedVersion() {
+        // Given
+        Task task = newTask("Original", null, TaskStatus.TODO, null);
+        Long id = repository.insert(task).block();
+        Task update = newTask("Updated", "Now with text", TaskStatus.DONE, LocalDate.of(2026, 5, 1));
+        update.setId(id);
+
+        // When / Then
+        StepVerifier.create(repository.updateReturning(update, 0L))
+                .assertNext(row -> {
+                    assertThat(row.version()).isEqualTo(1L);
+                    assertThat(row.createdAt()).isEqualTo(task.getCreatedAt());
+                })
+                .verifyComplete();
+        StepVerifier.create(repository.updateReturning(update, 0L))
+                .verifyComplete();
+        StepVerifier.create(repository.findById(id).map(Task::getTitle))
+                .expectNext("Updated")
+                .verifyComplete();
+    }
+
+    @Test
+    void patchReturning_shouldWriteOnlyPatchedColumns() {
+        // Given
+        Long id = repository.insert(newTask("Original", "Keep me", TaskStatus.TODO, LocalDate.of(2026, 5, 1)))
+                .block();
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        TaskPatch patch = new TaskPatch(JsonNullable.of("Patched"), JsonNullable.undefined(),
+                JsonNullable.undefined(), JsonNullable.of(null));
+
+        // When / Then - the stale version matches no row the second time
+        StepVerifier.create(repository.patchReturning(id, patch, updatedAt, 0L))
+                .assertNext(task -> {
+                    assertThat(task.getTitle()).isEqualTo("Patched");
+                    assertThat(task.getDescription()).isEqualTo("Keep me");
+                    assertThat(task.getStatus()).isEqualTo(TaskStatus.TODO);
+                    assertThat(task.getDueDate()).isNull();
+                    assertThat(task.getUpdatedAt()).isEqualTo(updatedAt);
+                    assertThat(task.getVersion()).isEqualTo(1L);
+                })
+                .verifyComplete();
+        StepVerifier.create(repository.patchReturning(id, patch, updatedAt, 0L))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateStatus_shouldBumpVersionOfExistingTasks() {
+        // Given
+        Long id = repository.insert(newTask("Flipping", null, TaskStatus.TODO, null)).block();
+
+        // When / Then
+        StepVerifier.create(repository.updateStatus(List.of(id, -1L), TaskStatus.DONE, Instant.now()))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(repository.findById(id))
+                .assertNext(task -> {
+                    assertThat(task.getStatus()).isEqualTo(TaskStatus.DONE);
+                    assertThat(task.getVersion()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteById_shouldReportDeletedRows() {
+        // Given
+        Long id = repository.insert(newTask("Doomed", null, TaskStatus.TODO, null)).block();
+
+        // When / Then
+        StepVerifier.create(repository.deleteById(id, 3L)).expectNext(0L).verifyComplete();
+        StepVerifier.create(repository.existsById(id)).expectNext(true).verifyComplete();
+        StepVerifier.create(repository.deleteById(id, null)).expectNext(1L).verifyComplete();
+        StepVerifier.create(repository.existsById(id)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void findExistingIdsAndDeleteAllById_shouldWorkOnIdLists() {
+        // Given
+        Long first = repository.insert(newTask("One", null, TaskStatus.TODO, null)).block();
+        Long second = repository.insert(newTask("Two", null, TaskStatus.TODO, null)).block();
+
+        // When / Then
+        StepVerifier.create(repository.findExistingIds(List.of(first, second, -1L)).collectList())
+                .assertNext(ids -> assertThat(ids).containsExactlyInAnyOrder(first, second))
+                .verifyComplete();
+        StepVerifier.create(repository.deleteAllById(List.of(first, second))).expectNext(2L).verifyComplete();
+    }
+
+    @Test
+    void countQueries_shouldAggregateByStatusAndDueDate() {
+        // Given
+        repository.insert(newTask("Overdue", null, TaskStatus.TODO, LocalDate.of(2020, 1, 1))).block();
+        repository.insert(newTask("Future", null, TaskStatus.IN_PROGRESS, LocalDate.of(2999, 1, 1))).block();
+        repository.insert(newTask("Finished", null, TaskStatus.DONE, LocalDate.of(2020, 1, 1))).block();
+
+        // When / Then
+        StepVerifier.create(repository.countByStatus().collectList())
+                .assertNext(counts -> assertThat(counts).containsExactlyInAnyOrder(
+                        new StatusCount(TaskStatus.TODO, 1),
+                        new StatusCount(TaskStatus.IN_PROGRESS, 1),
+                        new StatusCount(TaskStatus.DONE, 1)))
+                .verifyComplete();
+        StepVerifier.create(repository.countByStatusInAndDueDateBefore(
+                        EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), LocalDate.of(2026, 1, 1)))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesFirstAndPage() {
+        // Given
+        Long inDescription = repository.insert(newTask("Other", "Fix the login", TaskStatus.TODO, null)).block();
+        Long inTitle = repository.insert(newTask("Login bug", null, TaskStatus.TODO, null)).block();
+        repository.insert(newTask("Unrelated", null, TaskStatus.TODO, null)).block();
+
+        // When / Then
+        StepVerifier.create(repository.search("login", null, null, 10).map(SearchHit::task).map(Task::getId))
+                .expectNext(inTitle, inDescription)
+                .verifyComplete();
+        StepVerifier.create(repository.search("login", 2.0f, inTitle, 10).map(SearchHit::rank))
+                .expectNext(1.0f)
+                .verifyComplete();
+        StepVerifier.create(repository.search("  ", null, null, 10))
+                .verifyComplete();
+    }
+
+    @Test
+    void findAllOrderById_shouldStreamEveryTask() {
+        Long first = repository.insert(newTask("One", null, TaskStatus.TODO, null)).block();
+        Long second = repository.insert(newTask("Two", null, TaskStatus.TODO, null)).block();
+
+        StepVerifier.create(repository.findAllOrderById().map(Task::getId))
+                .expectNext(first, second)
+                .verifyComplete();
+    }
+
+    @Test
+    void findChangedAfter_shouldSeekByUpdatedAtThenId() {
+        // Given
+        Long first = repository.insert(newTask("One", null, TaskStatus.TODO, null)).block();
+        Long second = repository.insert(newTask("Two", null, TaskStatus.TODO, null)).block();
+        Instant firstUpdatedAt = repository.findById(first).map(Task::getUpdatedAt).block();
+
+        // When / Then
+        StepVerifier.create(repository.findChangedAfter(Instant.EPOCH, 0L, 10).map(Task::getId))
+                .expectNext(first, second)
+                .verifyComplete();
+        StepVerifier.create(repository.findChangedAfter(firstUpdatedAt, first, 10).map(Task::getId))
+                .expectNext(second)
+                .verifyComplete();
+        StepVerifier.create(repository.findChangedAfter(Instant.EPOCH, 0L, 1).map(Task::getId))
+                .expectNext(first)
+                .verifyComplete();
+    }
+
+    @Test
+    void insertTombstones_shouldRecordOnlyExistingTasks() {
+        // Given
+        Long id = repository.insert(newTask("Doomed", null, TaskStatus.TODO, null)).block();
+        Instant deletedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        // When / Then
+        StepVerifier.create(repository.insertTombstones(List.of(id, -1L), deletedAt)).expectNext(1L).verifyComplete();
+        StepVerifier.create(repository.findDeletedAfter(Instant.EPOCH, 0L, 10))
+                .assertNext(tombstone -> {
+                    assertThat(tombstone.getTaskId()).isEqualTo(id);
+                    assertThat(tombstone.getDeletedAt()).isEqualTo(deletedAt);
+                })
+                .verifyComplete();
+        StepVerifier.create(repository.findDeletedAfter(deletedAt, id, 10))
+                .verifyComplete();
+    }
+
+    private static long nextSequenceValue() {
+        return DatabaseClient.create(CONNECTION_FACTORY)
+                .sql(ReactiveTaskRepository.nextIdSql(false))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    private static Task newTask(String title, String description, TaskStatus status, LocalDate dueDate) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        return Task.builder()
+                .title(title)
+                .description(description)
+                .status(status)
+                .dueDate(dueDate)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+}
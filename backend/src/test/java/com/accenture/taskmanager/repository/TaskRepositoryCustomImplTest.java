@@ -0,0 +1,157 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link TaskRepositoryCustomImpl}.
+ *
+ * Execution against H2 is covered by TaskRepositoryTest; these tests check
+ * the SQL variant chosen for each database and, with a mocked
+ * EntityManager, how the PostgreSQL search query is bound.
+ */
+class TaskRepositoryCustomImplTest {
+
+    @Test
+    void updateReturningSql_shouldUseReturningClauseOnPostgreSQL() {
+        // When
+        String sql = TaskRepositoryCustomImpl.updateReturningSql(new PostgreSQLDialect(), false);
+
+        // Then
+        assertThat(sql)
+                .startsWith("UPDATE tasks SET")
+                .contains("version = version + 1")
+                .endsWith("WHERE id = :id RETURNING created_at, version");
+    }
+
+    @Test
+    void updateReturningSql_shouldUseFinalTableOnOtherDatabases() {
+        // When
+        String sql = TaskRepositoryCustomImpl.updateReturningSql(new H2Dialect(), false);
+
+        // Then
+        assertThat(sql)
+                .startsWith("SELECT created_at, version FROM FINAL TABLE (UPDATE tasks SET")
+                .endsWith("WHERE id = :id)");
+    }
+
+    @Test
+    void updateReturningSql_shouldAddVersionPredicateWhenChecked() {
+        // When
+        String sql = TaskRepositoryCustomImpl.updateReturningSql(new PostgreSQLDialect(), true);
+
+        // Then
+        assertThat(sql).endsWith("WHERE id = :id AND version = :expectedVersion RETURNING created_at, version");
+    }
+
+    @Test
+    void patchReturningSql_shouldSetOnlyDefinedColumns() {
+        // Given
+        TaskPatch patch = new TaskPatch(JsonNullable.undefined(), JsonNullable.of(null),
+                JsonNullable.of(TaskStatus.DONE), JsonNullable.undefined());
+
+        // When
+        String postgres = TaskRepositoryCustomImpl.patchReturningSql(true, patch, true);
+        String h2 = TaskRepositoryCustomImpl.patchReturningSql(false, patch, false);
+
+        // Then
+        assertThat(postgres)
+                .startsWith("UPDATE tasks SET description = :description, status = :status, "
+                        + "updated_at = :updatedAt, version = version + 1 WHERE id = :id")
+                .doesNotContain("title =", "due_date =")
+                .endsWith("AND version = :expectedVersion RETURNING id, title, description, status, due_date, "
+                        + "created_at, updated_at, version");
+        assertThat(h2)
+                .startsWith("SELECT id, title, description, status, due_date, created_at, updated_at, version "
+                        + "FROM FINAL TABLE (UPDATE tasks SET description = :description")
+                .endsWith("WHERE id = :id)");
+    }
+
+    @Test
+    void postgresSearchSql_shouldMatchIndexedVectorAndRank() {
+        // When
+        String sql = TaskRepositoryCustomImpl.postgresSearchSql(false);
+
+        // Then
+        assertThat(sql)
+                .contains("ts_rank(t.search_vector, query) AS search_rank")
+                .contains("websearch_to_tsquery('english', :query) query")
+                .contains("WHERE t.search_vector @@ query")
+                .endsWith("ORDER BY search_rank DESC, t.id");
+    }
+
+    @Test
+    void postgresSearchSql_shouldSeekPastLastHit() {
+        // When
+        String sql = TaskRepositoryCustomImpl.postgresSearchSql(true);
+
+        // Then
+        assertThat(sql).contains("AND (ts_rank(t.search_vector, query) < :afterRank "
+                + "OR (ts_rank(t.search_vector, query) = :afterRank AND t.id > :afterId))");
+    }
+
+    @Test
+    void fallbackSearchSql_shouldRequireEveryWord() {
+        // When
+        String sql = TaskRepositoryCustomImpl.fallbackSearchSql(2, false);
+
+        // Then
+        assertThat(sql)
+                .contains("(LOWER(t.title) LIKE :term0 OR LOWER(t.description) LIKE :term0) AND "
+                        + "(LOWER(t.title) LIKE :term1 OR LOWER(t.description) LIKE :term1)")
+                .doesNotContain(":afterRank")
+                .endsWith("ORDER BY search_rank DESC, t.id");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_shouldPassRawQueryToPostgreSQL() {
+        // Given - a PostgreSQL dialect behind a mocked EntityManager
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        JdbcServices jdbcServices = mock(JdbcServices.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getJdbcServices()).thenReturn(jdbcServices);
+        when(jdbcServices.getDialect()).thenReturn(new PostgreSQLDialect());
+
+        Task task = new Task();
+        NativeQuery<Object[]> nativeQuery = mock(NativeQuery.class, Answers.RETURNS_SELF);
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(TaskRepositoryCustomImpl.postgresSearchSql(true))).thenReturn(query);
+        when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+        when(nativeQuery.getResultList()).thenReturn(List.<Object[]>of(new Object[] {task, 0.25f}));
+
+        // When
+        List<SearchHit> hits = new TaskRepositoryCustomImpl(entityManager)
+                .search("\"budget review\" -draft", 0.5f, 7L, 10);
+
+        // Then - websearch_to_tsquery parses the query itself
+        assertThat(hits).containsExactly(new SearchHit(task, 0.25f));
+        verify(nativeQuery).setParameter("query", "\"budget review\" -draft");
+        verify(nativeQuery).setParameter("afterRank", 0.5f);
+        verify(nativeQuery).setParameter("afterId", 7L);
+        verify(nativeQuery).setMaxResults(10);
+    }
+
+}
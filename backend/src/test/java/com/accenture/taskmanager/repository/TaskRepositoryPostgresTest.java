@@ -0,0 +1,110 @@
+package com.accenture.taskmanager.repository;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskRepository's native UPDATE statements against a real PostgreSQL server.
+ *
+ * H2 accepts untyped null parameters; PostgreSQL has to infer their type,
+ * which fails for some expressions. These tests clear the nullable columns
+ * through updateReturning and patchReturning. The schema comes from the
+ * Flyway migrations. Skipped when no Docker daemon is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class TaskRepositoryPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Test
+    void updateReturning_shouldClearNullableColumns() {
+        // Given
+        Task saved = persistTask();
+        Task update = Task.builder()
+                .id(saved.getId())
+                .title("Updated Title")
+                .status(TaskStatus.DONE)
+                .updatedAt(Instant.parse("2030-01-01T00:00:00Z"))
+                .build();
+
+        // When
+        var result = taskRepository.updateReturning(update, saved.getVersion());
+
+        // Then
+        assertThat(result).isPresent();
+        Task reloaded = taskRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getDescription()).isNull();
+        assertThat(reloaded.getDueDate()).isNull();
+        assertThat(reloaded.getVersion()).isEqualTo(saved.getVersion() + 1);
+    }
+
+    @Test
+    void patchReturning_shouldClearNullableColumns() {
+        // Given
+        Task saved = persistTask();
+        TaskPatch patch = new TaskPatch(JsonNullable.undefined(), JsonNullable.of(null),
+                JsonNullable.undefined(), JsonNullable.of(null));
+
+        // When
+        var result = taskRepository.patchReturning(saved.getId(), patch, Instant.now(), saved.getVersion());
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getTitle()).isEqualTo("Task 1");
+        assertThat(result.get().getDescription()).isNull();
+        assertThat(result.get().getDueDate()).isNull();
+        Task reloaded = taskRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getDescription()).isNull();
+        assertThat(reloaded.getDueDate()).isNull();
+    }
+
+    private Task persistTask() {
+        Task saved = entityManager.persistAndFlush(Task.builder()
+                .title("Task 1")
+                .description("Description 1")
+                .status(TaskStatus.TODO)
+                .dueDate(LocalDate.now().plusDays(5))
+                .build());
+        entityManager.clear();
+        return saved;
+    }
+
+}
@@ -2,16 +2,21 @@ package com.accenture.taskmanager.repository;
 
 import com.accenture.taskmanager.model.Task;
 import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -114,6 +119,179 @@ class TaskRepositoryTest {
         assertThat(tasks).hasSize(3);
     }
 
+    @Test
+    void testFindPageSeeksPastCursor() {
+        // Given
+        Task saved1 = entityManager.persist(task1);
+        Task saved2 = entityManager.persist(task2);
+        Task saved3 = entityManager.persist(task3);
+        entityManager.flush();
+
+        // When - first page of two
+        List<Task> firstPage = taskRepository.findPage(TaskFilter.NONE.toSpecification(), TaskSort.ID, 2);
+
+        // Then
+        assertThat(firstPage).extracting(Task::getId).containsExactly(saved1.getId(), saved2.getId());
+
+        // When - seek past the last id of the first page
+        List<Task> secondPage = taskRepository.findPage(
+                TaskSort.ID.after(saved2.getId(), null), TaskSort.ID, 2);
+
+        // Then
+        assertThat(secondPage).extracting(Task::getId).containsExactly(saved3.getId());
+    }
+
+    @Test
+    void testFindPageFiltersByStatusAndDueDateRange() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Task dueSoon = persistTask("Due soon", TaskStatus.TODO, today.plusDays(1));
+        persistTask("Due later", TaskStatus.TODO, today.plusDays(30));
+        persistTask("Overdue", TaskStatus.TODO, today.minusDays(1));
+        persistTask("Undated", TaskStatus.TODO, null);
+        persistTask("Other status", TaskStatus.DONE, today.plusDays(1));
+
+        // When
+        TaskFilter filter = new TaskFilter(TaskStatus.TODO, today.plusDays(7), today);
+        List<Task> tasks = taskRepository.findPage(filter.toSpecification(), TaskSort.ID, 10);
+
+        // Then
+        assertThat(tasks).extracting(Task::getId).containsExactly(dueSoon.getId());
+    }
+
+    @Test
+    void testFindPageSortsByIdDescending() {
+        // Given
+        Task saved1 = entityManager.persist(task1);
+        Task saved2 = entityManager.persist(task2);
+        entityManager.flush();
+
+        // When
+        List<Long> ids = pageThrough(TaskSort.ID_DESC, 1);
+
+        // Then
+        assertThat(ids).containsExactly(saved2.getId(), saved1.getId());
+    }
+
+    @Test
+    void testFindPageSortsByDueDateWithUndatedTasksLast() {
+        // Given - duplicate and missing due dates exercise the id tie-breaker
+        LocalDate today = LocalDate.now();
+        Task undated1 = persistTask("Undated 1", TaskStatus.TODO, null);
+        Task late = persistTask("Late", TaskStatus.TODO, today.plusDays(9));
+        Task early1 = persistTask("Early 1", TaskStatus.TODO, today.plusDays(1));
+        Task undated2 = persistTask("Undated 2", TaskStatus.TODO, null);
+        Task early2 = persistTask("Early 2", TaskStatus.TODO, today.plusDays(1));
+
+        // When - page size 2 puts page boundaries inside ties and inside the nulls
+        List<Long> ascending = pageThrough(TaskSort.DUE_DATE, 2);
+        List<Long> descending = pageThrough(TaskSort.DUE_DATE_DESC, 2);
+
+        // Then
+        assertThat(ascending).containsExactly(
+                early1.getId(), early2.getId(), late.getId(), undated1.getId(), undated2.getId());
+        assertThat(descending).containsExactly(
+                undated2.getId(), undated1.getId(), late.getId(), early2.getId(), early1.getId());
+    }
+
+    @Test
+    void testSearchRanksTitleMatchesFirst() {
+        // Given
+        Task inDescription = persistTask("Weekly sync", "Prepare the budget review", TaskStatus.TODO);
+        Task inTitle = persistTask("Budget review", "Quarterly numbers", TaskStatus.TODO);
+        persistTask("Unrelated", "Nothing to see", TaskStatus.TODO);
+
+        // When
+        List<SearchHit> hits = taskRepository.search("BUDGET", null, null, 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.task().getId())
+                .containsExactly(inTitle.getId(), inDescription.getId());
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+    }
+
+    @Test
+    void testSearchRequiresEveryWord() {
+        // Given
+        Task both = persistTask("Fix login bug", null, TaskStatus.TODO);
+        persistTask("Fix typo", null, TaskStatus.TODO);
+
+        // When
+        List<SearchHit> hits = taskRepository.search(" login, fix!", null, null, 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.task().getId()).containsExactly(both.getId());
+    }
+
+    @Test
+    void testSearchWithoutWordsFindsNothing() {
+        // Given
+        persistTask("Anything", null, TaskStatus.TODO);
+
+        // When / Then
+        assertThat(taskRepository.search("?!", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void testSearchContinuesAfterLastHit() {
+        // Given - equal ranks exercise the id tie-breaker
+        Task first = persistTask("Deploy service", null, TaskStatus.TODO);
+        Task second = persistTask("Deploy worker", null, TaskStatus.TODO);
+        Task third = persistTask("Deploy gateway", null, TaskStatus.TODO);
+
+        // When
+        List<SearchHit> firstPage = taskRepository.search("deploy", null, null, 2);
+        SearchHit last = firstPage.get(1);
+        List<SearchHit> secondPage = taskRepository.search("deploy", last.rank(), last.task().getId(), 2);
+
+        // Then
+        assertThat(firstPage).extracting(hit -> hit.task().getId()).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(hit -> hit.task().getId()).containsExactly(third.getId());
+    }
+
+    @Test
+    void testFindExistingIds() {
+        // Given
+        Task saved1 = entityManager.persist(task1);
+        Task saved2 = entityManager.persist(task2);
+        entityManager.flush();
+
+        // When
+        List<Long> existing = taskRepository.findExistingIds(List.of(saved1.getId(), saved2.getId(), 999_999L));
+
+        // Then
+        assertThat(existing).containsExactlyInAnyOrder(saved1.getId(), saved2.getId());
+    }
+
+    @Test
+    void testSaveAllAssignsSequenceIds() {
+        // When - ids come from the pooled sequence before any INSERT is flushed
+        List<Task> saved = taskRepository.saveAll(List.of(task1, task2, task3));
+
+        // Then
+        assertThat(saved).extracting(Task::getId).doesNotContainNull().doesNotHaveDuplicates();
+        entityManager.flush();
+        assertThat(taskRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void testStreamAllByOrderByIdAsc() {
+        // Given
+        Task saved1 = entityManager.persist(task1);
+        Task saved2 = entityManager.persist(task2);
+        Task saved3 = entityManager.persist(task3);
+        entityManager.flush();
+
+        // When
+        List<Long> ids;
+        try (Stream<Task> stream = taskRepository.streamAllByOrderByIdAsc()) {
+            ids = stream.map(Task::getId).toList();
+        }
+
+        // Then
+        assertThat(ids).containsExactly(saved1.getId(), saved2.getId(), saved3.getId());
+    }
+
     @Test
     void testFindByStatus() {
         // Given
@@ -195,6 +373,40 @@ class TaskRepositoryTest {
         assertThat(overdueTasks).isEmpty();
     }
 
+    @Test
+    void testCountByStatus() {
+        // Given
+        persistTask("A", TaskStatus.TODO, null);
+        persistTask("B", TaskStatus.TODO, null);
+        persistTask("C", TaskStatus.DONE, null);
+
+        // When
+        List<StatusCount> counts = taskRepository.countByStatus();
+
+        // Then - statuses without tasks are absent
+        assertThat(counts).containsExactlyInAnyOrder(
+                new StatusCount(TaskStatus.TODO, 2),
+                new StatusCount(TaskStatus.DONE, 1));
+    }
+
+    @Test
+    void testCountByStatusInAndDueDateBefore() {
+        // Given
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        persistTask("Late", TaskStatus.TODO, today.minusDays(1));
+        persistTask("Late and started", TaskStatus.IN_PROGRESS, today.minusDays(30));
+        persistTask("Late but done", TaskStatus.DONE, today.minusDays(1));
+        persistTask("Due today", TaskStatus.TODO, today);
+        persistTask("No due date", TaskStatus.TODO, null);
+
+        // When
+        long overdue = taskRepository.countByStatusInAndDueDateBefore(
+                List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), today);
+
+        // Then
+        assertThat(overdue).isEqualTo(2);
+    }
+
     @Test
     void testFindByDueDateBetween() {
         // Given
@@ -285,6 +497,184 @@ class TaskRepositoryTest {
         assertThat(taskRepository.findById(saved.getId())).isEmpty();
     }
 
+    @Test
+    void testUpdateReturning() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        Instant createdAt = saved.getCreatedAt();
+        entityManager.clear();
+        Instant updatedAt = Instant.parse("2030-01-01T00:00:00Z");
+        Task update = updateFor(saved.getId(), updatedAt);
+
+        // When
+        var result = taskRepository.updateReturning(update, null);
+
+        // Then - created_at and the bumped version come back from the same statement
+        assertThat(result).isPresent();
+        assertThat(result.get().createdAt().toEpochMilli()).isEqualTo(createdAt.toEpochMilli());
+        assertThat(result.get().version()).isEqualTo(saved.getVersion() + 1);
+        Task reloaded = taskRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Updated Title");
+        assertThat(reloaded.getDescription()).isNull();
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(reloaded.getDueDate()).isNull();
+        assertThat(reloaded.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(reloaded.getVersion()).isEqualTo(result.get().version());
+    }
+
+    @Test
+    void testUpdateReturningNotFound() {
+        // When / Then
+        assertThat(taskRepository.updateReturning(updateFor(999L, Instant.now()), null)).isEmpty();
+    }
+
+    @Test
+    void testUpdateReturningWithExpectedVersion() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        Long version = saved.getVersion();
+        entityManager.clear();
+
+        // When
+        var result = taskRepository.updateReturning(updateFor(saved.getId(), Instant.now()), version);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().version()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void testUpdateReturningWithStaleVersion() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        Long staleVersion = saved.getVersion() - 1;
+        entityManager.clear();
+
+        // When
+        var result = taskRepository.updateReturning(updateFor(saved.getId(), Instant.now()), staleVersion);
+
+        // Then - row untouched
+        assertThat(result).isEmpty();
+        assertThat(taskRepository.findById(saved.getId()).orElseThrow().getTitle()).isEqualTo("Task 1");
+    }
+
+    @Test
+    void testPatchReturning() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        entityManager.clear();
+        Instant updatedAt = Instant.parse("2030-01-01T00:00:00Z");
+        TaskPatch patch = new TaskPatch(JsonNullable.undefined(), JsonNullable.of(null),
+                JsonNullable.of(TaskStatus.DONE), JsonNullable.undefined());
+
+        // When
+        var result = taskRepository.patchReturning(saved.getId(), patch, updatedAt, saved.getVersion());
+
+        // Then - only the patched columns change, the whole row comes back
+        assertThat(result).isPresent();
+        Task patched = result.get();
+        assertThat(patched.getId()).isEqualTo(saved.getId());
+        assertThat(patched.getTitle()).isEqualTo("Task 1");
+        assertThat(patched.getDescription()).isNull();
+        assertThat(patched.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(patched.getDueDate()).isEqualTo(task1.getDueDate());
+        assertThat(patched.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(patched.getVersion()).isEqualTo(saved.getVersion() + 1);
+        Task reloaded = taskRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Task 1");
+        assertThat(reloaded.getDescription()).isNull();
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(reloaded.getVersion()).isEqualTo(patched.getVersion());
+    }
+
+    @Test
+    void testPatchReturningWithStaleVersion() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        entityManager.clear();
+        TaskPatch patch = new TaskPatch(JsonNullable.of("Patched"), JsonNullable.undefined(),
+                JsonNullable.undefined(), JsonNullable.undefined());
+
+        // When
+        var result = taskRepository.patchReturning(saved.getId(), patch, Instant.now(), saved.getVersion() - 1);
+
+        // Then - row untouched
+        assertThat(result).isEmpty();
+        assertThat(taskRepository.patchReturning(999L, patch, Instant.now(), null)).isEmpty();
+        assertThat(taskRepository.findById(saved.getId()).orElseThrow().getTitle()).isEqualTo("Task 1");
+    }
+
+    @Test
+    void testVersionIncrementsOnDirtyCheckingUpdate() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        assertThat(saved.getVersion()).isZero();
+
+        // When
+        saved.setTitle("Changed");
+        entityManager.flush();
+
+        // Then
+        assertThat(saved.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void testDeleteTaskById() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        entityManager.clear();
+
+        // When
+        int deleted = taskRepository.deleteTaskById(saved.getId());
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(taskRepository.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    void testDeleteTaskByIdNotFound() {
+        // When / Then
+        assertThat(taskRepository.deleteTaskById(999L)).isZero();
+    }
+
+    @Test
+    void testDeleteTaskByIdAndVersion() {
+        // Given
+        Task saved = entityManager.persistAndFlush(task1);
+        entityManager.clear();
+
+        // When / Then - stale version deletes nothing, current version deletes the row
+        assertThat(taskRepository.deleteTaskByIdAndVersion(saved.getId(), saved.getVersion() + 1)).isZero();
+        assertThat(taskRepository.deleteTaskByIdAndVersion(saved.getId(), saved.getVersion())).isEqualTo(1);
+        assertThat(taskRepository.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    void testUpdateStatus() {
+        // Given
+        Task first = entityManager.persistAndFlush(task1);
+        Task second = entityManager.persistAndFlush(task2);
+        Task untouched = entityManager.persistAndFlush(task3);
+        entityManager.clear();
+        Instant updatedAt = Instant.parse("2030-01-01T00:00:00Z");
+
+        // When - unknown ids are skipped
+        int updated = taskRepository.updateStatus(List.of(first.getId(), second.getId(), 999L),
+                TaskStatus.DONE, updatedAt);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        Task reloaded = taskRepository.findById(first.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(reloaded.getTitle()).isEqualTo("Task 1");
+        assertThat(reloaded.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(reloaded.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(taskRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(taskRepository.findById(untouched.getId()).orElseThrow().getVersion())
+                .isEqualTo(untouched.getVersion());
+    }
+
     @Test
     void testTimestamps() throws InterruptedException {
         // Given
@@ -307,4 +697,55 @@ class TaskRepositoryTest {
         // Then
         assertThat(updated.getUpdatedAt()).isAfter(updated.getCreatedAt());
     }
+
+    private Task updateFor(Long id, Instant updatedAt) {
+        return Task.builder()
+                .id(id)
+                .title("Updated Title")
+                .description(null)
+                .status(TaskStatus.DONE)
+                .dueDate(null)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private Task persistTask(String title, String description, TaskStatus status) {
+        Task task = entityManager.persist(Task.builder()
+                .title(title)
+                .description(description)
+                .status(status)
+                .build());
+        entityManager.flush();
+        return task;
+    }
+
+    private Task persistTask(String title, TaskStatus status, LocalDate dueDate) {
+        Task task = entityManager.persist(Task.builder()
+                .title(title)
+                .status(status)
+                .dueDate(dueDate)
+                .build());
+        entityManager.flush();
+        return task;
+    }
+
+    /**
+     * Read every task page by page, resuming after the last row like the
+     * service does with its cursor.
+     */
+    private List<Long> pageThrough(TaskSort sort, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        Specification<Task> position = TaskFilter.NONE.toSpecification();
+        List<Task> page;
+        do {
+            page = taskRepository.findPage(position, sort, pageSize);
+            page.forEach(task -> ids.add(task.getId()));
+            if (!page.isEmpty()) {
+                Task last = page.get(page.size() - 1);
+                position = sort.after(last.getId(), last.getDueDate());
+            }
+        } while (page.size() == pageSize);
+        return ids;
+    }
+
 }
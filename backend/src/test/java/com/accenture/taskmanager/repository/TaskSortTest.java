@@ -0,0 +1,39 @@
+package com.accenture.taskmanager.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TaskSort}.
+ *
+ * The generated ORDER BY and keyset predicates are executed against H2 in
+ * TaskRepositoryTest.
+ */
+class TaskSortTest {
+
+    @Test
+    void fromValue_shouldMapApiValues() {
+        assertThat(TaskSort.fromValue("id")).isEqualTo(TaskSort.ID);
+        assertThat(TaskSort.fromValue("-id")).isEqualTo(TaskSort.ID_DESC);
+        assertThat(TaskSort.fromValue("dueDate")).isEqualTo(TaskSort.DUE_DATE);
+        assertThat(TaskSort.fromValue("-dueDate")).isEqualTo(TaskSort.DUE_DATE_DESC);
+    }
+
+    @Test
+    void fromValue_shouldRejectUnknownValue() {
+        assertThatThrownBy(() -> TaskSort.fromValue("title"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown task sort: title");
+    }
+
+    @Test
+    void byDueDate_shouldBeTrueOnlyForDueDateSorts() {
+        assertThat(TaskSort.ID.byDueDate()).isFalse();
+        assertThat(TaskSort.ID_DESC.byDueDate()).isFalse();
+        assertThat(TaskSort.DUE_DATE.byDueDate()).isTrue();
+        assertThat(TaskSort.DUE_DATE_DESC.byDueDate()).isTrue();
+    }
+
+}
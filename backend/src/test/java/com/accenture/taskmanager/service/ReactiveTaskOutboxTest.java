@@ -0,0 +1,89 @@
+package com.accenture.taskmanager.service;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+/**
+ * Tests for ReactiveTaskOutbox.
+ *
+ * Runs against an H2 in-memory database over R2DBC, with the schema from
+ * reactive-schema.sql.
+ *
+ * Tests verify:
+ * - One outbox row is written per task id of a change
+ * - Rows are written in the caller's transaction and roll back with it
+ */
+class ReactiveTaskOutboxTest {
+
+    private static final ConnectionFactory CONNECTION_FACTORY =
+            ConnectionFactories.get("r2dbc:h2:mem:///reactive_outbox;DB_CLOSE_DELAY=-1");
+
+    private DatabaseClient databaseClient;
+
+    private ReactiveTaskOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("reactive-schema.sql"))
+                .populate(CONNECTION_FACTORY)
+                .block();
+        databaseClient = DatabaseClient.create(CONNECTION_FACTORY);
+        outbox = new ReactiveTaskOutbox(databaseClient);
+    }
+
+    @Test
+    void record_shouldWriteOneRowPerTask() {
+        // When / Then
+        StepVerifier.create(outbox.record(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L, 2L, 3L))))
+                .expectNext(3L)
+                .verifyComplete();
+        StepVerifier.create(databaseClient.sql("SELECT task_id FROM task_events "
+                                + "WHERE event_type = 'UPDATED' ORDER BY id")
+                        .map(row -> row.get("task_id", Long.class))
+                        .all()
+                        .collectList())
+                .expectNext(List.of(1L, 2L, 3L))
+                .verifyComplete();
+    }
+
+    @Test
+    void record_shouldSkipEmptyChange() {
+        StepVerifier.create(outbox.record(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of())))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void rolledBackWrite_shouldLeaveNoEvent() {
+        // Given
+        TransactionalOperator transaction = TransactionalOperator.create(
+                new R2dbcTransactionManager(CONNECTION_FACTORY));
+
+        // When
+        Mono<Long> failedWrite = outbox.record(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(1L)))
+                .then(Mono.<Long>error(new IllegalStateException("write failed")))
+                .as(transaction::transactional);
+
+        // Then
+        StepVerifier.create(failedWrite)
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(databaseClient.sql("SELECT COUNT(*) AS events FROM task_events")
+                        .map(row -> row.get("events", Long.class))
+                        .one())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,416 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.InvalidCursorException;
+import com.accenture.taskmanager.exception.TaskNotFoundException;
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.model.TaskTombstone;
+import com.accenture.taskmanager.repository.ReactiveTaskRepository;
+import com.accenture.taskmanager.repository.StatusCount;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskPatch;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.UpdatedRow;
+import com.accenture.taskmanager.repository.TaskSort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.jackson.nullable.JsonNullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Service layer tests for ReactiveTaskService.
+ *
+ * Uses Mockito to mock the R2DBC repository and outbox, and StepVerifier
+ * to check the emitted values and error signals.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceTest {
+
+    @Mock
+    private ReactiveTaskRepository taskRepository;
+
+    @Mock
+    private TaskChangeFeed changeFeed;
+
+    @Mock
+    private ReactiveTaskOutbox outbox;
+
+    @InjectMocks
+    private ReactiveTaskService taskService;
+
+    @Test
+    void getTasks_shouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        Task first = task(1L);
+        Task second = task(2L);
+        when(taskRepository.findPage(TaskFilter.NONE, TaskSort.ID, null, null, 2))
+                .thenReturn(Flux.just(first, second));
+
+        // When / Then
+        StepVerifier.create(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 1))
+                .assertNext(page -> {
+                    assertThat(page.tasks()).containsExactly(first);
+                    assertThat(page.nextCursor()).isEqualTo(TaskCursor.of(first).encode(TaskSort.ID));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getTasks_shouldSeekPastCursorAndEndOnLastPage() {
+        // Given
+        String cursor = new TaskCursor(1L, null).encode(TaskSort.ID);
+        when(taskRepository.findPage(TaskFilter.NONE, TaskSort.ID, 1L, null, 51)).thenReturn(Flux.just(task(2L)));
+
+        // When / Then
+        StepVerifier.create(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, cursor, 50))
+                .assertNext(page -> assertThat(page.nextCursor()).isNull())
+                .verifyComplete();
+    }
+
+    @Test
+    void getTasks_shouldSignalInvalidCursor() {
+        StepVerifier.create(taskService.getTasks(TaskFilter.NONE, TaskSort.ID, "!!!", 50))
+                .expectError(InvalidCursorException.class)
+                .verify();
+    }
+
+    @Test
+    void searchTasks_shouldPageByRankAndId() {
+        // Given
+        Task first = task(1L);
+        when(taskRepository.search("docs", null, null, 2))
+                .thenReturn(Flux.just(new SearchHit(first, 0.5f), new SearchHit(task(2L), 0.25f)));
+
+        // When / Then
+        StepVerifier.create(taskService.searchTasks("docs", null, 1))
+                .assertNext(page -> {
+                    assertThat(page.tasks()).containsExactly(first);
+                    assertThat(page.nextCursor()).isEqualTo(new TaskSearchCursor(0.5f, 1L).encode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchTasks_shouldContinueAfterCursor() {
+        // Given
+        String cursor = new TaskSearchCursor(0.5f, 1L).encode();
+        when(taskRepository.search("docs", 0.5f, 1L, 51)).thenReturn(Flux.empty());
+
+        // When / Then
+        StepVerifier.create(taskService.searchTasks("docs", cursor, 50))
+                .assertNext(page -> {
+                    assertThat(page.tasks()).isEmpty();
+                    assertThat(page.nextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_shouldMergeChangedTasksAndTombstones() {
+        // Given
+        Instant time = Instant.parse("2026-10-17T12:00:00Z");
+        Task changed = task(1L);
+        changed.setUpdatedAt(time);
+        when(taskRepository.findChangedAfter(Instant.EPOCH, 0L, 3)).thenReturn(Flux.just(changed));
+        when(taskRepository.findDeletedAfter(Instant.EPOCH, 0L, 3))
+                .thenReturn(Flux.just(new TaskTombstone(2L, time.plusSeconds(1))));
+
+        // When / Then
+        StepVerifier.create(taskService.getChanges(null, 2))
+                .assertNext(changes -> {
+                    assertThat(changes.tasks()).containsExactly(changed);
+                    assertThat(changes.deletedIds()).containsExactly(2L);
+                    assertThat(changes.hasMore()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_shouldSignalInvalidToken() {
+        StepVerifier.create(taskService.getChanges("not-a-token!", 2))
+                .expectError(InvalidCursorException.class)
+                .verify();
+    }
+
+    @Test
+    void getStats_shouldCombineCounts() {
+        // Given
+        when(taskRepository.countByStatus()).thenReturn(Flux.just(
+                new StatusCount(TaskStatus.TODO, 2), new StatusCount(TaskStatus.DONE, 1)));
+        when(taskRepository.countByStatusInAndDueDateBefore(anyCollection(), any(LocalDate.class)))
+                .thenReturn(Mono.just(1L));
+
+        // When / Then
+        StepVerifier.create(taskService.getStats())
+                .expectNext(new TaskStats(3, 2, 0, 1, 1))
+                .verifyComplete();
+    }
+
+    @Test
+    void exportTasks_shouldStreamRepositoryRows() {
+        when(taskRepository.findAllOrderById()).thenReturn(Flux.just(task(1L), task(2L)));
+
+        StepVerifier.create(taskService.exportTasks().map(Task::getId))
+                .expectNext(1L, 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void getTaskById_shouldSignalNotFound() {
+        when(taskRepository.findById(9L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(taskService.getTaskById(9L))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void createTask_shouldSetTimestampsIdAndVersion() {
+        // Given
+        Task task = Task.builder().title("New").status(TaskStatus.TODO).build();
+        when(taskRepository.insert(task)).thenReturn(Mono.just(51L));
+        when(outbox.record(any())).thenReturn(Mono.just(1L));
+
+        // When / Then
+        StepVerifier.create(taskService.createTask(task))
+                .assertNext(created -> {
+                    assertThat(created.getId()).isEqualTo(51L);
+                    assertThat(created.getVersion()).isZero();
+                    assertThat(created.getCreatedAt()).isNotNull().isEqualTo(created.getUpdatedAt());
+                })
+                .verifyComplete();
+        // No transaction in this test, so the change is published right away
+        verify(outbox).record(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(51L)));
+        verify(changeFeed).publish(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(51L)));
+    }
+
+    @Test
+    void createTasks_shouldInsertInOrder() {
+        // Given
+        Task first = Task.builder().title("First").status(TaskStatus.TODO).build();
+        Task second = Task.builder().title("Second").status(TaskStatus.TODO).build();
+        when(taskRepository.insert(first)).thenReturn(Mono.just(1L));
+        when(taskRepository.insert(second)).thenReturn(Mono.just(51L));
+        when(outbox.record(any())).thenReturn(Mono.just(2L));
+
+        // When / Then
+        StepVerifier.create(taskService.createTasks(List.of(first, second)))
+                .assertNext(created -> assertThat(created).extracting(Task::getId).containsExactly(1L, 51L))
+                .verifyComplete();
+        verify(changeFeed).publish(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(1L, 51L)));
+    }
+
+    @Test
+    void updateTask_shouldReturnTaskWithRowValues() {
+        // Given
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+        Task update = Task.builder().title("Changed").status(TaskStatus.DONE).build();
+        when(taskRepository.updateReturning(update, 2L)).thenReturn(Mono.just(new UpdatedRow(createdAt, 3L)));
+        when(outbox.record(any())).thenReturn(Mono.just(1L));
+
+        // When / Then
+        StepVerifier.create(taskService.updateTask(5L, update, 2L))
+                .assertNext(updated -> {
+                    assertThat(updated.getId()).isEqualTo(5L);
+                    assertThat(updated.getCreatedAt()).isEqualTo(createdAt);
+                    assertThat(updated.getVersion()).isEqualTo(3L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateTask_shouldSignalVersionMismatchWhenTaskExists() {
+        // Given
+        Task update = Task.builder().title("Changed").status(TaskStatus.DONE).build();
+        when(taskRepository.updateReturning(update, 2L)).thenReturn(Mono.empty());
+        when(taskRepository.existsById(5L)).thenReturn(Mono.just(true));
+
+        // When / Then
+        StepVerifier.create(taskService.updateTask(5L, update, 2L))
+                .expectError(TaskVersionMismatchException.class)
+                .verify();
+    }
+
+    @Test
+    void updateTask_shouldSignalNotFoundWhenTaskMissing() {
+        // Given
+        Task update = Task.builder().title("Changed").status(TaskStatus.DONE).build();
+        when(taskRepository.updateReturning(update, 2L)).thenReturn(Mono.empty());
+        when(taskRepository.existsById(5L)).thenReturn(Mono.just(false));
+
+        // When / Then
+        StepVerifier.create(taskService.updateTask(5L, update, 2L))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void patchTask_shouldReturnPatchedRow() {
+        // Given
+        TaskPatch patch = new TaskPatch(JsonNullable.undefined(), JsonNullable.undefined(),
+                JsonNullable.of(TaskStatus.DONE), JsonNullable.of(null));
+        Task patched = task(5L);
+        when(taskRepository.patchReturning(eq(5L), eq(patch), any(Instant.class), isNull()))
+                .thenReturn(Mono.just(patched));
+        when(outbox.record(any())).thenReturn(Mono.just(1L));
+
+        // When / Then
+        StepVerifier.create(taskService.patchTask(5L, patch, null))
+                .expectNext(patched)
+                .verifyComplete();
+        verify(changeFeed).publish(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(5L)));
+    }
+
+    @Test
+    void patchTask_shouldReadButNotWriteEmptyPatch() {
+        // Given
+        when(taskRepository.findById(5L)).thenReturn(Mono.just(task(5L)));
+
+        // When / Then - version 0 matches, version 1 does not
+        StepVerifier.create(taskService.patchTask(5L, TaskPatch.EMPTY, 0L))
+                .assertNext(task -> assertThat(task.getId()).isEqualTo(5L))
+                .verifyComplete();
+        StepVerifier.create(taskService.patchTask(5L, TaskPatch.EMPTY, 1L))
+                .expectError(TaskVersionMismatchException.class)
+                .verify();
+        verify(taskRepository, never()).patchReturning(any(), any(), any(), any());
+        verifyNoInteractions(outbox, changeFeed);
+    }
+
+    @Test
+    void patchTask_shouldSignalVersionMismatchWhenTaskExists() {
+        // Given
+        TaskPatch patch = new TaskPatch(JsonNullable.of("Changed"), JsonNullable.undefined(),
+                JsonNullable.undefined(), JsonNullable.undefined());
+        when(taskRepository.patchReturning(eq(5L), eq(patch), any(Instant.class), eq(2L)))
+                .thenReturn(Mono.empty());
+        when(taskRepository.existsById(5L)).thenReturn(Mono.just(true));
+
+        // When / Then
+        StepVerifier.create(taskService.patchTask(5L, patch, 2L))
+                .expectError(TaskVersionMismatchException.class)
+                .verify();
+    }
+
+    @Test
+    void updateTasks_shouldSignalNotFoundForMissingTask() {
+        // Given
+        Map<Long, Task> updates = new LinkedHashMap<>();
+        updates.put(1L, Task.builder().title("One").status(TaskStatus.TODO).build());
+        when(taskRepository.updateReturning(any(Task.class), isNull())).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(taskService.updateTasks(updates))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    void updateStatus_shouldPublishWhenTaskWasUpdated() {
+        // Given
+        when(taskRepository.updateStatus(eq(List.of(5L)), eq(TaskStatus.DONE), any(Instant.class)))
+                .thenReturn(Mono.just(1L));
+        when(outbox.record(any())).thenReturn(Mono.just(1L));
+
+        // When / Then
+        StepVerifier.create(taskService.updateStatus(5L, TaskStatus.DONE)).verifyComplete();
+        verify(changeFeed).publish(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(5L)));
+    }
+
+    @Test
+    void updateStatus_shouldIgnoreMissingTask() {
+        // Given
+        when(taskRepository.updateStatus(eq(List.of(5L)), eq(TaskStatus.DONE), any(Instant.class)))
+                .thenReturn(Mono.just(0L));
+
+        // When / Then
+        StepVerifier.create(taskService.updateStatus(5L, TaskStatus.DONE)).verifyComplete();
+        verifyNoInteractions(outbox, changeFeed);
+    }
+
+    @Test
+    void deleteTasks_shouldDeleteWhenAllExist() {
+        // Given
+        when(taskRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(Flux.just(1L, 2L));
+        when(taskRepository.insertTombstones(eq(Set.of(1L, 2L)), any(Instant.class))).thenReturn(Mono.just(2L));
+        when(taskRepository.deleteAllById(Set.of(1L, 2L))).thenReturn(Mono.just(2L));
+        when(outbox.record(any())).thenReturn(Mono.just(2L));
+
+        // When / Then
+        StepVerifier.create(taskService.deleteTasks(List.of(1L, 2L, 1L)))
+                .verifyComplete();
+        verify(taskRepository).insertTombstones(eq(Set.of(1L, 2L)), any(Instant.class));
+        verify(changeFeed).publish(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(1L, 2L)));
+    }
+
+    @Test
+    void deleteTasks_shouldSignalNotFoundWithoutDeleting() {
+        // Given
+        when(taskRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(Flux.just(1L));
+
+        // When / Then
+        StepVerifier.create(taskService.deleteTasks(List.of(1L, 2L)))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+        verify(taskRepository, never()).deleteAllById(anyCollection());
+        verify(taskRepository, never()).insertTombstones(anyCollection(), any());
+        verifyNoInteractions(outbox, changeFeed);
+    }
+
+    @Test
+    void deleteTask_shouldRecordTombstoneAndComplete() {
+        when(taskRepository.insertTombstones(eq(List.of(5L)), any(Instant.class))).thenReturn(Mono.just(1L));
+        when(taskRepository.deleteById(5L, null)).thenReturn(Mono.just(1L));
+        when(outbox.record(any())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(taskService.deleteTask(5L, null))
+                .verifyComplete();
+        verify(taskRepository).insertTombstones(eq(List.of(5L)), any(Instant.class));
+        verify(outbox).record(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(5L)));
+    }
+
+    @Test
+    void deleteTask_shouldSignalNotFoundWhenNothingDeleted() {
+        when(taskRepository.insertTombstones(eq(List.of(5L)), any(Instant.class))).thenReturn(Mono.just(0L));
+        when(taskRepository.deleteById(eq(5L), isNull())).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(taskService.deleteTask(5L, null))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+        verifyNoInteractions(outbox, changeFeed);
+    }
+
+    private static Task task(Long id) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .status(TaskStatus.TODO)
+                .version(0L)
+                .build();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.accenture.taskmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Round trip of TaskCacheInvalidationBus through a real PostgreSQL server.
+ *
+ * Simulates two instances sharing one database: a write published on the
+ * first must evict the task from the second instance's cache.
+ * Skipped when no Docker daemon is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TaskCacheInvalidationBusPostgresTest {
+
+    private static final String CHANNEL = "task_cache_invalidation";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private TransactionTemplate transactionTemplate;
+    private TaskCacheInvalidationBus publisher;
+    private TaskCacheInvalidationBus listener;
+    private Cache listenerCache;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        publisher = new TaskCacheInvalidationBus(jdbcTemplate, new ConcurrentMapCacheManager("tasks"),
+                dataSource, CHANNEL, Duration.ofMillis(100), Duration.ofMillis(100));
+
+        ConcurrentMapCacheManager listenerCacheManager = new ConcurrentMapCacheManager("tasks");
+        listenerCache = listenerCacheManager.getCache("tasks");
+        listener = new TaskCacheInvalidationBus(jdbcTemplate, listenerCacheManager,
+                dataSource, CHANNEL, Duration.ofMillis(100), Duration.ofMillis(100));
+        listener.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void committedWrite_shouldEvictTaskOnOtherInstance() {
+        // Given - listener has connected (it clears its cache on connect)
+        listenerCache.put(1L, "stale");
+        await().atMost(Duration.ofSeconds(5)).until(() -> listenerCache.get(1L) == null);
+        listenerCache.put(1L, "stale");
+        listenerCache.put(2L, "fresh");
+
+        // When
+        transactionTemplate.executeWithoutResult(status ->
+                publisher.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L))));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> listenerCache.get(1L) == null);
+        assertThat(listenerCache.get(2L)).isNotNull();
+    }
+
+    @Test
+    void rolledBackWrite_shouldNotEvict() {
+        // Given
+        listenerCache.put(1L, "stale");
+        await().atMost(Duration.ofSeconds(5)).until(() -> listenerCache.get(1L) == null);
+        listenerCache.put(3L, "kept");
+
+        // When - rolled back notification, then a committed one as a marker
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(3L)));
+            status.setRollbackOnly();
+        });
+        listenerCache.put(4L, "marker");
+        transactionTemplate.executeWithoutResult(status ->
+                publisher.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(4L))));
+
+        // Then - the marker arrived, the rolled-back id did not
+        await().atMost(Duration.ofSeconds(5)).until(() -> listenerCache.get(4L) == null);
+        assertThat(listenerCache.get(3L)).isNotNull();
+    }
+
+}
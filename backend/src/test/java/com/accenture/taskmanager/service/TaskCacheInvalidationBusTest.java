@@ -0,0 +1,293 @@
+package com.accenture.taskmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskCacheInvalidationBus.
+ *
+ * Uses mocked JDBC and PostgreSQL driver objects; the round trip through a
+ * real PostgreSQL server is covered by TaskCacheInvalidationBusPostgresTest.
+ *
+ * Tests verify:
+ * - Updates and deletes are published with pg_notify, creates are not
+ * - Payloads are split below the PostgreSQL size limit
+ * - Received ids are evicted from the local cache
+ * - The listener clears the cache on connect and reconnects after failures
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskCacheInvalidationBusTest {
+
+    private static final String CHANNEL = "task_cache_invalidation";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private Statement statement;
+
+    private TaskCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        bus = newBus(Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (bus.isRunning()) {
+            bus.stop();
+        }
+    }
+
+    // ========================================
+    // Publishing
+    // ========================================
+
+    @Test
+    void onTaskChange_shouldNotifyUpdatedAndDeletedIds() throws SQLException {
+        // When
+        bus.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L, 2L)));
+        bus.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(3L)));
+
+        // Then
+        ArgumentCaptor<RowCallbackHandler> handler = ArgumentCaptor.forClass(RowCallbackHandler.class);
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), handler.capture(), eq(CHANNEL), eq("1,2"));
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(RowCallbackHandler.class), eq(CHANNEL), eq("3"));
+        // pg_notify returns void; the row is ignored
+        handler.getValue().processRow(mock(ResultSet.class));
+    }
+
+    @Test
+    void onTaskChange_shouldIgnoreCreatedTasks() {
+        // When
+        bus.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(1L)));
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void payloads_shouldSplitBelowSizeLimit() {
+        // Given - ids whose joined length is far above one payload
+        List<Long> ids = LongStream.rangeClosed(1_000_000_000L, 1_000_002_000L).boxed().toList();
+
+        // When
+        List<String> payloads = TaskCacheInvalidationBus.payloads(ids);
+
+        // Then
+        assertThat(payloads).hasSizeGreaterThan(1)
+                .allMatch(payload -> payload.length() <= TaskCacheInvalidationBus.MAX_PAYLOAD_LENGTH);
+        assertThat(String.join(",", payloads).split(",")).hasSize(ids.size());
+    }
+
+    @Test
+    void payloads_shouldBeEmptyWithoutIds() {
+        assertThat(TaskCacheInvalidationBus.payloads(List.of())).isEmpty();
+    }
+
+    // ========================================
+    // Eviction
+    // ========================================
+
+    @Test
+    void evict_shouldEvictEveryIdAndSkipMalformedOnes() {
+        // When
+        bus.evict("1, 2,abc");
+
+        // Then
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+    }
+
+    @Test
+    void evict_shouldIgnoreMissingCache() {
+        // Given
+        when(cacheManager.getCache("tasks")).thenReturn(null);
+
+        // When / Then - no exception
+        bus.evict("1");
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidChannel() {
+        assertThatThrownBy(() -> new TaskCacheInvalidationBus(jdbcTemplate, cacheManager, dataSource,
+                "tasks; DROP TABLE tasks", Duration.ofSeconds(1), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_shouldBuildListenerConnectionFromDataSourceProperties() {
+        // Given
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:postgresql://localhost:5432/taskmanager");
+        properties.setUsername("taskuser");
+        properties.setPassword("taskpass");
+
+        // When
+        TaskCacheInvalidationBus created = new TaskCacheInvalidationBus(jdbcTemplate, cacheManager, properties,
+                CHANNEL, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        // Then
+        assertThat(created.isRunning()).isFalse();
+    }
+
+    // ========================================
+    // Listening
+    // ========================================
+
+    @Test
+    void listener_shouldListenClearCacheAndEvictNotifiedIds() throws SQLException {
+        // Given
+        PGNotification notification = notification("7,8");
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(pgConnection.getNotifications(anyInt()))
+                .thenReturn(null)
+                .thenReturn(new PGNotification[] {notification})
+                .thenReturn(new PGNotification[0]);
+
+        // When
+        bus.start();
+
+        // Then
+        verify(cache, timeout(2000)).evict(7L);
+        verify(cache, timeout(2000)).evict(8L);
+        verify(statement).execute("LISTEN " + CHANNEL);
+        verify(cache).clear();
+        assertThat(bus.isRunning()).isTrue();
+
+        bus.stop();
+        assertThat(bus.isRunning()).isFalse();
+        verify(connection, timeout(2000)).close();
+    }
+
+    @Test
+    void listener_shouldReconnectAfterFailure() throws SQLException {
+        // Given - first connection attempt fails, second one delivers
+        PGNotification notification = notification("5");
+        when(dataSource.getConnection())
+                .thenThrow(new SQLException("connection refused"))
+                .thenReturn(connection);
+        when(pgConnection.getNotifications(anyInt()))
+                .thenReturn(new PGNotification[] {notification})
+                .thenReturn(new PGNotification[0]);
+
+        // When
+        bus.start();
+
+        // Then
+        verify(cache, timeout(2000)).evict(5L);
+        verify(dataSource, atLeast(2)).getConnection();
+    }
+
+    @Test
+    void listener_shouldTolerateMissingCache() throws SQLException {
+        // Given
+        when(cacheManager.getCache("tasks")).thenReturn(null);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(pgConnection.getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+
+        // When
+        bus.start();
+
+        // Then - keeps polling after connecting
+        verify(pgConnection, timeout(2000).atLeast(2)).getNotifications(anyInt());
+    }
+
+    @Test
+    void stop_shouldInterruptReconnectDelay() throws SQLException {
+        // Given - database unreachable, long reconnect delay
+        bus = newBus(Duration.ofMinutes(5));
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        bus.start();
+        verify(dataSource, timeout(2000)).getConnection();
+
+        // When
+        bus.stop();
+
+        // Then
+        assertThat(bus.isRunning()).isFalse();
+    }
+
+    @Test
+    void stop_shouldPreserveInterruptOfCallingThread() throws SQLException {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(pgConnection.getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+        bus.start();
+
+        // When - the stopping thread is interrupted while waiting for the listener
+        Thread.currentThread().interrupt();
+        bus.stop();
+
+        // Then
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(bus.isRunning()).isFalse();
+    }
+
+    private TaskCacheInvalidationBus newBus(Duration reconnectDelay) {
+        return new TaskCacheInvalidationBus(jdbcTemplate, cacheManager, dataSource, CHANNEL,
+                Duration.ofMillis(10), reconnectDelay);
+    }
+
+    private PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.accenture.taskmanager.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskChangeFeed.
+ *
+ * Tests verify:
+ * - Published changes reach every subscriber as named events
+ * - Idle subscribers receive heartbeat comments
+ * - A subscriber that falls a full buffer behind is disconnected and counted
+ * - Subscribers are tracked in tasks.stream.subscribers
+ */
+class TaskChangeFeedTest {
+
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TaskChangeFeed feed = new TaskChangeFeed(meterRegistry, 2, HEARTBEAT_INTERVAL);
+
+    @Test
+    void subscribe_shouldDeliverPublishedChangesToEverySubscriber() {
+        // Given
+        TaskChangeEvent event = new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L, 2L));
+        feed.publish(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(9L)));
+
+        // When / Then - the change before subscribing is not replayed
+        StepVerifier.create(feed.subscribe().mergeWith(feed.subscribe()))
+                .then(() -> {
+                    assertThat(feed.getSubscriberCount()).isEqualTo(2);
+                    assertThat(meterRegistry.get("tasks.stream.subscribers").gauge().value()).isEqualTo(2);
+                    feed.publish(event);
+                })
+                .assertNext(sse -> {
+                    assertThat(sse.event()).isEqualTo("UPDATED");
+                    assertThat(sse.data()).isEqualTo(event);
+                })
+                .assertNext(sse -> assertThat(sse.data()).isEqualTo(event))
+                .thenCancel()
+                .verify();
+        assertThat(feed.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_shouldSendHeartbeatsWhileIdle() {
+        StepVerifier.withVirtualTime(feed::subscribe)
+                .expectSubscription()
+                .expectNoEvent(HEARTBEAT_INTERVAL.minusSeconds(1))
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(sse -> {
+                    assertThat(sse.comment()).isEqualTo("heartbeat");
+                    assertThat(sse.data()).isNull();
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_shouldDisconnectSubscriberThatFallsBehind() {
+        // Given - a subscriber that requests nothing
+        StepVerifier.create(feed.subscribe(), 0)
+                .expectSubscription()
+
+                // When - more changes than its buffer holds
+                .then(() -> {
+                    for (long id = 1; id <= 10; id++) {
+                        feed.publish(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(id)));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+
+                // Then - it is completed rather than failed
+                .thenConsumeWhile(sse -> true)
+                .verifyComplete();
+        assertThat(meterRegistry.get("tasks.stream.dropped").counter().count()).isEqualTo(1);
+        assertThat(feed.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void publish_shouldIgnoreMissingSubscribers() {
+        feed.publish(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(1L)));
+
+        assertThat(feed.getSubscriberCount()).isZero();
+    }
+
+}
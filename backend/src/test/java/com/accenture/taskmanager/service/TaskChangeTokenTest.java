@@ -0,0 +1,74 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TaskChangeToken}.
+ */
+class TaskChangeTokenTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTripAtMicrosecondPrecision() {
+        // Given
+        TaskChangeToken token = new TaskChangeToken(Instant.parse("2026-10-17T12:00:00.123456Z"), 42L);
+
+        // When / Then
+        assertThat(TaskChangeToken.decode(token.encode())).isEqualTo(token);
+        assertThat(TaskChangeToken.decode(TaskChangeToken.INITIAL.encode())).isEqualTo(TaskChangeToken.INITIAL);
+    }
+
+    @Test
+    void encode_shouldDropNanosecondsAndBeUrlSafe() {
+        // Given
+        TaskChangeToken token = new TaskChangeToken(Instant.parse("2026-10-17T12:00:00.123456789Z"), 1L);
+
+        // When
+        String encoded = token.encode();
+
+        // Then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(TaskChangeToken.decode(encoded).changedAt()).isEqualTo("2026-10-17T12:00:00.123456Z");
+    }
+
+    @Test
+    void compareTo_shouldOrderByTimestampThenId() {
+        // Given
+        Instant time = Instant.parse("2026-10-17T12:00:00Z");
+
+        // When / Then
+        assertThat(new TaskChangeToken(time, 9L)).isLessThan(new TaskChangeToken(time.plusNanos(1000), 1L));
+        assertThat(new TaskChangeToken(time, 1L)).isLessThan(new TaskChangeToken(time, 2L));
+        assertThat(TaskChangeToken.INITIAL).isLessThan(new TaskChangeToken(time, 0L));
+    }
+
+    @Test
+    void decode_shouldRejectInvalidBase64() {
+        assertThatThrownBy(() -> TaskChangeToken.decode("%%%"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_shouldRejectMalformedPayload() {
+        assertThatThrownBy(() -> TaskChangeToken.decode(encodeRaw("123")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TaskChangeToken.decode(encodeRaw("abc:1")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TaskChangeToken.decode(encodeRaw("1:2:3")))
+                .isInstanceOf(InvalidCursorException.class)
+                .extracting(ex -> ((InvalidCursorException) ex).getCursor())
+                .isEqualTo(encodeRaw("1:2:3"));
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
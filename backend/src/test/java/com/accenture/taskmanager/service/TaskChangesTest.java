@@ -0,0 +1,134 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.model.TaskTombstone;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TaskChanges#of}.
+ *
+ * Tests verify:
+ * - Changed tasks and tombstones are merged in (timestamp, id) order
+ * - A page stops at the limit and reports further changes
+ * - No page moves the token past the commit margin, and it never moves
+ * backwards
+ * - A write that commits late within the margin is returned by a later sync
+ */
+class TaskChangesTest {
+
+    private static final Instant T0 = Instant.parse("2026-10-17T12:00:00Z");
+    private static final Instant LONG_AFTER = T0.plusSeconds(3600);
+
+    @Test
+    void of_shouldMergeByTimestampThenId() {
+        // Given
+        List<Task> changed = List.of(task(1L, T0), task(3L, T0.plusSeconds(2)));
+        List<TaskTombstone> tombstones = List.of(new TaskTombstone(2L, T0), new TaskTombstone(4L, T0.plusSeconds(1)));
+
+        // When
+        TaskChanges changes = TaskChanges.of(TaskChangeToken.INITIAL, changed, tombstones, 10, LONG_AFTER);
+
+        // Then
+        assertThat(changes.tasks()).extracting(Task::getId).containsExactly(1L, 3L);
+        assertThat(changes.deletedIds()).containsExactly(2L, 4L);
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(TaskChangeToken.decode(changes.nextToken())).isEqualTo(new TaskChangeToken(T0.plusSeconds(2), 3L));
+    }
+
+    @Test
+    void of_shouldStopAtLimitAndContinueFromLastChange() {
+        // Given - limit + 1 entries were read
+        List<Task> changed = List.of(task(1L, T0), task(2L, T0.plusSeconds(1)), task(5L, T0.plusSeconds(3)));
+        List<TaskTombstone> tombstones = List.of(new TaskTombstone(4L, T0.plusSeconds(2)));
+
+        // When
+        TaskChanges changes = TaskChanges.of(TaskChangeToken.INITIAL, changed, tombstones, 2, LONG_AFTER);
+
+        // Then
+        assertThat(changes.tasks()).extracting(Task::getId).containsExactly(1L, 2L);
+        assertThat(changes.deletedIds()).isEmpty();
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(TaskChangeToken.decode(changes.nextToken())).isEqualTo(new TaskChangeToken(T0.plusSeconds(1), 2L));
+    }
+
+    @Test
+    void of_shouldKeepLastPageTokenBehindCommitMargin() {
+        // Given - the last change is younger than the commit margin
+        Instant now = T0.plusSeconds(1);
+
+        // When
+        TaskChanges changes = TaskChanges.of(TaskChangeToken.INITIAL, List.of(task(1L, T0)), List.of(), 10, now);
+
+        // Then - the next sync returns the change again
+        assertThat(TaskChangeToken.decode(changes.nextToken()))
+                .isEqualTo(new TaskChangeToken(now.minus(TaskChanges.COMMIT_MARGIN), 0L));
+    }
+
+    @Test
+    void of_shouldNotSkipLateCommitWhenPagingWithinCommitMargin() {
+        // Given - three changes younger than the commit margin, read two per page
+        Instant now = T0.plusSeconds(3);
+        List<Task> committed = new ArrayList<>(List.of(
+                task(1L, T0), task(2L, T0.plusSeconds(1)), task(3L, T0.plusSeconds(2))));
+        TaskChanges first = TaskChanges.of(TaskChangeToken.INITIAL,
+                changedAfter(TaskChangeToken.INITIAL, committed, 2), List.of(), 2, now);
+
+        // When - a write stamped between the first two commits only now
+        committed.add(task(4L, T0.plusMillis(500)));
+        TaskChangeToken since = TaskChangeToken.decode(first.nextToken());
+        TaskChanges second = TaskChanges.of(since, changedAfter(since, committed, 10), List.of(), 10, LONG_AFTER);
+
+        // Then - the first page stops at the margin and the next sync picks the write up
+        assertThat(first.tasks()).extracting(Task::getId).containsExactly(1L, 2L);
+        assertThat(first.hasMore()).isFalse();
+        assertThat(since).isEqualTo(new TaskChangeToken(now.minus(TaskChanges.COMMIT_MARGIN), 0L));
+        assertThat(second.tasks()).extracting(Task::getId).containsExactly(1L, 4L, 2L, 3L);
+        assertThat(second.hasMore()).isFalse();
+    }
+
+    @Test
+    void of_shouldNeverMoveTokenBackwards() {
+        // Given - a client that already synced past the commit margin
+        TaskChangeToken since = new TaskChangeToken(T0, 7L);
+
+        // When
+        TaskChanges empty = TaskChanges.of(since, List.of(), List.of(), 10, T0.plusSeconds(1));
+        TaskChanges recent = TaskChanges.of(since, List.of(task(8L, T0)), List.of(), 10, T0.plusSeconds(1));
+
+        // Then
+        assertThat(empty.nextToken()).isEqualTo(since.encode());
+        assertThat(recent.tasks()).hasSize(1);
+        assertThat(recent.nextToken()).isEqualTo(since.encode());
+    }
+
+    /**
+     * What the repository reads: up to limit + 1 tasks after the token, by
+     * (updatedAt, id).
+     */
+    private static List<Task> changedAfter(TaskChangeToken since, List<Task> tasks, int limit) {
+        return tasks.stream()
+                .filter(task -> new TaskChangeToken(task.getUpdatedAt(), task.getId()).compareTo(since) > 0)
+                .sorted(Comparator.comparing(Task::getUpdatedAt).thenComparing(Task::getId))
+                .limit(limit + 1L)
+                .toList();
+    }
+
+    private static Task task(Long id, Instant updatedAt) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .status(TaskStatus.TODO)
+                .createdAt(T0)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.InvalidCursorException;
+import com.accenture.taskmanager.model.Task;
+import com.accenture.taskmanager.repository.TaskSort;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TaskCursor}.
+ */
+class TaskCursorTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTrip() {
+        // Given
+        TaskCursor cursor = new TaskCursor(12345L, null);
+
+        // When
+        TaskCursor decoded = TaskCursor.decode(cursor.encode(TaskSort.ID), TaskSort.ID);
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodeAndDecode_shouldRoundTripDueDatePosition() {
+        // Given
+        TaskCursor dated = new TaskCursor(7L, LocalDate.of(2025, 12, 31));
+        TaskCursor undated = new TaskCursor(8L, null);
+
+        // When / Then
+        assertThat(TaskCursor.decode(dated.encode(TaskSort.DUE_DATE), TaskSort.DUE_DATE)).isEqualTo(dated);
+        assertThat(TaskCursor.decode(undated.encode(TaskSort.DUE_DATE_DESC), TaskSort.DUE_DATE_DESC))
+                .isEqualTo(undated);
+    }
+
+    @Test
+    void encode_shouldOmitDueDateForIdSorts() {
+        // Given
+        TaskCursor cursor = new TaskCursor(5L, LocalDate.of(2025, 1, 1));
+
+        // When
+        TaskCursor decoded = TaskCursor.decode(cursor.encode(TaskSort.ID_DESC), TaskSort.ID_DESC);
+
+        // Then
+        assertThat(decoded).isEqualTo(new TaskCursor(5L, null));
+    }
+
+    @Test
+    void of_shouldTakeSortKeysOfTask() {
+        // Given
+        Task task = Task.builder().id(3L).dueDate(LocalDate.of(2025, 6, 1)).build();
+
+        // When / Then
+        assertThat(TaskCursor.of(task)).isEqualTo(new TaskCursor(3L, LocalDate.of(2025, 6, 1)));
+    }
+
+    @Test
+    void encode_shouldProduceUrlSafeToken() {
+        // When
+        String token = new TaskCursor(Long.MAX_VALUE, LocalDate.MAX).encode(TaskSort.DUE_DATE);
+
+        // Then
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_shouldRejectInvalidBase64() {
+        assertThatThrownBy(() -> TaskCursor.decode("%%%", TaskSort.ID))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("Invalid pagination cursor: %%%");
+    }
+
+    @Test
+    void decode_shouldRejectNonNumericPayload() {
+        // Given - valid Base64 that does not hold an id
+        String token = encodeRaw("abc");
+
+        // When / Then
+        assertThatThrownBy(() -> TaskCursor.decode(token, TaskSort.ID))
+                .isInstanceOf(InvalidCursorException.class)
+                .extracting(ex -> ((InvalidCursorException) ex).getCursor())
+                .isEqualTo(token);
+    }
+
+    @Test
+    void decode_shouldRejectCursorOfOtherSortKey() {
+        // Given
+        String idCursor = new TaskCursor(1L, null).encode(TaskSort.ID);
+        String dueDateCursor = new TaskCursor(1L, null).encode(TaskSort.DUE_DATE);
+
+        // When / Then
+        assertThatThrownBy(() -> TaskCursor.decode(idCursor, TaskSort.DUE_DATE))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TaskCursor.decode(dueDateCursor, TaskSort.ID))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_shouldRejectInvalidDueDate() {
+        assertThatThrownBy(() -> TaskCursor.decode(encodeRaw("1:2025-13-45"), TaskSort.DUE_DATE))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.TaskEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskOutbox and TaskOutboxRelay against a real PostgreSQL server.
+ *
+ * Simulates two replicas sharing one database: while one relay holds a
+ * batch, the other must skip it and relay the next one. Skipped when no
+ * Docker daemon is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TaskOutboxRelayPostgresTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private TaskOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS task_events");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V6__add_task_events_outbox.sql"))
+                .execute(dataSource);
+        outbox = new TaskOutbox(jdbcTemplate);
+    }
+
+    @Test
+    void rolledBackWrite_shouldLeaveNoEvent() {
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outbox.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(1L)));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_events", Long.class)).isZero();
+    }
+
+    @Test
+    void concurrentRelays_shouldDrainDisjointBatches() throws Exception {
+        // Given - three batches of events
+        List<Long> taskIds = LongStream.rangeClosed(1, 3L * BATCH_SIZE).boxed().toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outbox.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, taskIds)));
+
+        List<Long> relayedIds = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        TaskOutboxRelay blocked = relay(events -> {
+            record(relayedIds, events);
+            firstLocked.countDown();
+            await(releaseFirst);
+        });
+        TaskOutboxRelay other = relay(events -> record(relayedIds, events));
+
+        // When - the first relay holds its batch while the other one drains
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(blocked::relayBatch);
+        assertThat(firstLocked.await(5, TimeUnit.SECONDS)).isTrue();
+        int second = other.relayBatch();
+        int third = other.relayBatch();
+        int fourth = other.relayBatch();
+        releaseFirst.countDown();
+
+        // Then - every event relayed exactly once, and the outbox is empty
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(BATCH_SIZE);
+        assertThat(List.of(second, third, fourth)).containsExactly(BATCH_SIZE, BATCH_SIZE, 0);
+        assertThat(relayedIds).containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_events", Long.class)).isZero();
+    }
+
+    private TaskOutboxRelay relay(TaskEventHandler handler) {
+        return new TaskOutboxRelay(jdbcTemplate, transactionManager, handler, BATCH_SIZE, Duration.ofMillis(100));
+    }
+
+    private static void record(List<Long> relayedIds, List<TaskEvent> events) {
+        events.forEach(event -> relayedIds.add(event.getTaskId()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
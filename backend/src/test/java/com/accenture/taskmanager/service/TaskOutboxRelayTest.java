@@ -0,0 +1,140 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.model.TaskEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskOutboxRelay.
+ *
+ * Uses a mocked JdbcTemplate; locking with SKIP LOCKED against a real
+ * PostgreSQL server is covered by TaskOutboxRelayPostgresTest.
+ *
+ * Tests verify:
+ * - A batch is locked, handed to the handler and deleted in one transaction
+ * - A failing handler rolls the batch back instead of deleting it
+ * - The background loop keeps relaying after failures and stops cleanly
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskEventHandler handler;
+
+    private TaskOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        relay = new TaskOutboxRelay(jdbcTemplate, transactionManager, handler, BATCH_SIZE, Duration.ofMillis(10));
+    }
+
+    @Test
+    void relayBatch_shouldHandleThenDeleteLockedEvents() {
+        // Given
+        List<TaskEvent> events = List.of(event(1L), event(2L));
+        whenLocked(events);
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        verify(handler).handle(events);
+        verify(jdbcTemplate).batchUpdate(eq(TaskOutboxRelay.DELETE_SQL), eq(List.of(1L, 2L)), eq(2), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void relayBatch_shouldDoNothingWhenOutboxIsEmpty() {
+        // Given
+        whenLocked(List.of());
+
+        // When / Then
+        assertThat(relay.relayBatch()).isZero();
+        verify(handler, never()).handle(any());
+    }
+
+    @Test
+    void relayBatch_shouldRollBackWhenHandlerFails() {
+        // Given
+        whenLocked(List.of(event(1L)));
+        doThrow(new IllegalStateException("broker down")).when(handler).handle(any());
+
+        // When / Then
+        assertThatThrownBy(() -> relay.relayBatch()).isInstanceOf(IllegalStateException.class);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class), anyInt(), any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void start_shouldKeepRelayingAfterFailures() {
+        // Given - the first round fails, the later ones find an event
+        when(jdbcTemplate.query(eq(TaskOutboxRelay.LOCK_SQL), any(RowMapper.class), eq(BATCH_SIZE)))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(List.of(event(1L)));
+
+        // When
+        relay.start();
+        try {
+            // Then
+            assertThat(relay.isRunning()).isTrue();
+            verify(handler, timeout(5000).atLeast(2)).handle(any());
+        } finally {
+            relay.stop();
+        }
+        assertThat(relay.isRunning()).isFalse();
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveBatchSize() {
+        assertThatThrownBy(() -> new TaskOutboxRelay(jdbcTemplate, transactionManager, handler, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void whenLocked(List<TaskEvent> events) {
+        when(jdbcTemplate.query(eq(TaskOutboxRelay.LOCK_SQL), any(RowMapper.class), eq(BATCH_SIZE)))
+                .thenReturn(events);
+    }
+
+    private static TaskEvent event(Long id) {
+        return new TaskEvent(id, 10L + id, TaskChangeEvent.Type.CREATED, Instant.parse("2026-10-17T12:00:00Z"));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.accenture.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for TaskOutbox.
+ *
+ * Tests verify:
+ * - Every changed task id becomes one outbox row, in a single JDBC batch
+ * - Changes without ids write nothing
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskOutboxTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TaskOutbox outbox;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onTaskChange_shouldInsertOneRowPerTaskInOneBatch() throws Exception {
+        // Given
+        TaskChangeEvent event = new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L, 2L));
+
+        // When
+        outbox.onTaskChange(event);
+
+        // Then
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Long>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(eq(TaskOutbox.INSERT_SQL), eq(List.of(1L, 2L)), eq(2), setter.capture());
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement, 2L);
+        verify(statement).setLong(1, 2L);
+        verify(statement).setString(2, "UPDATED");
+        verify(statement).setObject(eq(3), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void onTaskChange_shouldSkipEmptyChanges() {
+        outbox.onTaskChange(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of()));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+}
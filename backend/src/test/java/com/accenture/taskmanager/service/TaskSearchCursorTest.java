@@ -0,0 +1,52 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TaskSearchCursor}.
+ */
+class TaskSearchCursorTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTripRankExactly() {
+        // Given - a typical ts_rank value
+        TaskSearchCursor cursor = new TaskSearchCursor(0.0607927f, 42L);
+
+        // When
+        TaskSearchCursor decoded = TaskSearchCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_shouldRejectInvalidBase64() {
+        assertThatThrownBy(() -> TaskSearchCursor.decode("%%%"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_shouldRejectMissingRank() {
+        assertThatThrownBy(() -> TaskSearchCursor.decode(encodeRaw("42")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_shouldRejectNonNumericParts() {
+        assertThatThrownBy(() -> TaskSearchCursor.decode(encodeRaw("high:42")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
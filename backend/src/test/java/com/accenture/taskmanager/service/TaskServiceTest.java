@@ -1,23 +1,49 @@
 package com.accenture.taskmanager.service;
 
+import com.accenture.taskmanager.exception.InvalidCursorException;
 import com.accenture.taskmanager.exception.TaskNotFoundException;
+import com.accenture.taskmanager.exception.TaskVersionMismatchException;
 import com.accenture.taskmanager.model.Task;
 import com.accenture.taskmanager.model.TaskStatus;
+import com.accenture.taskmanager.model.TaskTombstone;
+import com.accenture.taskmanager.repository.StatusCount;
+import com.accenture.taskmanager.repository.TaskFilter;
+import com.accenture.taskmanager.repository.TaskPatch;
 import com.accenture.taskmanager.repository.TaskRepository;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.SearchHit;
+import com.accenture.taskmanager.repository.TaskRepositoryCustom.UpdatedRow;
+import com.accenture.taskmanager.repository.TaskSort;
+import com.accenture.taskmanager.repository.TaskTombstoneRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,6 +64,21 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -46,35 +87,207 @@ class TaskServiceTest {
     // ========================================
 
     @Test
-    void getAllTasks_shouldReturnAllTasks() {
-        // Given
+    void getTasks_shouldReturnFirstPageWithNextCursor() {
+        // Given - limit + 1 rows signals another page
         Task task1 = createTask(1L, "Task 1", TaskStatus.TODO);
         Task task2 = createTask(2L, "Task 2", TaskStatus.IN_PROGRESS);
-        List<Task> expectedTasks = Arrays.asList(task1, task2);
+        Task task3 = createTask(3L, "Task 3", TaskStatus.DONE);
+
+        when(taskRepository.findPage(any(), eq(TaskSort.ID), eq(3)))
+                .thenReturn(List.of(task1, task2, task3));
+
+        // When
+        TaskPage page = taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 2);
+
+        // Then
+        assertThat(page.tasks()).containsExactly(task1, task2);
+        assertThat(page.nextCursor()).isEqualTo(new TaskCursor(2L, null).encode(TaskSort.ID));
+        verify(taskRepository).findPage(any(), eq(TaskSort.ID), eq(3));
+    }
+
+    @Test
+    void getTasks_shouldSeekPastCursor() {
+        // Given
+        Task task3 = createTask(3L, "Task 3", TaskStatus.DONE);
+        String cursor = new TaskCursor(2L, null).encode(TaskSort.ID);
+
+        when(taskRepository.findPage(any(), eq(TaskSort.ID), eq(3)))
+                .thenReturn(List.of(task3));
+
+        // When
+        TaskPage page = taskService.getTasks(TaskFilter.NONE, TaskSort.ID, cursor, 2);
+
+        // Then - last page has no next cursor
+        assertThat(page.tasks()).containsExactly(task3);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getTasks_shouldReturnEmptyPageWhenNoTasks() {
+        // Given
+        when(taskRepository.findPage(any(), eq(TaskSort.ID), eq(51))).thenReturn(List.of());
+
+        // When
+        TaskPage page = taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 50);
+
+        // Then
+        assertThat(page.tasks()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getTasks_shouldReturnLastPageWhenExactlyLimitRows() {
+        // Given
+        Task task1 = createTask(1L, "Task 1", TaskStatus.TODO);
+        Task task2 = createTask(2L, "Task 2", TaskStatus.TODO);
+        when(taskRepository.findPage(any(), eq(TaskSort.ID), eq(3)))
+                .thenReturn(List.of(task1, task2));
+
+        // When
+        TaskPage page = taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 2);
 
-        when(taskRepository.findAll()).thenReturn(expectedTasks);
+        // Then
+        assertThat(page.tasks()).containsExactly(task1, task2);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getTasks_shouldEncodeDueDateInCursorWhenSortedByDueDate() {
+        // Given
+        Task task1 = createTask(1L, "Task 1", TaskStatus.TODO);
+        Task task2 = createTask(2L, "Task 2", TaskStatus.TODO);
+        TaskFilter filter = new TaskFilter(TaskStatus.TODO, null, null);
+        when(taskRepository.findPage(any(), eq(TaskSort.DUE_DATE), eq(2)))
+                .thenReturn(List.of(task1, task2));
+
+        // When
+        TaskPage page = taskService.getTasks(filter, TaskSort.DUE_DATE, null, 1);
+
+        // Then - the cursor resumes after task1's due date and id
+        assertThat(TaskCursor.decode(page.nextCursor(), TaskSort.DUE_DATE))
+                .isEqualTo(new TaskCursor(1L, task1.getDueDate()));
+    }
+
+    @Test
+    void searchTasks_shouldReturnFirstPageWithNextCursor() {
+        // Given - limit + 1 hits signals another page
+        Task task1 = createTask(1L, "Budget", TaskStatus.TODO);
+        Task task2 = createTask(2L, "Budget review", TaskStatus.TODO);
+        Task task3 = createTask(3L, "Old budget", TaskStatus.DONE);
+        when(taskRepository.search("budget", null, null, 3)).thenReturn(List.of(
+                new SearchHit(task1, 0.9f), new SearchHit(task2, 0.5f), new SearchHit(task3, 0.1f)));
 
         // When
-        List<Task> actualTasks = taskService.getAllTasks();
+        TaskPage page = taskService.searchTasks("budget", null, 2);
 
         // Then
-        assertThat(actualTasks)
-                .hasSize(2)
-                .containsExactly(task1, task2);
-        verify(taskRepository).findAll();
+        assertThat(page.tasks()).containsExactly(task1, task2);
+        assertThat(page.nextCursor()).isEqualTo(new TaskSearchCursor(0.5f, 2L).encode());
     }
 
     @Test
-    void getAllTasks_shouldReturnEmptyListWhenNoTasks() {
+    void searchTasks_shouldSeekPastCursor() {
         // Given
-        when(taskRepository.findAll()).thenReturn(List.of());
+        Task task3 = createTask(3L, "Old budget", TaskStatus.DONE);
+        String cursor = new TaskSearchCursor(0.5f, 2L).encode();
+        when(taskRepository.search("budget", 0.5f, 2L, 3)).thenReturn(List.of(new SearchHit(task3, 0.1f)));
 
         // When
-        List<Task> actualTasks = taskService.getAllTasks();
+        TaskPage page = taskService.searchTasks("budget", cursor, 2);
+
+        // Then - last page has no next cursor
+        assertThat(page.tasks()).containsExactly(task3);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void exportTasks_shouldStreamEveryTaskAndDetachIt() {
+        // Given
+        Task task1 = createTask(1L, "Task 1", TaskStatus.TODO);
+        Task task2 = createTask(2L, "Task 2", TaskStatus.DONE);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamAllByOrderByIdAsc())
+                .thenReturn(Stream.of(task1, task2).onClose(() -> closed.set(true)));
+        List<Task> exported = new ArrayList<>();
+
+        // When
+        long count = taskService.exportTasks(exported::add);
 
         // Then
-        assertThat(actualTasks).isEmpty();
-        verify(taskRepository).findAll();
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).containsExactly(task1, task2);
+        assertThat(closed).isTrue();
+        verify(entityManager).detach(task1);
+        verify(entityManager).detach(task2);
+    }
+
+    @Test
+    void exportTasks_shouldCloseStreamWhenConsumerFails() {
+        // Given
+        Task task = createTask(1L, "Task 1", TaskStatus.TODO);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamAllByOrderByIdAsc())
+                .thenReturn(Stream.of(task).onClose(() -> closed.set(true)));
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.exportTasks(t -> {
+            throw new IllegalStateException("client disconnected");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void getChanges_shouldMergeChangedTasksAndTombstonesFromTheStart() {
+        // Given
+        Task changed = createTask(1L, "Task 1", TaskStatus.TODO);
+        TaskTombstone tombstone = new TaskTombstone(2L, Instant.parse("2025-10-18T11:00:00Z"));
+        when(taskRepository.findChangedAfter(eq(Instant.EPOCH), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(changed));
+        when(tombstoneRepository.findDeletedAfter(eq(Instant.EPOCH), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(tombstone));
+
+        // When
+        TaskChanges changes = taskService.getChanges(null, 2);
+
+        // Then - limit + 1 of each to detect a further page
+        assertThat(changes.tasks()).containsExactly(changed);
+        assertThat(changes.deletedIds()).containsExactly(2L);
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(TaskChangeToken.decode(changes.nextToken()))
+                .isEqualTo(new TaskChangeToken(tombstone.getDeletedAt(), 2L));
+        verify(taskRepository).findChangedAfter(any(), any(), argThat(limit -> limit.max() == 3));
+        verify(tombstoneRepository).findDeletedAfter(any(), any(), argThat(limit -> limit.max() == 3));
+    }
+
+    @Test
+    void getChanges_shouldSeekPastToken() {
+        // Given
+        TaskChangeToken since = new TaskChangeToken(Instant.parse("2025-10-18T10:00:00Z"), 7L);
+
+        // When
+        TaskChanges changes = taskService.getChanges(since.encode(), 10);
+
+        // Then - no changes: the client keeps its position
+        verify(taskRepository).findChangedAfter(eq(since.changedAt()), eq(7L), any(Limit.class));
+        verify(tombstoneRepository).findDeletedAfter(eq(since.changedAt()), eq(7L), any(Limit.class));
+        assertThat(changes.tasks()).isEmpty();
+        assertThat(changes.nextToken()).isEqualTo(since.encode());
+    }
+
+    @Test
+    void getStats_shouldCombineStatusAndOverdueCounts() {
+        // Given - no task is IN_PROGRESS
+        when(taskRepository.countByStatus()).thenReturn(List.of(
+                new StatusCount(TaskStatus.TODO, 4), new StatusCount(TaskStatus.DONE, 6)));
+        when(taskRepository.countByStatusInAndDueDateBefore(
+                EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS), LocalDate.now(ZoneOffset.UTC)))
+                .thenReturn(3L);
+
+        // When
+        TaskStats stats = taskService.getStats();
+
+        // Then
+        assertThat(stats).isEqualTo(new TaskStats(10, 4, 0, 6, 3));
     }
 
     @Test
@@ -110,43 +323,222 @@ class TaskServiceTest {
         assertThat(actualTask.getTitle()).isEqualTo("New Task");
         assertThat(actualTask.getStatus()).isEqualTo(TaskStatus.TODO);
         verify(taskRepository).save(newTask);
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(1L)));
     }
 
     @Test
     void updateTask_shouldUpdateAndReturnTask() {
         // Given
-        Task existingTask = createTask(1L, "Old Title", TaskStatus.TODO);
         Task updateData = createTask(null, "New Title", TaskStatus.IN_PROGRESS);
         updateData.setDescription("Updated description");
         updateData.setDueDate(LocalDate.of(2025, 12, 31));
+        Instant createdAt = Instant.parse("2025-10-01T08:00:00Z");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.updateReturning(updateData, null))
+                .thenReturn(Optional.of(new UpdatedRow(createdAt, 4L)));
 
         // When
-        Task updatedTask = taskService.updateTask(1L, updateData);
+        Task updatedTask = taskService.updateTask(1L, updateData, null);
 
         // Then
+        assertThat(updatedTask.getId()).isEqualTo(1L);
         assertThat(updatedTask.getTitle()).isEqualTo("New Title");
         assertThat(updatedTask.getDescription()).isEqualTo("Updated description");
         assertThat(updatedTask.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
         assertThat(updatedTask.getDueDate()).isEqualTo(LocalDate.of(2025, 12, 31));
-        verify(taskRepository).findById(1L);
-        verify(taskRepository).save(existingTask);
+        assertThat(updatedTask.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(updatedTask.getUpdatedAt()).isAfter(createdAt);
+        assertThat(updatedTask.getVersion()).isEqualTo(4L);
+        verify(taskRepository).updateReturning(updateData, null);
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L)));
+    }
+
+    @Test
+    void createTasks_shouldSaveAllInOneCall() {
+        // Given
+        Task newTask1 = createTask(null, "Task 1", TaskStatus.TODO);
+        Task newTask2 = createTask(null, "Task 2", TaskStatus.TODO);
+        Task saved1 = createTask(1L, "Task 1", TaskStatus.TODO);
+        Task saved2 = createTask(2L, "Task 2", TaskStatus.TODO);
+        when(taskRepository.saveAll(List.of(newTask1, newTask2))).thenReturn(List.of(saved1, saved2));
+
+        // When
+        List<Task> result = taskService.createTasks(List.of(newTask1, newTask2));
+
+        // Then
+        assertThat(result).containsExactly(saved1, saved2);
+        verify(taskRepository).saveAll(List.of(newTask1, newTask2));
+        verifyNoMoreInteractions(taskRepository);
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, List.of(1L, 2L)));
+    }
+
+    @Test
+    void updateTasks_shouldApplyAllUpdatesInRequestOrder() {
+        // Given
+        Task existing1 = createTask(1L, "Old 1", TaskStatus.TODO);
+        Task existing2 = createTask(2L, "Old 2", TaskStatus.TODO);
+        Task update1 = createTask(null, "New 1", TaskStatus.DONE);
+        update1.setDueDate(null);
+        Task update2 = createTask(null, "New 2", TaskStatus.IN_PROGRESS);
+        Map<Long, Task> updates = new LinkedHashMap<>();
+        updates.put(2L, update2);
+        updates.put(1L, update1);
+
+        when(taskRepository.findAllById(updates.keySet())).thenReturn(List.of(existing1, existing2));
+
+        // When
+        List<Task> result = taskService.updateTasks(updates);
+
+        // Then
+        assertThat(result).containsExactly(existing2, existing1);
+        assertThat(existing1.getTitle()).isEqualTo("New 1");
+        assertThat(existing1.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(existing1.getDueDate()).isNull();
+        assertThat(existing2.getTitle()).isEqualTo("New 2");
+        assertThat(existing2.getDescription()).isEqualTo("Description for New 2");
+        verify(taskRepository).flush();
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void updateTasks_shouldEvictUpdatedIdsFromCache() {
+        // Given
+        Task existing1 = createTask(1L, "Old 1", TaskStatus.TODO);
+        Map<Long, Task> updates = Map.of(1L, createTask(null, "New 1", TaskStatus.DONE));
+        when(taskRepository.findAllById(updates.keySet())).thenReturn(List.of(existing1));
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+
+        // When
+        taskService.updateTasks(updates);
+
+        // Then
+        verify(cache).evict(1L);
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L)));
+    }
+
+    @Test
+    void updateTasks_shouldThrowWhenAnyTaskMissing() {
+        // Given
+        Task existing1 = createTask(1L, "Old 1", TaskStatus.TODO);
+        Map<Long, Task> updates = new LinkedHashMap<>();
+        updates.put(1L, createTask(null, "New 1", TaskStatus.DONE));
+        updates.put(999L, createTask(null, "New 999", TaskStatus.DONE));
+
+        when(taskRepository.findAllById(updates.keySet())).thenReturn(List.of(existing1));
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateTasks(updates))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessageContaining("Task not found with id: 999");
+        verify(taskRepository, never()).flush();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deleteTasks_shouldDeleteDistinctIdsInOneStatement() {
+        // Given
+        when(taskRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+
+        // When
+        taskService.deleteTasks(List.of(1L, 2L, 1L));
+
+        // Then
+        verify(taskRepository).findExistingIds(Set.of(1L, 2L));
+        verify(tombstoneRepository).insertForTasks(eq(Set.of(1L, 2L)), any(Instant.class));
+        verify(taskRepository).deleteAllByIdInBatch(Set.of(1L, 2L));
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void deleteTasks_shouldEvictDeletedIdsFromCache() {
+        // Given
+        when(taskRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+
+        // When
+        taskService.deleteTasks(List.of(1L, 2L));
+
+        // Then
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verifyNoMoreInteractions(cache);
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(1L, 2L)));
+    }
+
+    @Test
+    void deleteTasks_shouldThrowWhenAnyTaskMissing() {
+        // Given
+        when(taskRepository.findExistingIds(Set.of(1L, 999L))).thenReturn(List.of(1L));
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.deleteTasks(List.of(1L, 999L)))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessageContaining("Task not found with id: 999");
+        verify(taskRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void updateStatuses_shouldRunOneUpdatePerStatus() {
+        // Given
+        Map<Long, TaskStatus> statuses = Map.of(1L, TaskStatus.DONE, 2L, TaskStatus.DONE, 3L, TaskStatus.TODO);
+        when(taskRepository.findExistingIds(statuses.keySet())).thenReturn(List.of(1L, 2L, 3L));
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+
+        // When
+        List<Long> updatedIds = taskService.updateStatuses(statuses);
+
+        // Then
+        assertThat(updatedIds).containsExactly(1L, 2L, 3L);
+        verify(taskRepository).updateStatus(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), any(Instant.class));
+        verify(taskRepository).updateStatus(eq(List.of(3L)), eq(TaskStatus.TODO), any(Instant.class));
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(cache).evict(3L);
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void updateStatuses_shouldSkipDeletedTasks() {
+        // Given
+        Map<Long, TaskStatus> statuses = Map.of(1L, TaskStatus.DONE, 999L, TaskStatus.DONE);
+        when(taskRepository.findExistingIds(statuses.keySet())).thenReturn(List.of(1L));
+
+        // When
+        List<Long> updatedIds = taskService.updateStatuses(statuses);
+
+        // Then
+        assertThat(updatedIds).containsExactly(1L);
+        verify(taskRepository).updateStatus(eq(List.of(1L)), eq(TaskStatus.DONE), any(Instant.class));
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L)));
+    }
+
+    @Test
+    void updateStatuses_shouldWriteNothingWhenNoTaskExists() {
+        // Given
+        when(taskRepository.findExistingIds(Set.of(999L))).thenReturn(List.of());
+
+        // When
+        List<Long> updatedIds = taskService.updateStatuses(Map.of(999L, TaskStatus.DONE));
+
+        // Then
+        assertThat(updatedIds).isEmpty();
+        verify(taskRepository, never()).updateStatus(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void deleteTask_shouldDeleteWhenTaskExists() {
         // Given
-        Task task = createTask(1L, "Task to delete", TaskStatus.TODO);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteTaskById(1L)).thenReturn(1);
 
         // When
-        taskService.deleteTask(1L);
+        taskService.deleteTask(1L, null);
 
         // Then
-        verify(taskRepository).findById(1L);
-        verify(taskRepository).delete(task);
+        verify(tombstoneRepository).insertForTasks(eq(List.of(1L)), any(Instant.class));
+        verify(taskRepository).deleteTaskById(1L);
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, List.of(1L)));
     }
 
     // ========================================
@@ -165,31 +557,192 @@ class TaskServiceTest {
         verify(taskRepository).findById(999L);
     }
 
+    @Test
+    void getChanges_shouldRejectMalformedToken() {
+        // When / Then
+        assertThatThrownBy(() -> taskService.getChanges("not-a-token!", 10))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(taskRepository, tombstoneRepository);
+    }
+
+    @Test
+    void getTasks_shouldRejectMalformedCursor() {
+        // When / Then
+        assertThatThrownBy(() -> taskService.getTasks(TaskFilter.NONE, TaskSort.ID, "not-a-cursor!", 10))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("Invalid pagination cursor");
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void updateTask_shouldThrowExceptionWhenTaskNotFound() {
         // Given
         Task updateData = createTask(null, "Updated Title", TaskStatus.DONE);
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.updateReturning(updateData, null)).thenReturn(Optional.empty());
 
         // When / Then
-        assertThatThrownBy(() -> taskService.updateTask(999L, updateData))
+        assertThatThrownBy(() -> taskService.updateTask(999L, updateData, null))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining("Task not found with id: 999");
-        verify(taskRepository).findById(999L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository).updateReturning(updateData, null);
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
     void deleteTask_shouldThrowExceptionWhenTaskNotFound() {
-        // Given
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        // Given - no row affected
+        when(taskRepository.deleteTaskById(999L)).thenReturn(0);
 
         // When / Then
-        assertThatThrownBy(() -> taskService.deleteTask(999L))
+        assertThatThrownBy(() -> taskService.deleteTask(999L, null))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining("Task not found with id: 999");
-        verify(taskRepository).findById(999L);
-        verify(taskRepository, never()).delete(any(Task.class));
+        verify(taskRepository).deleteTaskById(999L);
+        verify(taskRepository, never()).findById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateTask_shouldThrowVersionMismatchWhenTaskChanged() {
+        // Given - conditional update matched no row, but the task exists
+        Task updateData = createTask(null, "Updated Title", TaskStatus.DONE);
+        when(taskRepository.updateReturning(updateData, 3L)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateTask(1L, updateData, 3L))
+                .isInstanceOf(TaskVersionMismatchException.class)
+                .hasMessageContaining("id: 1");
+    }
+
+    @Test
+    void updateTask_shouldThrowNotFoundWhenConditionalTargetMissing() {
+        // Given
+        Task updateData = createTask(null, "Updated Title", TaskStatus.DONE);
+        when(taskRepository.updateReturning(updateData, 3L)).thenReturn(Optional.empty());
+        when(taskRepository.existsById(999L)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateTask(999L, updateData, 3L))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
+
+    @Test
+    void patchTask_shouldWritePatchAndReturnRow() {
+        // Given
+        TaskPatch patch = new TaskPatch(JsonNullable.undefined(), JsonNullable.of(null),
+                JsonNullable.of(TaskStatus.DONE), JsonNullable.undefined());
+        Task patched = createTask(1L, "Title", TaskStatus.DONE);
+        patched.setDescription(null);
+        when(taskRepository.patchReturning(eq(1L), eq(patch), any(Instant.class), eq(3L)))
+                .thenReturn(Optional.of(patched));
+
+        // When
+        Task result = taskService.patchTask(1L, patch, 3L);
+
+        // Then
+        assertThat(result).isSameAs(patched);
+        verify(taskRepository).patchReturning(eq(1L), eq(patch),
+                argThat(updatedAt -> updatedAt.getNano() % 1000 == 0), eq(3L));
+        verify(eventPublisher).publishEvent(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, List.of(1L)));
+    }
+
+    @Test
+    void patchTask_shouldNotWriteEmptyPatch() {
+        // Given
+        Task existing = createTask(1L, "Title", TaskStatus.TODO);
+        existing.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When
+        Task result = taskService.patchTask(1L, TaskPatch.EMPTY, 3L);
+
+        // Then
+        assertThat(result).isSameAs(existing);
+        verify(taskRepository, never()).patchReturning(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchTask_shouldServeEmptyPatchFromCache() {
+        // Given
+        Task cached = createTask(1L, "Title", TaskStatus.TODO);
+        cached.setVersion(3L);
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+        when(cache.get(1L, Task.class)).thenReturn(cached);
+
+        // When
+        Task result = taskService.patchTask(1L, TaskPatch.EMPTY, 3L);
+
+        // Then
+        assertThat(result).isSameAs(cached);
+        verify(taskRepository, never()).findById(any());
+        verify(cache, never()).evict(any());
+    }
+
+    @Test
+    void patchTask_shouldCheckVersionOfEmptyPatch() {
+        // Given
+        Task existing = createTask(1L, "Title", TaskStatus.TODO);
+        existing.setVersion(4L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.patchTask(1L, TaskPatch.EMPTY, 3L))
+                .isInstanceOf(TaskVersionMismatchException.class);
+    }
+
+    @Test
+    void patchTask_shouldThrowVersionMismatchWhenTaskChanged() {
+        // Given
+        TaskPatch patch = new TaskPatch(JsonNullable.of("New"), JsonNullable.undefined(),
+                JsonNullable.undefined(), JsonNullable.undefined());
+        when(taskRepository.patchReturning(eq(1L), eq(patch), any(Instant.class), eq(3L)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.patchTask(1L, patch, 3L))
+                .isInstanceOf(TaskVersionMismatchException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchTask_shouldThrowNotFoundWhenTaskMissing() {
+        // Given
+        TaskPatch patch = new TaskPatch(JsonNullable.of("New"), JsonNullable.undefined(),
+                JsonNullable.undefined(), JsonNullable.undefined());
+        when(taskRepository.patchReturning(eq(999L), eq(patch), any(Instant.class), isNull()))
+                .thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.patchTask(999L, patch, null))
+                .isInstanceOf(TaskNotFoundException.class);
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    void deleteTask_shouldDeleteOnlyExpectedVersion() {
+        // Given
+        when(taskRepository.deleteTaskByIdAndVersion(1L, 3L)).thenReturn(1);
+
+        // When
+        taskService.deleteTask(1L, 3L);
+
+        // Then
+        verify(taskRepository).deleteTaskByIdAndVersion(1L, 3L);
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void deleteTask_shouldThrowVersionMismatchWhenTaskChanged() {
+        // Given
+        when(taskRepository.deleteTaskByIdAndVersion(1L, 3L)).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.deleteTask(1L, 3L))
+                .isInstanceOf(TaskVersionMismatchException.class);
     }
 
     // ========================================
@@ -199,50 +752,44 @@ class TaskServiceTest {
     @Test
     void updateTask_shouldHandleNullDescription() {
         // Given
-        Task existingTask = createTask(1L, "Task", TaskStatus.TODO);
-        existingTask.setDescription("Original description");
-
         Task updateData = createTask(null, "Updated Task", TaskStatus.IN_PROGRESS);
         updateData.setDescription(null);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.updateReturning(updateData, null))
+
+                .thenReturn(Optional.of(new UpdatedRow(Instant.now(), 1L)));
 
         // When
-        Task updatedTask = taskService.updateTask(1L, updateData);
+        Task updatedTask = taskService.updateTask(1L, updateData, null);
 
         // Then
         assertThat(updatedTask.getDescription()).isNull();
-        verify(taskRepository).save(existingTask);
+        verify(taskRepository).updateReturning(updateData, null);
     }
 
     @Test
     void updateTask_shouldHandleNullDueDate() {
         // Given
-        Task existingTask = createTask(1L, "Task", TaskStatus.TODO);
-        existingTask.setDueDate(LocalDate.of(2025, 12, 31));
-
         Task updateData = createTask(null, "Updated Task", TaskStatus.DONE);
         updateData.setDueDate(null);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.updateReturning(updateData, null))
+
+                .thenReturn(Optional.of(new UpdatedRow(Instant.now(), 1L)));
 
         // When
-        Task updatedTask = taskService.updateTask(1L, updateData);
+        Task updatedTask = taskService.updateTask(1L, updateData, null);
 
         // Then
         assertThat(updatedTask.getDueDate()).isNull();
-        verify(taskRepository).save(existingTask);
+        verify(taskRepository).updateReturning(updateData, null);
     }
 
     @Test
     void updateTask_shouldUpdateAllStatusTypes() {
         // Given
-        Task existingTask = createTask(1L, "Task", TaskStatus.TODO);
-
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.updateReturning(any(Task.class), isNull()))
+                .thenReturn(Optional.of(new UpdatedRow(Instant.now(), 1L)));
 
         // Test updating to each status
         for (TaskStatus status : TaskStatus.values()) {
@@ -250,13 +797,13 @@ class TaskServiceTest {
             Task updateData = createTask(null, "Task", status);
 
             // When
-            Task updatedTask = taskService.updateTask(1L, updateData);
+            Task updatedTask = taskService.updateTask(1L, updateData, null);
 
             // Then
             assertThat(updatedTask.getStatus()).isEqualTo(status);
         }
 
-        verify(taskRepository, times(TaskStatus.values().length)).save(existingTask);
+        verify(taskRepository, times(TaskStatus.values().length)).updateReturning(any(Task.class), isNull());
     }
 
     @Test
@@ -297,15 +844,15 @@ class TaskServiceTest {
     // ========================================
 
     @Test
-    void getAllTasks_shouldCallRepositoryOnce() {
+    void getTasks_shouldCallRepositoryOnce() {
         // Given
-        when(taskRepository.findAll()).thenReturn(List.of());
+        when(taskRepository.findPage(any(), eq(TaskSort.ID), eq(11))).thenReturn(List.of());
 
         // When
-        taskService.getAllTasks();
+        taskService.getTasks(TaskFilter.NONE, TaskSort.ID, null, 10);
 
         // Then
-        verify(taskRepository, times(1)).findAll();
+        verify(taskRepository, times(1)).findPage(any(), eq(TaskSort.ID), eq(11));
         verifyNoMoreInteractions(taskRepository);
     }
 
@@ -327,7 +874,7 @@ class TaskServiceTest {
     void createTask_shouldCallSaveOnce() {
         // Given
         Task task = createTask(null, "New Task", TaskStatus.TODO);
-        when(taskRepository.save(task)).thenReturn(task);
+        when(taskRepository.save(task)).thenReturn(createTask(1L, "New Task", TaskStatus.TODO));
 
         // When
         taskService.createTask(task);
@@ -338,35 +885,30 @@ class TaskServiceTest {
     }
 
     @Test
-    void updateTask_shouldCallFindByIdAndSaveOnce() {
+    void updateTask_shouldIssueSingleStatement() {
         // Given
-        Task existingTask = createTask(1L, "Old", TaskStatus.TODO);
         Task updateData = createTask(null, "New", TaskStatus.DONE);
-
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+        when(taskRepository.updateReturning(updateData, null))
+                .thenReturn(Optional.of(new UpdatedRow(Instant.now(), 1L)));
 
         // When
-        taskService.updateTask(1L, updateData);
+        taskService.updateTask(1L, updateData, null);
 
-        // Then
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(existingTask);
+        // Then - no SELECT before the write
+        verify(taskRepository, times(1)).updateReturning(updateData, null);
         verifyNoMoreInteractions(taskRepository);
     }
 
     @Test
-    void deleteTask_shouldCallFindByIdAndDeleteOnce() {
+    void deleteTask_shouldIssueSingleStatement() {
         // Given
-        Task task = createTask(1L, "Task", TaskStatus.TODO);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteTaskById(1L)).thenReturn(1);
 
         // When
-        taskService.deleteTask(1L);
+        taskService.deleteTask(1L, null);
 
-        // Then
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).delete(task);
+        // Then - no SELECT before the write
+        verify(taskRepository, times(1)).deleteTaskById(1L);
         verifyNoMoreInteractions(taskRepository);
     }
 
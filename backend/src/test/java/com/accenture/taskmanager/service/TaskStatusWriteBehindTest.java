@@ -0,0 +1,181 @@
+package com.accenture.taskmanager.service;
+
+import com.accenture.taskmanager.exception.BulkheadFullException;
+import com.accenture.taskmanager.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskStatusWriteBehind.
+ *
+ * Tests verify:
+ * - Changes to the same task are coalesced, the last one wins
+ * - A flush writes every queued change in one call and empties the queue
+ * - A failed flush requeues its changes without overwriting newer ones
+ * - The queue rejects new tasks once full
+ * - The background loop flushes, and stop flushes what is left
+ * - The final flush waits for a periodic flush still in progress
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskStatusWriteBehindTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskStatusWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new TaskStatusWriteBehind(taskService, meterRegistry, Duration.ofHours(1), 2);
+    }
+
+    @Test
+    void enqueue_shouldCoalesceChangesPerTask() {
+        // When
+        writeBehind.enqueue(1L, TaskStatus.IN_PROGRESS);
+        writeBehind.enqueue(1L, TaskStatus.DONE);
+        writeBehind.enqueue(2L, TaskStatus.TODO);
+
+        // Then
+        assertThat(writeBehind.getPendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("tasks.status.pending").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("tasks.status.coalesced").counter().count()).isEqualTo(1);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void flush_shouldWriteLatestStatusesAndEmptyQueue() {
+        // Given
+        writeBehind.enqueue(1L, TaskStatus.IN_PROGRESS);
+        writeBehind.enqueue(1L, TaskStatus.DONE);
+        writeBehind.enqueue(2L, TaskStatus.TODO);
+
+        // When
+        int flushed = writeBehind.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        verify(taskService).updateStatuses(Map.of(1L, TaskStatus.DONE, 2L, TaskStatus.TODO));
+        assertThat(writeBehind.getPendingCount()).isZero();
+        assertThat(writeBehind.flush()).isZero();
+    }
+
+    @Test
+    void flush_shouldRequeueWithoutOverwritingNewerChanges() {
+        // Given - a change for task 1 arrives while the flush fails
+        writeBehind.enqueue(1L, TaskStatus.IN_PROGRESS);
+        writeBehind.enqueue(2L, TaskStatus.TODO);
+        when(taskService.updateStatuses(any())).thenAnswer(invocation -> {
+            writeBehind.enqueue(1L, TaskStatus.DONE);
+            throw new IllegalStateException("database down");
+        });
+
+        // When / Then
+        assertThatThrownBy(() -> writeBehind.flush()).isInstanceOf(IllegalStateException.class);
+
+        doReturn(List.of(1L, 2L)).when(taskService).updateStatuses(any());
+        writeBehind.flush();
+        verify(taskService).updateStatuses(Map.of(1L, TaskStatus.DONE, 2L, TaskStatus.TODO));
+    }
+
+    @Test
+    void enqueue_shouldRejectNewTasksWhenFull() {
+        // Given
+        writeBehind.enqueue(1L, TaskStatus.TODO);
+        writeBehind.enqueue(2L, TaskStatus.TODO);
+
+        // When / Then - queued tasks can still change
+        writeBehind.enqueue(2L, TaskStatus.DONE);
+        assertThatThrownBy(() -> writeBehind.enqueue(3L, TaskStatus.DONE))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(writeBehind.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void start_shouldFlushEveryWindow() {
+        // Given
+        TaskStatusWriteBehind fast = new TaskStatusWriteBehind(taskService, meterRegistry, Duration.ofMillis(10), 10);
+        fast.enqueue(1L, TaskStatus.DONE);
+
+        // When
+        fast.start();
+        try {
+            // Then
+            verify(taskService, timeout(5000)).updateStatuses(Map.of(1L, TaskStatus.DONE));
+            assertThat(fast.isRunning()).isTrue();
+        } finally {
+            fast.stop();
+        }
+    }
+
+    @Test
+    void stop_shouldFlushQueuedChanges() {
+        // Given - the window never elapses
+        writeBehind.start();
+        writeBehind.enqueue(1L, TaskStatus.DONE);
+
+        // When
+        writeBehind.stop();
+
+        // Then
+        assertThat(writeBehind.isRunning()).isFalse();
+        verify(taskService).updateStatuses(Map.of(1L, TaskStatus.DONE));
+        assertThat(writeBehind.getPendingCount()).isZero();
+    }
+
+    @Test
+    void stop_shouldWaitForFlushInProgress() throws Exception {
+        // Given - a periodic flush that outlasts stop's join timeout
+        TaskStatusWriteBehind fast = new TaskStatusWriteBehind(taskService, meterRegistry, Duration.ofMillis(10), 10);
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        when(taskService.updateStatuses(any())).thenAnswer(invocation -> {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            inProgress.decrementAndGet();
+            return List.of();
+        });
+        fast.enqueue(1L, TaskStatus.DONE);
+        fast.start();
+        assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+        fast.enqueue(2L, TaskStatus.TODO);
+
+        // When - stop gives up joining after 100ms and runs the final flush
+        Thread stopper = Thread.ofPlatform().start(fast::stop);
+        Thread.sleep(300);
+        release.countDown();
+        stopper.join(5000);
+
+        // Then
+        assertThat(stopper.isAlive()).isFalse();
+        assertThat(maxInProgress).hasValue(1);
+        verify(taskService).updateStatuses(Map.of(2L, TaskStatus.TODO));
+        assertThat(fast.getPendingCount()).isZero();
+    }
+
+}
@@ -0,0 +1,31 @@
+-- Tasks, tombstones and outbox tables for reactive stack tests on H2 over
+-- R2DBC (the JPA tests get their schema from Hibernate's create-drop instead)
+DROP TABLE IF EXISTS task_events;
+DROP TABLE IF EXISTS task_tombstones;
+DROP TABLE IF EXISTS tasks;
+DROP SEQUENCE IF EXISTS tasks_id_seq;
+
+CREATE SEQUENCE tasks_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description VARCHAR(2000),
+    status VARCHAR(20) NOT NULL,
+    due_date DATE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE task_tombstones (
+    task_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE task_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);